@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm for SPI.
  * 
@@ -43,4 +46,20 @@ public interface EncryptAlgorithm<I, O> extends ShardingSphereAlgorithm, Shardin
      * @return plain value
      */
     I decrypt(O cipherValue);
+    
+    /**
+     * Decode in batch.
+     * 
+     * <p>Algorithms which can decode in batch more efficiently could override it.</p>
+     *
+     * @param cipherValues cipher values
+     * @return plain values in the same order with cipher values
+     */
+    default List<I> decryptInBatch(final List<O> cipherValues) {
+        List<I> result = new ArrayList<>(cipherValues.size());
+        for (O each : cipherValues) {
+            result.add(decrypt(each));
+        }
+        return result;
+    }
 }
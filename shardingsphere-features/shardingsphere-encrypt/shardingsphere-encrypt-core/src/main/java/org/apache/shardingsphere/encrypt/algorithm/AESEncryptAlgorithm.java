@@ -20,21 +20,15 @@ package org.apache.shardingsphere.encrypt.algorithm;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
-import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import javax.xml.bind.DatatypeConverter;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Properties;
@@ -42,20 +36,24 @@ import java.util.Properties;
 /**
  * AES encrypt algorithm.
  */
-@Getter
-@Setter
 @Slf4j
 public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, String> {
     
     private static final String AES_KEY = "aes-key-value";
     
+    @Getter
+    @Setter
     private Properties props = new Properties();
     
-    private byte[] secretKey;
+    private ThreadLocalCipher encryptCipher;
+    
+    private ThreadLocalCipher decryptCipher;
     
     @Override
     public void init() {
-        secretKey = createSecretKey();
+        byte[] secretKey = createSecretKey();
+        encryptCipher = new ThreadLocalCipher(() -> createCipher(Cipher.ENCRYPT_MODE, secretKey));
+        decryptCipher = new ThreadLocalCipher(() -> createCipher(Cipher.DECRYPT_MODE, secretKey));
     }
     
     private byte[] createSecretKey() {
@@ -69,7 +67,7 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
             return null;
         }
         try {
-            byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+            byte[] result = encryptCipher.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
             return DatatypeConverter.printBase64Binary(result);
         } catch (Exception e) {
             log.error("加密异常，plainValue={}", plainValue, e);
@@ -83,7 +81,7 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
             return null;
         }
         try {
-            byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(DatatypeConverter.parseBase64Binary(cipherValue));
+            byte[] result = decryptCipher.doFinal(DatatypeConverter.parseBase64Binary(cipherValue));
             return new String(result, StandardCharsets.UTF_8);
         } catch (Exception e) {
             log.error("解密异常，cipherValue={}", cipherValue, e);
@@ -91,9 +89,9 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return cipherValue;
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+    private Cipher createCipher(final int mode, final byte[] secretKey) throws GeneralSecurityException {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(mode, new SecretKeySpec(secretKey, getType()));
         return result;
     }
     
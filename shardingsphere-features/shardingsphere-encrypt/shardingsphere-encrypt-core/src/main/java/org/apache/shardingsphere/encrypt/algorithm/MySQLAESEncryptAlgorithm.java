@@ -24,12 +24,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import javax.xml.bind.DatatypeConverter;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Properties;
@@ -47,20 +45,24 @@ import java.util.Properties;
  * </pre>
  * end.
  */
-@Getter
-@Setter
 @Slf4j
 public final class MySQLAESEncryptAlgorithm implements EncryptAlgorithm<Object, String> {
 
     private static final String AES_KEY = "aes-key-value";
 
+    @Getter
+    @Setter
     private Properties props = new Properties();
 
-    private byte[] secretKey;
+    private ThreadLocalCipher encryptCipher;
+
+    private ThreadLocalCipher decryptCipher;
 
     @Override
     public void init() {
-        secretKey = createSecretKey();
+        byte[] secretKey = createSecretKey();
+        encryptCipher = new ThreadLocalCipher(() -> createCipher(Cipher.ENCRYPT_MODE, secretKey));
+        decryptCipher = new ThreadLocalCipher(() -> createCipher(Cipher.DECRYPT_MODE, secretKey));
     }
 
     private byte[] createSecretKey() {
@@ -74,8 +76,7 @@ public final class MySQLAESEncryptAlgorithm implements EncryptAlgorithm<Object,
             return null;
         }
         try {
-            Cipher cipher = getCipher(Cipher.ENCRYPT_MODE);
-            byte[] ciphertextBytes = cipher.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+            byte[] ciphertextBytes = encryptCipher.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
             return DatatypeConverter.printBase64Binary(ciphertextBytes);
         } catch (Exception e) {
             log.error("MYSQL-AES加密异常，plainValue={}", plainValue, e);
@@ -89,8 +90,7 @@ public final class MySQLAESEncryptAlgorithm implements EncryptAlgorithm<Object,
             return null;
         }
         try {
-            Cipher cipher = getCipher(Cipher.DECRYPT_MODE);
-            byte[] plainText = cipher.doFinal(DatatypeConverter.parseBase64Binary(cipherValue));
+            byte[] plainText = decryptCipher.doFinal(DatatypeConverter.parseBase64Binary(cipherValue));
             return new String(plainText, StandardCharsets.UTF_8);
         } catch (Exception e) {
             log.error("解密异常，cipherValue={}", cipherValue, e);
@@ -98,10 +98,10 @@ public final class MySQLAESEncryptAlgorithm implements EncryptAlgorithm<Object,
         return cipherValue;
     }
 
-    private Cipher getCipher(int mode) throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException {
-        Cipher cipher = Cipher.getInstance("AES");
-        cipher.init(mode, new SecretKeySpec(secretKey, "AES"));
-        return cipher;
+    private Cipher createCipher(final int mode, final byte[] secretKey) throws GeneralSecurityException {
+        Cipher result = Cipher.getInstance("AES");
+        result.init(mode, new SecretKeySpec(secretKey, "AES"));
+        return result;
     }
 
     @Override
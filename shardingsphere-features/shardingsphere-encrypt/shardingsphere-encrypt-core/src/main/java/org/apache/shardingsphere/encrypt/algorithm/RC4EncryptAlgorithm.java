@@ -25,7 +25,6 @@ import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.Properties;
 
 /**
@@ -39,9 +38,7 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     
     private static final int KEY_MIN_LENGTH = 5;
     
-    private byte[] key = new byte[SBOX_LENGTH - 1];
-    
-    private int[] sBox = new int[SBOX_LENGTH];
+    private int[] initialSBox;
     
     @Getter
     @Setter
@@ -49,8 +46,10 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     
     @Override
     public void init() {
-        reset();
-        setKey(StringUtils.getBytesUtf8(props.getProperty(RC4_KEY)));
+        byte[] key = StringUtils.getBytesUtf8(props.getProperty(RC4_KEY));
+        checkKey(key);
+        // key bytes have always been cleared before key scheduling, keep it for compatibility of existing cipher values
+        initialSBox = initSBox(new byte[key.length]);
     }
     
     @Override
@@ -58,7 +57,7 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         if (null == plainValue) {
             return null;
         }
-        byte[] result = handle(StringUtils.getBytesUtf8(String.valueOf(plainValue)), key);
+        byte[] result = crypt(StringUtils.getBytesUtf8(String.valueOf(plainValue)));
         return Base64.encodeBase64String(result);
     }
     
@@ -67,31 +66,18 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = handle(Base64.decodeBase64(cipherValue), key);
+        byte[] result = crypt(Base64.decodeBase64(cipherValue));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private byte[] handle(final byte[] data, final byte[] key) {
-        reset();
-        setKey(key);
-        byte[] result = crypt(data);
-        reset();
-        return result;
-    }
-    
-    private void reset() {
-        Arrays.fill(key, (byte) 0);
-        Arrays.fill(sBox, 0);
-    }
-    
     /**
-     * Crypt given byte array. Be aware, that you must init key, before using.
+     * Crypt given byte array with a copy of initialized SBOX, so it is thread safe.
      * @param message array to be crypt
      * @return byte array
      * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
      */
     private byte[] crypt(final byte[] message) {
-        sBox = initSBox(key);
+        int[] sBox = initialSBox.clone();
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
@@ -132,16 +118,15 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     }
     
     /**
-     * Set key.
+     * Check key.
      *
-     * @param key key to be setup
+     * @param key key to be checked
      * @throws ShardingSphereException if key length is smaller than 5 or bigger than 255
      */
-    private void setKey(final byte[] key) throws ShardingSphereException {
+    private void checkKey(final byte[] key) throws ShardingSphereException {
         if (!(key.length >= KEY_MIN_LENGTH && key.length < SBOX_LENGTH)) {
             throw new ShardingSphereException("Key length has to be between " + KEY_MIN_LENGTH + " and " + (SBOX_LENGTH - 1));
         }
-        this.key = key;
     }
     
     @Override
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.encrypt.algorithm;
 import com.google.common.base.Preconditions;
 import lombok.Setter;
 import lombok.SneakyThrows;
+import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.binary.StringUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
@@ -28,6 +29,7 @@ import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
 import java.security.Security;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -64,6 +66,10 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     @Setter
     private Properties props;
     
+    private ThreadLocalCipher encryptCipher = new ThreadLocalCipher(() -> createCipher(Cipher.ENCRYPT_MODE));
+    
+    private ThreadLocalCipher decryptCipher = new ThreadLocalCipher(() -> createCipher(Cipher.DECRYPT_MODE));
+    
     @Override
     public String encrypt(final Object plainValue) {
         if (null == plainValue) {
@@ -72,8 +78,9 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return Hex.encodeHexString(encrypt(StringUtils.getBytesUtf8(String.valueOf(plainValue))));
     }
     
+    @SneakyThrows(GeneralSecurityException.class)
     private byte[] encrypt(final byte[] plainValue) {
-        return sm4(plainValue, Cipher.ENCRYPT_MODE);
+        return encryptCipher.doFinal(plainValue);
     }
     
     @SneakyThrows
@@ -85,12 +92,15 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return StringUtils.newStringUtf8(decrypt(Hex.decodeHex(cipherValue.toCharArray())));
     }
     
+    @SneakyThrows(GeneralSecurityException.class)
     private byte[] decrypt(final byte[] cipherValue) {
-        return sm4(cipherValue, Cipher.DECRYPT_MODE);
+        return decryptCipher.doFinal(cipherValue);
     }
     
     @Override
     public void init() {
+        encryptCipher = new ThreadLocalCipher(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = new ThreadLocalCipher(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     @Override
@@ -98,18 +108,18 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return SM4;
     }
 
-    @SneakyThrows
-    private byte[] sm4(final byte[] input, final int mode) {
+    @SneakyThrows(DecoderException.class)
+    private Cipher createCipher(final int mode) throws GeneralSecurityException {
         String modeAndPadding = String.format("SM4/%s/%s", checkAndGetMode(), checkAndGetPadding());
-        Cipher cipher = Cipher.getInstance(modeAndPadding, org.bouncycastle.jce.provider.BouncyCastleProvider.PROVIDER_NAME);
+        Cipher result = Cipher.getInstance(modeAndPadding, org.bouncycastle.jce.provider.BouncyCastleProvider.PROVIDER_NAME);
         SecretKeySpec secretKeySpec = new SecretKeySpec(Hex.decodeHex(checkAndGetKey().toCharArray()), SM4);
         String iv = checkAndGetIv(modeAndPadding);
         if (null != iv) {
-            cipher.init(mode, secretKeySpec, new IvParameterSpec(Hex.decodeHex(iv.toCharArray())));
+            result.init(mode, secretKeySpec, new IvParameterSpec(Hex.decodeHex(iv.toCharArray())));
         } else {
-            cipher.init(mode, secretKeySpec);
+            result.init(mode, secretKeySpec);
         }
-        return cipher.doFinal(input);
+        return result;
     }
     
     private String checkAndGetKey() throws ShardingSphereException {
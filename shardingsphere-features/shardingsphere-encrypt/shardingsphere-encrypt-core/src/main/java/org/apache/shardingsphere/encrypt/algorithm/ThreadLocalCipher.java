@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm;
+
+import lombok.SneakyThrows;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+
+/**
+ * Thread local cipher, which creates and initializes cipher once for each thread.
+ */
+final class ThreadLocalCipher {
+    
+    private final ThreadLocal<Cipher> ciphers;
+    
+    ThreadLocalCipher(final CipherCreator cipherCreator) {
+        ciphers = ThreadLocal.withInitial(() -> create(cipherCreator));
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private static Cipher create(final CipherCreator cipherCreator) {
+        return cipherCreator.create();
+    }
+    
+    /**
+     * Encrypt or decrypt data with cipher of current thread.
+     *
+     * @param input input data
+     * @return output data
+     * @throws GeneralSecurityException general security exception
+     */
+    byte[] doFinal(final byte[] input) throws GeneralSecurityException {
+        try {
+            return ciphers.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            ciphers.remove();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Cipher creator.
+     */
+    @FunctionalInterface
+    interface CipherCreator {
+        
+        /**
+         * Create initialized cipher.
+         *
+         * @return initialized cipher
+         * @throws GeneralSecurityException general security exception
+         */
+        Cipher create() throws GeneralSecurityException;
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptValueCache;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ColumnProjection;
@@ -74,6 +75,31 @@ public final class EncryptAlgorithmMetaData {
         return Optional.empty();
     }
     
+    /**
+     * Find value cache.
+     *
+     * @param columnIndex column index
+     * @return value cache
+     */
+    public Optional<EncryptValueCache> findValueCache(final int columnIndex) {
+        Optional<ColumnProjection> columnProjection = findColumnProjection(columnIndex);
+        if (!columnProjection.isPresent()) {
+            return Optional.empty();
+        }
+        Map<String, String> columnTableNames = selectStatementContext.getTablesContext().findTableName(Collections.singletonList(columnProjection.get()), schema);
+        Optional<String> tableName = Optional.ofNullable(columnTableNames.get(columnProjection.get().getExpression()));
+        String columnName = columnProjection.get().getName();
+        if (tableName.isPresent()) {
+            return encryptRule.findValueCache(tableName.get(), columnName);
+        }
+        for (String each : selectStatementContext.getTablesContext().getTableNames()) {
+            if (encryptRule.findEncryptor(each, columnName).isPresent()) {
+                return encryptRule.findValueCache(each, columnName);
+            }
+        }
+        return Optional.empty();
+    }
+    
     /**
      * Judge whether table is support QueryWithCipherColumn or not.
      *
@@ -18,55 +18,160 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.rule.EncryptValueCache;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ * 
+ * <p>
+ * Encryptors are resolved once for each column.
+ * Cipher columns which have been read are decrypted together for each row, and decrypted in batch if they use same encryptor.
+ * Plain values are looked up from value cache first if value cache of encrypt column is configured.
+ * </p>
  */
 @RequiredArgsConstructor
+@SuppressWarnings("rawtypes")
 public final class EncryptMergedResult implements MergedResult {
     
     private final EncryptAlgorithmMetaData metaData;
     
     private final MergedResult mergedResult;
     
+    private final Map<Integer, Optional<EncryptAlgorithm>> encryptors = new HashMap<>();
+    
+    private final Map<EncryptAlgorithm, Collection<Integer>> cipherColumns = new LinkedHashMap<>();
+    
+    private final Map<Integer, Optional<EncryptValueCache>> valueCaches = new HashMap<>();
+    
+    private final Map<Integer, Object> decryptedValues = new HashMap<>();
+    
+    private boolean rowDecrypted;
+    
+    private boolean cipherValueRead;
+    
+    private boolean cipherValueNull;
+    
     @Override
     public boolean next() throws SQLException {
+        decryptedValues.clear();
+        rowDecrypted = false;
+        cipherValueRead = false;
         return mergedResult.next();
     }
     
-    @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        if (!metaData.isQueryWithCipherColumn(columnIndex)) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(columnIndex);
+        Optional<EncryptAlgorithm> encryptAlgorithm = encryptors.computeIfAbsent(columnIndex, this::findEncryptor);
         if (!encryptAlgorithm.isPresent()) {
+            cipherValueRead = false;
             return mergedResult.getValue(columnIndex, type);
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == cipherValue ? null : encryptAlgorithm.get().decrypt(cipherValue);
+        if (!rowDecrypted) {
+            decryptCipherColumns();
+            rowDecrypted = true;
+        }
+        Object result;
+        if (decryptedValues.containsKey(columnIndex)) {
+            result = decryptedValues.get(columnIndex);
+        } else {
+            valueCaches.computeIfAbsent(columnIndex, metaData::findValueCache);
+            result = decrypt(columnIndex, encryptAlgorithm.get(), mergedResult.getValue(columnIndex, Object.class));
+            decryptedValues.put(columnIndex, result);
+            cipherColumns.computeIfAbsent(encryptAlgorithm.get(), key -> new LinkedList<>()).add(columnIndex);
+        }
+        cipherValueRead = true;
+        cipherValueNull = null == result;
+        return result;
+    }
+    
+    private Optional<EncryptAlgorithm> findEncryptor(final int columnIndex) {
+        return metaData.isQueryWithCipherColumn(columnIndex) ? metaData.findEncryptor(columnIndex) : Optional.empty();
+    }
+    
+    private Object decrypt(final int columnIndex, final EncryptAlgorithm encryptAlgorithm, final Object cipherValue) {
+        if (null == cipherValue) {
+            return null;
+        }
+        Optional<EncryptValueCache> valueCache = valueCaches.get(columnIndex);
+        Optional<Object> cachedPlainValue = valueCache.flatMap(optional -> optional.findPlainValue(cipherValue));
+        if (cachedPlainValue.isPresent()) {
+            return cachedPlainValue.get();
+        }
+        Object result = decrypt(encryptAlgorithm, cipherValue);
+        valueCache.ifPresent(optional -> optional.putPlainValue(cipherValue, result));
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Object decrypt(final EncryptAlgorithm encryptAlgorithm, final Object cipherValue) {
+        return encryptAlgorithm.decrypt(cipherValue);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void decryptCipherColumns() throws SQLException {
+        for (Entry<EncryptAlgorithm, Collection<Integer>> entry : cipherColumns.entrySet()) {
+            List<Integer> columnIndexes = new ArrayList<>(entry.getValue().size());
+            List<Object> cipherValues = new ArrayList<>(entry.getValue().size());
+            for (int each : entry.getValue()) {
+                Object cipherValue = mergedResult.getValue(each, Object.class);
+                Optional<Object> cachedPlainValue = null == cipherValue ? Optional.empty() : valueCaches.get(each).flatMap(optional -> optional.findPlainValue(cipherValue));
+                if (null == cipherValue || cachedPlainValue.isPresent()) {
+                    decryptedValues.put(each, cachedPlainValue.orElse(null));
+                } else {
+                    columnIndexes.add(each);
+                    cipherValues.add(cipherValue);
+                }
+            }
+            if (1 == cipherValues.size()) {
+                putDecryptedValue(columnIndexes.get(0), cipherValues.get(0), decrypt(entry.getKey(), cipherValues.get(0)));
+            } else if (!cipherValues.isEmpty()) {
+                List<Object> plainValues = entry.getKey().decryptInBatch(cipherValues);
+                for (int i = 0; i < columnIndexes.size(); i++) {
+                    putDecryptedValue(columnIndexes.get(i), cipherValues.get(i), plainValues.get(i));
+                }
+            }
+        }
+    }
+    
+    private void putDecryptedValue(final int columnIndex, final Object cipherValue, final Object plainValue) {
+        decryptedValues.put(columnIndex, plainValue);
+        valueCaches.get(columnIndex).ifPresent(optional -> optional.putPlainValue(cipherValue, plainValue));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        cipherValueRead = false;
         return mergedResult.getCalendarValue(columnIndex, type, calendar);
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        cipherValueRead = false;
         return mergedResult.getInputStream(columnIndex, type);
     }
     
     @Override
     public boolean wasNull() throws SQLException {
-        return mergedResult.wasNull();
+        return cipherValueRead ? cipherValueNull : mergedResult.wasNull();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
     }
 }
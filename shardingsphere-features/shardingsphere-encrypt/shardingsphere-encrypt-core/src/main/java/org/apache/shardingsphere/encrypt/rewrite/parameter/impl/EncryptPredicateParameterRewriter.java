@@ -67,7 +67,7 @@ public final class EncryptPredicateParameterRewriter extends EncryptParameterRew
         String columnName = encryptCondition.getColumnName();
         List<Object> result = getEncryptRule().findAssistedQueryColumn(tableName, columnName).isPresent()
                 ? getEncryptRule().getEncryptAssistedQueryValues(schemaName, tableName, columnName, originalValues) 
-                        : getEncryptRule().getEncryptValues(schemaName, tableName, columnName, originalValues);
+                        : getEncryptRule().getEncryptPredicateValues(schemaName, tableName, columnName, originalValues);
         checkSortable(encryptCondition, result);
         return result;
     }
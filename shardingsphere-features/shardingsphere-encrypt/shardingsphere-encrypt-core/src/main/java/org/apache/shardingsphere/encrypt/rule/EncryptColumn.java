@@ -38,6 +38,12 @@ public final class EncryptColumn {
     
     private final String encryptorName;
     
+    private final EncryptValueCache valueCache;
+    
+    public EncryptColumn(final String cipherColumn, final String assistedQueryColumn, final String plainColumn, final String encryptorName) {
+        this(cipherColumn, assistedQueryColumn, plainColumn, encryptorName, null);
+    }
+    
     /**
      * Get assisted query column.
      * 
@@ -55,4 +61,13 @@ public final class EncryptColumn {
     public Optional<String> getPlainColumn() {
         return Strings.isNullOrEmpty(plainColumn) ? Optional.empty() : Optional.of(plainColumn);
     }
+    
+    /**
+     * Get value cache.
+     *
+     * @return value cache
+     */
+    public Optional<EncryptValueCache> getValueCache() {
+        return Optional.ofNullable(valueCache);
+    }
 }
@@ -34,6 +34,7 @@ import org.apache.shardingsphere.infra.rule.identifier.scope.SchemaRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -180,6 +181,50 @@ public final class EncryptRule implements SchemaRule, TableContainedRule {
         return originalValues.stream().map(input -> null == input ? null : encryptor.get().encrypt(input)).collect(Collectors.toList());
     }
     
+    /**
+     * Get encrypt values of predicate.
+     * 
+     * <p>Cipher values are cached by plain values if value cache of encrypt column is configured.</p>
+     *
+     * @param schemaName schema name
+     * @param logicTable logic table
+     * @param logicColumn logic column
+     * @param originalValues original values
+     * @return encrypt values
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public List<Object> getEncryptPredicateValues(final String schemaName, final String logicTable, final String logicColumn, final List<Object> originalValues) {
+        Optional<EncryptValueCache> valueCache = findValueCache(logicTable, logicColumn);
+        if (!valueCache.isPresent()) {
+            return getEncryptValues(schemaName, logicTable, logicColumn, originalValues);
+        }
+        Optional<EncryptAlgorithm> encryptor = findEncryptor(schemaName, logicTable, logicColumn);
+        Preconditions.checkArgument(encryptor.isPresent(), "Can not find EncryptAlgorithm by %s.%s.", logicTable, logicColumn);
+        List<Object> result = new ArrayList<>(originalValues.size());
+        for (Object each : originalValues) {
+            Optional<Object> cipherValue = valueCache.get().findCipherValue(each);
+            if (cipherValue.isPresent()) {
+                result.add(cipherValue.get());
+            } else {
+                Object encryptValue = null == each ? null : encryptor.get().encrypt(each);
+                valueCache.get().putCipherValue(each, encryptValue);
+                result.add(encryptValue);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Find value cache.
+     *
+     * @param logicTable logic table name
+     * @param logicColumn logic column name
+     * @return value cache
+     */
+    public Optional<EncryptValueCache> findValueCache(final String logicTable, final String logicColumn) {
+        return tables.containsKey(logicTable) ? tables.get(logicTable).findValueCache(logicColumn) : Optional.empty();
+    }
+    
     /**
      * Get cipher column.
      *
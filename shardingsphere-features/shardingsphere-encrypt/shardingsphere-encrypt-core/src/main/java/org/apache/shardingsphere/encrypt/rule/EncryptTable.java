@@ -41,11 +41,15 @@ public final class EncryptTable {
     public EncryptTable(final EncryptTableRuleConfiguration config) {
         columns = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         for (EncryptColumnRuleConfiguration each : config.getColumns()) {
-            columns.put(each.getLogicColumn(), new EncryptColumn(each.getCipherColumn(), each.getAssistedQueryColumn(), each.getPlainColumn(), each.getEncryptorName()));
+            columns.put(each.getLogicColumn(), new EncryptColumn(each.getCipherColumn(), each.getAssistedQueryColumn(), each.getPlainColumn(), each.getEncryptorName(), createValueCache(each)));
         }
         queryWithCipherColumn = config.getQueryWithCipherColumn();
     }
     
+    private EncryptValueCache createValueCache(final EncryptColumnRuleConfiguration config) {
+        return null == config.getValueCacheSize() || config.getValueCacheSize() <= 0 ? null : new EncryptValueCache(config.getValueCacheSize());
+    }
+    
     /**
      * Find encrypt algorithm name.
      *
@@ -150,6 +154,16 @@ public final class EncryptTable {
         return columns.containsKey(logicColumn) ? columns.get(logicColumn).getPlainColumn() : Optional.empty();
     }
     
+    /**
+     * Find value cache.
+     *
+     * @param logicColumn logic column name
+     * @return value cache
+     */
+    public Optional<EncryptValueCache> findValueCache(final String logicColumn) {
+        return columns.containsKey(logicColumn) ? columns.get(logicColumn).getValueCache() : Optional.empty();
+    }
+    
     /**
      * Get logic and cipher columns.
      *
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Optional;
+
+/**
+ * Encrypt value cache of encrypt column.
+ * 
+ * <p>
+ * Plain values are cached by cipher values for decryption, and cipher values are cached by plain values for deterministic encryption of predicates.
+ * Both caches are bounded by maximum size, it is suitable for columns with low cardinality.
+ * </p>
+ */
+public final class EncryptValueCache {
+    
+    private final Cache<Object, Object> plainValues;
+    
+    private final Cache<Object, Object> cipherValues;
+    
+    public EncryptValueCache(final long maximumSize) {
+        plainValues = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        cipherValues = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Find plain value.
+     * 
+     * @param cipherValue cipher value
+     * @return plain value
+     */
+    public Optional<Object> findPlainValue(final Object cipherValue) {
+        return isCacheable(cipherValue) ? Optional.ofNullable(plainValues.getIfPresent(cipherValue)) : Optional.empty();
+    }
+    
+    /**
+     * Put plain value.
+     * 
+     * @param cipherValue cipher value
+     * @param plainValue plain value
+     */
+    public void putPlainValue(final Object cipherValue, final Object plainValue) {
+        if (isCacheable(cipherValue) && null != plainValue) {
+            plainValues.put(cipherValue, plainValue);
+        }
+    }
+    
+    /**
+     * Find cipher value.
+     * 
+     * @param plainValue plain value
+     * @return cipher value
+     */
+    public Optional<Object> findCipherValue(final Object plainValue) {
+        return isCacheable(plainValue) ? Optional.ofNullable(cipherValues.getIfPresent(plainValue)) : Optional.empty();
+    }
+    
+    /**
+     * Put cipher value.
+     * 
+     * @param plainValue plain value
+     * @param cipherValue cipher value
+     */
+    public void putCipherValue(final Object plainValue, final Object cipherValue) {
+        if (isCacheable(plainValue) && null != cipherValue) {
+            cipherValues.put(plainValue, cipherValue);
+        }
+    }
+    
+    private boolean isCacheable(final Object key) {
+        return null != key && !key.getClass().isArray();
+    }
+    
+    /**
+     * Get hit count of decryption.
+     * 
+     * @return hit count of decryption
+     */
+    public long getDecryptHitCount() {
+        return plainValues.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count of decryption.
+     * 
+     * @return miss count of decryption
+     */
+    public long getDecryptMissCount() {
+        return plainValues.stats().missCount();
+    }
+    
+    /**
+     * Get hit count of encryption.
+     * 
+     * @return hit count of encryption
+     */
+    public long getEncryptHitCount() {
+        return cipherValues.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count of encryption.
+     * 
+     * @return miss count of encryption
+     */
+    public long getEncryptMissCount() {
+        return cipherValues.stats().missCount();
+    }
+    
+    /**
+     * Get size of cached plain and cipher values.
+     * 
+     * @return size of cached plain and cipher values
+     */
+    public long size() {
+        return plainValues.size() + cipherValues.size();
+    }
+}
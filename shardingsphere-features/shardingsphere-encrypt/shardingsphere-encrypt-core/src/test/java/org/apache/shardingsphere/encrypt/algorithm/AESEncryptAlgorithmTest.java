@@ -24,6 +24,7 @@ import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -68,6 +69,12 @@ public final class AESEncryptAlgorithmTest {
         assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertDecryptInBatch() {
+        assertThat(encryptAlgorithm.decryptInBatch(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", "dSpPiyENQGDUXMKFMJPGWA==")), is(Arrays.<Object>asList("test", "test")));
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertDecryptWithoutKey() {
         Properties props = new Properties();
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import org.apache.shardingsphere.encrypt.rule.EncryptValueCache;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.junit.Test;
@@ -26,6 +27,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Optional;
@@ -34,7 +36,10 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -84,6 +89,81 @@ public final class EncryptMergedResultTest {
         assertNull(new EncryptMergedResult(metaData, mergedResult).getValue(1, String.class));
     }
     
+    @Test
+    public void assertGetValueWithQueryWithCipherColumnsDecryptedInBatch() throws SQLException {
+        when(mergedResult.next()).thenReturn(true);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("CIPHER_1", "CIPHER_3");
+        when(mergedResult.getValue(2, Object.class)).thenReturn("CIPHER_2", "CIPHER_4");
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("CIPHER_1")).thenReturn("PLAIN_1");
+        when(encryptAlgorithm.decrypt("CIPHER_2")).thenReturn("PLAIN_2");
+        when(encryptAlgorithm.decryptInBatch(Arrays.asList("CIPHER_3", "CIPHER_4"))).thenReturn(Arrays.asList("PLAIN_3", "PLAIN_4"));
+        when(metaData.findEncryptor(anyInt())).thenReturn(Optional.of(encryptAlgorithm));
+        when(metaData.isQueryWithCipherColumn(anyInt())).thenReturn(true);
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("PLAIN_1"));
+        assertThat(actual.getValue(2, String.class), is("PLAIN_2"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, String.class), is("PLAIN_4"));
+        assertThat(actual.getValue(1, String.class), is("PLAIN_3"));
+        verify(metaData).findEncryptor(1);
+        verify(metaData).findEncryptor(2);
+    }
+    
+    @Test
+    public void assertGetValueWithQueryWithCipherColumnAndValueCache() throws SQLException {
+        when(mergedResult.next()).thenReturn(true);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("CIPHER");
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("CIPHER")).thenReturn("PLAIN");
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
+        when(metaData.isQueryWithCipherColumn(1)).thenReturn(true);
+        EncryptValueCache valueCache = new EncryptValueCache(16L);
+        when(metaData.findValueCache(1)).thenReturn(Optional.of(valueCache));
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, String.class), is("PLAIN"));
+        }
+        verify(encryptAlgorithm).decrypt("CIPHER");
+        assertThat(valueCache.getDecryptHitCount(), is(2L));
+    }
+    
+    @Test
+    public void assertWasNullWithNullCiphertext() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
+        when(metaData.isQueryWithCipherColumn(1)).thenReturn(true);
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult);
+        assertNull(actual.getValue(1, String.class));
+        assertTrue(actual.wasNull());
+    }
+    
+    @Test
+    public void assertWasNullWithCalendarValueAfterNullCiphertext() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
+        when(metaData.isQueryWithCipherColumn(1)).thenReturn(true);
+        Calendar calendar = Calendar.getInstance();
+        when(mergedResult.getCalendarValue(2, Date.class, calendar)).thenReturn(new Date(0L));
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult);
+        assertNull(actual.getValue(1, String.class));
+        assertThat(actual.getCalendarValue(2, Date.class, calendar), is(new Date(0L)));
+        assertFalse(actual.wasNull());
+    }
+    
+    @Test
+    public void assertWasNullAfterNextWithNullCiphertext() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
+        when(metaData.isQueryWithCipherColumn(1)).thenReturn(true);
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult);
+        assertNull(actual.getValue(1, String.class));
+        assertFalse(actual.next());
+        assertFalse(actual.wasNull());
+    }
+    
     @Test
     public void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
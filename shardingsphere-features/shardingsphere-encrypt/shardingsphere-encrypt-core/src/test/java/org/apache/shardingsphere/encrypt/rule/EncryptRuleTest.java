@@ -85,6 +85,25 @@ public final class EncryptRuleTest {
         assertTrue(new EncryptRule(createEncryptRuleConfiguration()).findEncryptor(DefaultSchema.LOGIC_NAME, "t_encrypt", "pwd").isPresent());
     }
     
+    @Test
+    public void assertGetEncryptPredicateValuesWithValueCache() {
+        EncryptColumnRuleConfiguration pwdColumnConfig = new EncryptColumnRuleConfiguration("pwd", "pwd_cipher", "", "pwd_plain", "test_encryptor", 16);
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_encrypt", Collections.singletonList(pwdColumnConfig), null);
+        EncryptRule encryptRule = new EncryptRule(new EncryptRuleConfiguration(Collections.singleton(tableConfig),
+                ImmutableMap.of("test_encryptor", new ShardingSphereAlgorithmConfiguration("QUERY_ASSISTED_TEST", new Properties()))));
+        assertThat(encryptRule.getEncryptPredicateValues(DefaultSchema.LOGIC_NAME, "t_encrypt", "pwd", Arrays.asList("foo", null)), is(Arrays.asList("encryptValue", null)));
+        assertThat(encryptRule.getEncryptPredicateValues(DefaultSchema.LOGIC_NAME, "t_encrypt", "pwd", Collections.singletonList("foo")), is(Collections.singletonList("encryptValue")));
+        Optional<EncryptValueCache> valueCache = encryptRule.findValueCache("t_encrypt", "pwd");
+        assertTrue(valueCache.isPresent());
+        assertThat(valueCache.get().getEncryptHitCount(), is(1L));
+        assertThat(valueCache.get().getEncryptMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertNotFindValueCache() {
+        assertFalse(new EncryptRule(createEncryptRuleConfiguration()).findValueCache("t_encrypt", "pwd").isPresent());
+    }
+    
     @Test
     public void assertNotFindEncryptor() {
         assertFalse(new EncryptRule(createEncryptRuleConfiguration()).findEncryptor(DefaultSchema.LOGIC_NAME, "t_encrypt", "other_column").isPresent());
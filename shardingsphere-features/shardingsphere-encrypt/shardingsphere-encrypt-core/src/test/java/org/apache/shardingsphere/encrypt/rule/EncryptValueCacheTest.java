@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class EncryptValueCacheTest {
+    
+    @Test
+    public void assertFindPlainValue() {
+        EncryptValueCache valueCache = new EncryptValueCache(16L);
+        assertFalse(valueCache.findPlainValue("cipher").isPresent());
+        valueCache.putPlainValue("cipher", "plain");
+        Optional<Object> actual = valueCache.findPlainValue("cipher");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("plain"));
+        assertThat(valueCache.getDecryptHitCount(), is(1L));
+        assertThat(valueCache.getDecryptMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertFindCipherValue() {
+        EncryptValueCache valueCache = new EncryptValueCache(16L);
+        valueCache.putCipherValue(1, "cipher");
+        Optional<Object> actual = valueCache.findCipherValue(1);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("cipher"));
+        assertThat(valueCache.getEncryptHitCount(), is(1L));
+        assertThat(valueCache.getEncryptMissCount(), is(0L));
+    }
+    
+    @Test
+    public void assertNotCacheNullAndArrayValues() {
+        EncryptValueCache valueCache = new EncryptValueCache(16L);
+        valueCache.putPlainValue(null, "plain");
+        valueCache.putPlainValue(new byte[]{1}, "plain");
+        valueCache.putCipherValue("plain", null);
+        assertThat(valueCache.size(), is(0L));
+    }
+    
+    @Test
+    public void assertMaximumSize() {
+        EncryptValueCache valueCache = new EncryptValueCache(2L);
+        for (int i = 0; i < 100; i++) {
+            valueCache.putPlainValue("cipher_" + i, "plain_" + i);
+        }
+        assertTrue(valueCache.size() <= 2L);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.readwritesplitting.rule.aware.SchemaNameAware;
+import org.apache.shardingsphere.readwritesplitting.spi.ReplicaLoadBalanceAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware replica load-balance algorithm.
+ * 
+ * <p>
+ * Two replicas are picked randomly and the one with less load is selected, load is moving average latency multiplied by count of executions in flight.
+ * Replica whose latency exceeds latency of the other one by eject ratio is ejected for eject duration, and at most half of replicas can be ejected.
+ * Replica returned from ejection is preferred until it is sampled enough again, so that its latency is refreshed.
+ * Only executions of the schema which the algorithm belongs to are taken into account.
+ * </p>
+ */
+public final class LatencyAwareReplicaLoadBalanceAlgorithm implements ReplicaLoadBalanceAlgorithm, ShardingSphereAlgorithmPostProcessor, SchemaNameAware {
+    
+    private static final String EJECT_LATENCY_RATIO_KEY = "eject-latency-ratio";
+    
+    private static final String EJECT_MIN_SAMPLE_COUNT_KEY = "eject-min-sample-count";
+    
+    private static final String EJECT_DURATION_MILLISECONDS_KEY = "eject-duration-milliseconds";
+    
+    private static final double DEFAULT_EJECT_LATENCY_RATIO = 3D;
+    
+    private static final long DEFAULT_EJECT_MIN_SAMPLE_COUNT = 20L;
+    
+    private static final long DEFAULT_EJECT_DURATION_MILLISECONDS = 30000L;
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    @Setter
+    private String schemaName;
+    
+    private final Map<String, Long> ejectedUntilMillis = new ConcurrentHashMap<>();
+    
+    private final Map<String, Long> probationSampleCounts = new ConcurrentHashMap<>();
+    
+    private double ejectLatencyRatio = DEFAULT_EJECT_LATENCY_RATIO;
+    
+    private long ejectMinSampleCount = DEFAULT_EJECT_MIN_SAMPLE_COUNT;
+    
+    private long ejectDurationMillis = DEFAULT_EJECT_DURATION_MILLISECONDS;
+    
+    @Override
+    public void init() {
+        ejectLatencyRatio = Double.parseDouble(props.getProperty(EJECT_LATENCY_RATIO_KEY, String.valueOf(DEFAULT_EJECT_LATENCY_RATIO)));
+        ejectMinSampleCount = Long.parseLong(props.getProperty(EJECT_MIN_SAMPLE_COUNT_KEY, String.valueOf(DEFAULT_EJECT_MIN_SAMPLE_COUNT)));
+        ejectDurationMillis = Long.parseLong(props.getProperty(EJECT_DURATION_MILLISECONDS_KEY, String.valueOf(DEFAULT_EJECT_DURATION_MILLISECONDS)));
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        if (1 == readDataSourceNames.size()) {
+            return readDataSourceNames.get(0);
+        }
+        List<String> availableDataSourceNames = getAvailableDataSourceNames(readDataSourceNames);
+        if (1 == availableDataSourceNames.size()) {
+            return availableDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(availableDataSourceNames.size());
+        int secondIndex = random.nextInt(availableDataSourceNames.size() - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        DataSourceExecutionStatistics first = DataSourceExecutionStatistics.getInstance(schemaName, availableDataSourceNames.get(firstIndex));
+        DataSourceExecutionStatistics second = DataSourceExecutionStatistics.getInstance(schemaName, availableDataSourceNames.get(secondIndex));
+        boolean firstSelected = getLoad(first) <= getLoad(second);
+        DataSourceExecutionStatistics selected = firstSelected ? first : second;
+        DataSourceExecutionStatistics unselected = firstSelected ? second : first;
+        if (isSlow(unselected, selected) && (readDataSourceNames.size() - availableDataSourceNames.size() + 1) * 2 <= readDataSourceNames.size()) {
+            ejectedUntilMillis.put(unselected.getDataSourceName(), System.currentTimeMillis() + ejectDurationMillis);
+        }
+        return selected.getDataSourceName();
+    }
+    
+    private List<String> getAvailableDataSourceNames(final List<String> readDataSourceNames) {
+        if (ejectedUntilMillis.isEmpty()) {
+            return readDataSourceNames;
+        }
+        List<String> result = new ArrayList<>(readDataSourceNames.size());
+        long currentMillis = System.currentTimeMillis();
+        for (String each : readDataSourceNames) {
+            Long ejectedUntil = ejectedUntilMillis.get(each);
+            if (null == ejectedUntil) {
+                result.add(each);
+            } else if (currentMillis >= ejectedUntil && ejectedUntilMillis.remove(each, ejectedUntil)) {
+                probationSampleCounts.put(each, DataSourceExecutionStatistics.getInstance(schemaName, each).getSampleCount() + ejectMinSampleCount);
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? readDataSourceNames : result;
+    }
+    
+    private double getLoad(final DataSourceExecutionStatistics statistics) {
+        return isOnProbation(statistics) ? 0D : statistics.getLatencyNanos() * (statistics.getInFlightCount() + 1);
+    }
+    
+    private boolean isOnProbation(final DataSourceExecutionStatistics statistics) {
+        Long probationSampleCount = probationSampleCounts.get(statistics.getDataSourceName());
+        if (null == probationSampleCount) {
+            return false;
+        }
+        if (statistics.getSampleCount() < probationSampleCount) {
+            return true;
+        }
+        probationSampleCounts.remove(statistics.getDataSourceName(), probationSampleCount);
+        return false;
+    }
+    
+    private boolean isSlow(final DataSourceExecutionStatistics statistics, final DataSourceExecutionStatistics comparedStatistics) {
+        return isSampledEnough(statistics) && isSampledEnough(comparedStatistics) && statistics.getLatencyNanos() > comparedStatistics.getLatencyNanos() * ejectLatencyRatio;
+    }
+    
+    private boolean isSampledEnough(final DataSourceExecutionStatistics statistics) {
+        return statistics.getSampleCount() >= ejectMinSampleCount && !probationSampleCounts.containsKey(statistics.getDataSourceName());
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
@@ -34,7 +34,7 @@ public final class AlgorithmProvidedReadwriteSplittingRuleBuilder implements Sch
     @Override
     public ReadwriteSplittingRule build(final SchemaRulesBuilderMaterials materials, final AlgorithmProvidedReadwriteSplittingRuleConfiguration config,
                                         final Collection<ShardingSphereRule> builtRules) {
-        return new ReadwriteSplittingRule(config);
+        return new ReadwriteSplittingRule(materials.getSchemaName(), config);
     }
     
     @Override
@@ -33,7 +33,7 @@ public final class ReadwriteSplittingRuleBuilder implements SchemaRuleBuilder<Re
     
     @Override
     public ReadwriteSplittingRule build(final SchemaRulesBuilderMaterials materials, final ReadwriteSplittingRuleConfiguration config, final Collection<ShardingSphereRule> builtRules) {
-        return new ReadwriteSplittingRule(config);
+        return new ReadwriteSplittingRule(materials.getSchemaName(), config);
     }
     
     @Override
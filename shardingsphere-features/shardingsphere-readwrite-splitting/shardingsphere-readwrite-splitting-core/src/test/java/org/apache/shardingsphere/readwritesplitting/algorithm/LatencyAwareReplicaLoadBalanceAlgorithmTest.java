@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.DataSourceExecutionStatistics;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LatencyAwareReplicaLoadBalanceAlgorithmTest {
+    
+    @Test
+    public void assertGetDataSourceWithOneReadDataSource() {
+        assertThat(createAlgorithm(60000L).getDataSource("ds", "write_ds", Collections.singletonList("single_read_ds")), is("single_read_ds"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLessLoad() {
+        recordLatency("less_load_read_ds_0", 1000L, 1);
+        recordLatency("less_load_read_ds_1", 1000L, 1);
+        DataSourceExecutionStatistics.getInstance("logic_db", "less_load_read_ds_0").recordStarted();
+        List<String> readDataSourceNames = Arrays.asList("less_load_read_ds_0", "less_load_read_ds_1");
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm(60000L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("less_load_read_ds_1"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLoadOfOtherSchema() {
+        recordLatency("other_schema_read_ds_0", 1000L, 1);
+        recordLatency("other_schema_read_ds_1", 1000L, 1);
+        DataSourceExecutionStatistics.getInstance("logic_db", "other_schema_read_ds_0").recordStarted();
+        for (int i = 0; i < 10; i++) {
+            DataSourceExecutionStatistics.getInstance("other_db", "other_schema_read_ds_1").recordStarted();
+        }
+        List<String> readDataSourceNames = Arrays.asList("other_schema_read_ds_0", "other_schema_read_ds_1");
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm(60000L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("other_schema_read_ds_1"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithSlowDataSourceEjected() {
+        recordLatency("ejected_read_ds_0", 100000L, 5);
+        recordLatency("ejected_read_ds_1", 1000L, 5);
+        List<String> readDataSourceNames = Arrays.asList("ejected_read_ds_0", "ejected_read_ds_1");
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm(60000L);
+        assertThat(algorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("ejected_read_ds_1"));
+        recordLatency("ejected_read_ds_1", 100000000L, 5);
+        assertThat(algorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("ejected_read_ds_1"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithEjectedDataSourceOnProbation() {
+        recordLatency("probation_read_ds_0", 100000L, 5);
+        recordLatency("probation_read_ds_1", 1000L, 5);
+        List<String> readDataSourceNames = Arrays.asList("probation_read_ds_0", "probation_read_ds_1");
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm(0L);
+        assertThat(algorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("probation_read_ds_1"));
+        assertThat(algorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("probation_read_ds_0"));
+        recordLatency("probation_read_ds_0", 100000L, 5);
+        assertThat(algorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("probation_read_ds_1"));
+    }
+    
+    private LatencyAwareReplicaLoadBalanceAlgorithm createAlgorithm(final long ejectDurationMillis) {
+        Properties props = new Properties();
+        props.setProperty("eject-latency-ratio", "2");
+        props.setProperty("eject-min-sample-count", "5");
+        props.setProperty("eject-duration-milliseconds", String.valueOf(ejectDurationMillis));
+        LatencyAwareReplicaLoadBalanceAlgorithm result = new LatencyAwareReplicaLoadBalanceAlgorithm();
+        result.setProps(props);
+        result.setSchemaName("logic_db");
+        result.init();
+        return result;
+    }
+    
+    private void recordLatency(final String dataSourceName, final long latencyNanos, final int times) {
+        for (int i = 0; i < times; i++) {
+            DataSourceExecutionStatistics.getInstance("logic_db", dataSourceName).recordLatency(latencyNanos);
+        }
+    }
+}
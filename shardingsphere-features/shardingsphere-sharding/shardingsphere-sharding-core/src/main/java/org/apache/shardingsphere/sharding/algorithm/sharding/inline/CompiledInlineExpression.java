@@ -0,0 +1,498 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>
+ * Covers the common inline sharding shapes such as {@code t_order_${order_id % 16}} or {@code t_order_${Math.abs(order_id.hashCode()) % 16}}
+ * with Groovy integer semantics, and is immutable once compiled. Any other script is not compiled and must be evaluated by Groovy.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompiledInlineExpression {
+    
+    private static final int ESTIMATED_PLACEHOLDER_LENGTH = 8;
+    
+    private final String columnName;
+    
+    private final String[] literals;
+    
+    private final Placeholder[] placeholders;
+    
+    private final boolean numericColumnRequired;
+    
+    private final int estimatedLength;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $} placeholders
+     * @return compiled inline expression, empty if the expression is out of the compilable shapes
+     */
+    static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        ColumnNameHolder columnNameHolder = new ColumnNameHolder();
+        int literalStartIndex = 0;
+        int placeholderStartIndex = inlineExpression.indexOf("${");
+        while (placeholderStartIndex >= 0) {
+            int placeholderStopIndex = inlineExpression.indexOf('}', placeholderStartIndex);
+            if (placeholderStopIndex < 0) {
+                return Optional.empty();
+            }
+            String literal = inlineExpression.substring(literalStartIndex, placeholderStartIndex);
+            String body = inlineExpression.substring(placeholderStartIndex + 2, placeholderStopIndex);
+            if (!isPlainLiteral(literal) || body.indexOf('{') >= 0) {
+                return Optional.empty();
+            }
+            Optional<Placeholder> placeholder = new PlaceholderParser(body, columnNameHolder).parse();
+            if (!placeholder.isPresent()) {
+                return Optional.empty();
+            }
+            literals.add(literal);
+            placeholders.add(placeholder.get());
+            literalStartIndex = placeholderStopIndex + 1;
+            placeholderStartIndex = inlineExpression.indexOf("${", literalStartIndex);
+        }
+        String lastLiteral = inlineExpression.substring(literalStartIndex);
+        if (null == columnNameHolder.columnName || !isPlainLiteral(lastLiteral)) {
+            return Optional.empty();
+        }
+        literals.add(lastLiteral);
+        boolean numericColumnRequired = placeholders.stream().anyMatch(Placeholder::isNumericColumnRequired);
+        int estimatedLength = literals.stream().mapToInt(String::length).sum() + placeholders.size() * ESTIMATED_PLACEHOLDER_LENGTH;
+        return Optional.of(new CompiledInlineExpression(columnNameHolder.columnName,
+                literals.toArray(new String[0]), placeholders.toArray(new Placeholder[0]), numericColumnRequired, estimatedLength));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            char each = literal.charAt(i);
+            if ('$' == each || '"' == each || '\\' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Judge whether the sharding value can be evaluated by compiled expression.
+     *
+     * @param shardingColumnName sharding column name
+     * @param shardingValue sharding value
+     * @return can be evaluated or not
+     */
+    boolean isEvaluable(final String shardingColumnName, final Comparable<?> shardingValue) {
+        if (!columnName.equals(shardingColumnName)) {
+            return false;
+        }
+        if (isIntegerValue(shardingValue) || shardingValue instanceof Long) {
+            return true;
+        }
+        return !numericColumnRequired && (shardingValue instanceof String || shardingValue instanceof BigInteger);
+    }
+    
+    /**
+     * Evaluate expression.
+     *
+     * @param shardingValue sharding value
+     * @return evaluated result
+     */
+    String evaluate(final Comparable<?> shardingValue) {
+        boolean longColumn = shardingValue instanceof Long;
+        long columnValue = longColumn || isIntegerValue(shardingValue) ? ((Number) shardingValue).longValue() : 0L;
+        StringBuilder result = new StringBuilder(estimatedLength);
+        for (int i = 0; i < placeholders.length; i++) {
+            result.append(literals[i]);
+            placeholders[i].appendTo(result, shardingValue, columnValue, longColumn);
+        }
+        return result.append(literals[placeholders.length]).toString();
+    }
+    
+    private static boolean isIntegerValue(final Object value) {
+        return value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static final class ColumnNameHolder {
+        
+        private String columnName;
+        
+        private boolean bind(final String name) {
+            if (null == columnName) {
+                columnName = name;
+                return true;
+            }
+            return columnName.equals(name);
+        }
+    }
+    
+    private interface Placeholder {
+        
+        void appendTo(StringBuilder builder, Comparable<?> shardingValue, long columnValue, boolean longColumn);
+        
+        boolean isNumericColumnRequired();
+    }
+    
+    private static final class ColumnPlaceholder implements Placeholder {
+        
+        @Override
+        public void appendTo(final StringBuilder builder, final Comparable<?> shardingValue, final long columnValue, final boolean longColumn) {
+            builder.append(shardingValue);
+        }
+        
+        @Override
+        public boolean isNumericColumnRequired() {
+            return false;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ArithmeticPlaceholder implements Placeholder {
+        
+        private final ArithmeticNode node;
+        
+        @Override
+        public void appendTo(final StringBuilder builder, final Comparable<?> shardingValue, final long columnValue, final boolean longColumn) {
+            builder.append(node.evaluate(shardingValue, columnValue, longColumn));
+        }
+        
+        @Override
+        public boolean isNumericColumnRequired() {
+            return node.isNumericColumnRequired();
+        }
+    }
+    
+    private abstract static class ArithmeticNode {
+        
+        abstract long evaluate(Comparable<?> shardingValue, long columnValue, boolean longColumn);
+        
+        abstract boolean isLongTyped(boolean longColumn);
+        
+        abstract boolean isNumericColumnRequired();
+        
+        final long narrow(final long value, final boolean longColumn) {
+            return isLongTyped(longColumn) ? value : (int) value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralNode extends ArithmeticNode {
+        
+        private final long value;
+        
+        private final boolean longTyped;
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue, final long columnValue, final boolean longColumn) {
+            return value;
+        }
+        
+        @Override
+        boolean isLongTyped(final boolean longColumn) {
+            return longTyped;
+        }
+        
+        @Override
+        boolean isNumericColumnRequired() {
+            return false;
+        }
+    }
+    
+    private static final class ColumnNode extends ArithmeticNode {
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue, final long columnValue, final boolean longColumn) {
+            return columnValue;
+        }
+        
+        @Override
+        boolean isLongTyped(final boolean longColumn) {
+            return longColumn;
+        }
+        
+        @Override
+        boolean isNumericColumnRequired() {
+            return true;
+        }
+    }
+    
+    private static final class HashCodeNode extends ArithmeticNode {
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue, final long columnValue, final boolean longColumn) {
+            return shardingValue.hashCode();
+        }
+        
+        @Override
+        boolean isLongTyped(final boolean longColumn) {
+            return false;
+        }
+        
+        @Override
+        boolean isNumericColumnRequired() {
+            return false;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegateNode extends ArithmeticNode {
+        
+        private final ArithmeticNode operand;
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue, final long columnValue, final boolean longColumn) {
+            return narrow(-operand.evaluate(shardingValue, columnValue, longColumn), longColumn);
+        }
+        
+        @Override
+        boolean isLongTyped(final boolean longColumn) {
+            return operand.isLongTyped(longColumn);
+        }
+        
+        @Override
+        boolean isNumericColumnRequired() {
+            return operand.isNumericColumnRequired();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode extends ArithmeticNode {
+        
+        private final ArithmeticNode operand;
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue, final long columnValue, final boolean longColumn) {
+            long value = operand.evaluate(shardingValue, columnValue, longColumn);
+            return isLongTyped(longColumn) ? Math.abs(value) : Math.abs((int) value);
+        }
+        
+        @Override
+        boolean isLongTyped(final boolean longColumn) {
+            return operand.isLongTyped(longColumn);
+        }
+        
+        @Override
+        boolean isNumericColumnRequired() {
+            return operand.isNumericColumnRequired();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode extends ArithmeticNode {
+        
+        private final char operator;
+        
+        private final ArithmeticNode left;
+        
+        private final ArithmeticNode right;
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue, final long columnValue, final boolean longColumn) {
+            long leftValue = left.evaluate(shardingValue, columnValue, longColumn);
+            long rightValue = right.evaluate(shardingValue, columnValue, longColumn);
+            switch (operator) {
+                case '+':
+                    return narrow(leftValue + rightValue, longColumn);
+                case '-':
+                    return narrow(leftValue - rightValue, longColumn);
+                case '*':
+                    return narrow(leftValue * rightValue, longColumn);
+                default:
+                    return narrow(leftValue % rightValue, longColumn);
+            }
+        }
+        
+        @Override
+        boolean isLongTyped(final boolean longColumn) {
+            return left.isLongTyped(longColumn) || right.isLongTyped(longColumn);
+        }
+        
+        @Override
+        boolean isNumericColumnRequired() {
+            return left.isNumericColumnRequired() || right.isNumericColumnRequired();
+        }
+    }
+    
+    /**
+     * Recursive descent parser for placeholder body.
+     *
+     * <pre>
+     * expression := term (('+' | '-') term)*
+     * term := unary (('*' | '%') unary)*
+     * unary := '-' unary | primary
+     * primary := number | column | column '.hashCode()' | 'Math.abs(' expression ')' | '(' expression ')'
+     * </pre>
+     */
+    @RequiredArgsConstructor
+    private static final class PlaceholderParser {
+        
+        private final String body;
+        
+        private final ColumnNameHolder columnNameHolder;
+        
+        private int position;
+        
+        private Optional<Placeholder> parse() {
+            skipWhitespace();
+            int identifierStopIndex = scanIdentifier();
+            if (identifierStopIndex > position && isEndAfterWhitespace(identifierStopIndex)) {
+                return columnNameHolder.bind(body.substring(position, identifierStopIndex)) ? Optional.of(new ColumnPlaceholder()) : Optional.empty();
+            }
+            ArithmeticNode result = parseExpression();
+            skipWhitespace();
+            return null == result || position != body.length() ? Optional.empty() : Optional.of(new ArithmeticPlaceholder(result));
+        }
+        
+        private ArithmeticNode parseExpression() {
+            ArithmeticNode result = parseTerm();
+            while (null != result) {
+                skipWhitespace();
+                if (!isCurrent('+') && !isCurrent('-')) {
+                    return result;
+                }
+                char operator = body.charAt(position++);
+                ArithmeticNode right = parseTerm();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private ArithmeticNode parseTerm() {
+            ArithmeticNode result = parseUnary();
+            while (null != result) {
+                skipWhitespace();
+                if (!isCurrent('*') && !isCurrent('%')) {
+                    return result;
+                }
+                char operator = body.charAt(position++);
+                ArithmeticNode right = parseUnary();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private ArithmeticNode parseUnary() {
+            skipWhitespace();
+            if (isCurrent('-')) {
+                position++;
+                ArithmeticNode operand = parseUnary();
+                return null == operand ? null : new NegateNode(operand);
+            }
+            return parsePrimary();
+        }
+        
+        private ArithmeticNode parsePrimary() {
+            if (isCurrent('(')) {
+                position++;
+                ArithmeticNode result = parseExpression();
+                return consume(")") ? result : null;
+            }
+            if (position < body.length() && Character.isDigit(body.charAt(position))) {
+                return parseNumber();
+            }
+            if (body.startsWith("Math.abs", position)) {
+                position += "Math.abs".length();
+                skipWhitespace();
+                if (!consume("(")) {
+                    return null;
+                }
+                ArithmeticNode operand = parseExpression();
+                return null != operand && consume(")") ? new AbsNode(operand) : null;
+            }
+            int identifierStopIndex = scanIdentifier();
+            if (identifierStopIndex == position || !columnNameHolder.bind(body.substring(position, identifierStopIndex))) {
+                return null;
+            }
+            position = identifierStopIndex;
+            if (body.startsWith(".hashCode()", position)) {
+                position += ".hashCode()".length();
+                return new HashCodeNode();
+            }
+            return isCurrent('.') ? null : new ColumnNode();
+        }
+        
+        private ArithmeticNode parseNumber() {
+            int startIndex = position;
+            while (position < body.length() && Character.isDigit(body.charAt(position))) {
+                position++;
+            }
+            if (position < body.length() && (Character.isLetter(body.charAt(position)) || '.' == body.charAt(position) || '_' == body.charAt(position))) {
+                return null;
+            }
+            String number = body.substring(startIndex, position);
+            if (number.length() > 1 && '0' == number.charAt(0)) {
+                return null;
+            }
+            BigInteger value = new BigInteger(number);
+            if (value.bitLength() < Integer.SIZE) {
+                return new LiteralNode(value.intValue(), false);
+            }
+            return value.bitLength() < Long.SIZE ? new LiteralNode(value.longValue(), true) : null;
+        }
+        
+        private int scanIdentifier() {
+            int result = position;
+            if (result >= body.length() || !Character.isJavaIdentifierStart(body.charAt(result)) || '$' == body.charAt(result)) {
+                return position;
+            }
+            result++;
+            while (result < body.length() && Character.isJavaIdentifierPart(body.charAt(result)) && '$' != body.charAt(result)) {
+                result++;
+            }
+            return result;
+        }
+        
+        private boolean isEndAfterWhitespace(final int index) {
+            for (int i = index; i < body.length(); i++) {
+                if (!Character.isWhitespace(body.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private boolean consume(final String expected) {
+            skipWhitespace();
+            if (body.startsWith(expected, position)) {
+                position += expected.length();
+                return true;
+            }
+            return false;
+        }
+        
+        private boolean isCurrent(final char expected) {
+            return position < body.length() && expected == body.charAt(position);
+        }
+        
+        private void skipWhitespace() {
+            while (position < body.length() && Character.isWhitespace(body.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -43,6 +43,8 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private boolean allowRangeQuery;
     
+    private CompiledInlineExpression compiledExpression;
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -51,6 +53,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     public void init() {
         algorithmExpression = getAlgorithmExpression();
         allowRangeQuery = isAllowRangeQuery();
+        compiledExpression = CompiledInlineExpression.compile(algorithmExpression).orElse(null);
     }
     
     private String getAlgorithmExpression() {
@@ -65,6 +68,9 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        if (null != compiledExpression && compiledExpression.isEvaluable(shardingValue.getColumnName(), shardingValue.getValue())) {
+            return compiledExpression.evaluate(shardingValue.getValue());
+        }
         Closure<?> closure = createClosure();
         closure.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
         return closure.call().toString();
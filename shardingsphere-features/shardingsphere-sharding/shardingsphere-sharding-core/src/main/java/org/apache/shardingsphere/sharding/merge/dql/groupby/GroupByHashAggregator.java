@@ -0,0 +1,324 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFile;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillRowCodec;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillableRowSorter;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Hash aggregator for group by.
+ *
+ * <p>
+ * When the memory budget is exceeded, rows of groups which are not in memory yet are spilled into hash partitioned temporary files,
+ * and each partition is aggregated again after all in memory groups are flushed. Rows which can not be spilled are aggregated in memory.
+ * </p>
+ */
+final class GroupByHashAggregator implements AutoCloseable {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int MAX_SPILL_LEVEL = 4;
+    
+    private static final long AGGREGATION_UNIT_BYTES = 64L;
+    
+    private final int[] groupByIndexes;
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final List<List<Comparable<?>>> aggregationValues;
+    
+    private final long maxMemoryBytes;
+    
+    private final int level;
+    
+    private final Map<Object, AggregatedRow> aggregatedRows = new HashMap<>(1024);
+    
+    private final Set<Object> pinnedGroupByKeys = new HashSet<>();
+    
+    private long usedBytes;
+    
+    private SpillFile[] partitions;
+    
+    GroupByHashAggregator(final SelectStatementContext selectStatementContext, final long maxMemoryBytes) {
+        this(selectStatementContext.getGroupByContext().getItems().stream().mapToInt(OrderByItem::getIndex).toArray(),
+                selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]), maxMemoryBytes, 0);
+    }
+    
+    private GroupByHashAggregator(final int[] groupByIndexes, final AggregationProjection[] aggregationProjections, final long maxMemoryBytes, final int level) {
+        this.groupByIndexes = groupByIndexes;
+        this.aggregationProjections = aggregationProjections;
+        aggregationValues = createAggregationValues(aggregationProjections);
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.level = level;
+    }
+    
+    private List<List<Comparable<?>>> createAggregationValues(final AggregationProjection[] aggregationProjections) {
+        List<List<Comparable<?>>> result = new ArrayList<>(aggregationProjections.length);
+        for (AggregationProjection each : aggregationProjections) {
+            result.add(new ArrayList<>(Math.max(1, each.getDerivedAggregationProjections().size())));
+        }
+        return result;
+    }
+    
+    /**
+     * Aggregate query results.
+     *
+     * @param queryResults query results
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    void aggregate(final List<QueryResult> queryResults) throws SQLException, IOException {
+        for (QueryResult each : queryResults) {
+            RowReader rowReader = new QueryResultRowReader(each);
+            while (each.next()) {
+                aggregate(rowReader);
+            }
+        }
+    }
+    
+    private void aggregate(final RowReader rowReader) throws SQLException, IOException {
+        Object groupByKey = getGroupByKey(rowReader);
+        AggregatedRow aggregatedRow = aggregatedRows.get(groupByKey);
+        if (null == aggregatedRow) {
+            Object[] data = rowReader.load();
+            boolean memoryExceeded = isMemoryExceeded();
+            if (memoryExceeded && SpillRowCodec.isSpillable(data)) {
+                spill(groupByKey, data);
+                return;
+            }
+            aggregatedRow = new AggregatedRow(new MemoryQueryResultRow(data), createAggregationUnits());
+            aggregatedRows.put(groupByKey, aggregatedRow);
+            if (memoryExceeded) {
+                pinnedGroupByKeys.add(groupByKey);
+            }
+            if (maxMemoryBytes > 0) {
+                usedBytes += SpillRowCodec.estimateSize(data) + AGGREGATION_UNIT_BYTES * aggregationProjections.length;
+            }
+        }
+        merge(rowReader, aggregatedRow.getAggregationUnits());
+    }
+    
+    private Object getGroupByKey(final RowReader rowReader) throws SQLException {
+        if (1 == groupByIndexes.length) {
+            return rowReader.getValue(groupByIndexes[0]);
+        }
+        Object[] result = new Object[groupByIndexes.length];
+        for (int i = 0; i < groupByIndexes.length; i++) {
+            result[i] = rowReader.getValue(groupByIndexes[i]);
+        }
+        return Arrays.asList(result);
+    }
+    
+    private boolean isMemoryExceeded() {
+        return maxMemoryBytes > 0 && usedBytes >= maxMemoryBytes && level < MAX_SPILL_LEVEL;
+    }
+    
+    private void spill(final Object groupByKey, final Object[] row) throws IOException {
+        if (null == partitions) {
+            partitions = new SpillFile[1 << PARTITION_BITS];
+        }
+        int partitionIndex = getPartitionIndex(groupByKey);
+        if (null == partitions[partitionIndex]) {
+            partitions[partitionIndex] = new SpillFile();
+        }
+        partitions[partitionIndex].write(row);
+    }
+    
+    private int getPartitionIndex(final Object groupByKey) {
+        int hashCode = Objects.hashCode(groupByKey);
+        return ((hashCode ^ hashCode >>> 16) * (0x9E3779B9 * (2 * level + 1))) >>> (Integer.SIZE - PARTITION_BITS);
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationProjections[i].getType(), aggregationProjections[i] instanceof AggregationDistinctProjection);
+        }
+        return result;
+    }
+    
+    private void merge(final RowReader rowReader, final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            List<Comparable<?>> values = aggregationValues.get(i);
+            values.clear();
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(rowReader, aggregationProjections[i]));
+            } else {
+                for (AggregationProjection derived : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(rowReader, derived));
+                }
+            }
+            aggregationUnits[i].merge(values);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final RowReader rowReader, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = rowReader.getValue(aggregationProjection.getIndex());
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Flush aggregated rows, include rows of spilled partitions, into sorter.
+     *
+     * <p>Groups which are kept in memory after spilling started may have rows in partitions, they are aggregated again with their partitions.</p>
+     *
+     * @param sorter row sorter
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    void flush(final SpillableRowSorter sorter) throws SQLException, IOException {
+        Map<Integer, Map<Object, AggregatedRow>> pinnedRows = new HashMap<>();
+        for (Entry<Object, AggregatedRow> entry : aggregatedRows.entrySet()) {
+            if (isPartitioned(entry.getKey())) {
+                pinnedRows.computeIfAbsent(getPartitionIndex(entry.getKey()), key -> new HashMap<>()).put(entry.getKey(), entry.getValue());
+            } else {
+                sorter.add(entry.getValue().toMemoryQueryResultRow(aggregationProjections));
+            }
+        }
+        aggregatedRows.clear();
+        pinnedGroupByKeys.clear();
+        usedBytes = 0L;
+        if (null == partitions) {
+            return;
+        }
+        for (int i = 0; i < partitions.length; i++) {
+            if (null != partitions[i]) {
+                flushPartition(partitions[i], pinnedRows.getOrDefault(i, Collections.emptyMap()), sorter);
+                partitions[i] = null;
+            }
+        }
+    }
+    
+    private boolean isPartitioned(final Object groupByKey) {
+        return pinnedGroupByKeys.contains(groupByKey) && null != partitions && null != partitions[getPartitionIndex(groupByKey)];
+    }
+    
+    private void flushPartition(final SpillFile partition, final Map<Object, AggregatedRow> pinnedRows, final SpillableRowSorter sorter) throws SQLException, IOException {
+        try (GroupByHashAggregator partitionAggregator = new GroupByHashAggregator(groupByIndexes, aggregationProjections, maxMemoryBytes, level + 1)) {
+            partitionAggregator.aggregatedRows.putAll(pinnedRows);
+            ArrayRowReader rowReader = new ArrayRowReader();
+            Iterator<Object[]> rows = partition.read();
+            while (rows.hasNext()) {
+                rowReader.setData(rows.next());
+                partitionAggregator.aggregate(rowReader);
+            }
+            partitionAggregator.flush(sorter);
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            partition.close();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        aggregatedRows.clear();
+        if (null == partitions) {
+            return;
+        }
+        for (SpillFile each : partitions) {
+            if (null != each) {
+                each.close();
+            }
+        }
+    }
+    
+    private interface RowReader {
+        
+        Object getValue(int columnIndex) throws SQLException;
+        
+        Object[] load() throws SQLException;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class QueryResultRowReader implements RowReader {
+        
+        private final QueryResult queryResult;
+        
+        @Override
+        public Object getValue(final int columnIndex) throws SQLException {
+            return queryResult.getValue(columnIndex, Object.class);
+        }
+        
+        @Override
+        public Object[] load() throws SQLException {
+            return new MemoryQueryResultRow(queryResult).getData();
+        }
+    }
+    
+    @Setter
+    private static final class ArrayRowReader implements RowReader {
+        
+        private Object[] data;
+        
+        @Override
+        public Object getValue(final int columnIndex) {
+            return data[columnIndex - 1];
+        }
+        
+        @Override
+        public Object[] load() {
+            return data;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class AggregatedRow {
+        
+        private final MemoryQueryResultRow memoryQueryResultRow;
+        
+        private final AggregationUnit[] aggregationUnits;
+        
+        private MemoryQueryResultRow toMemoryQueryResultRow(final AggregationProjection[] aggregationProjections) {
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                memoryQueryResultRow.setCell(aggregationProjections[i].getIndex(), aggregationUnits[i].getResult());
+            }
+            return memoryQueryResultRow;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillableRowSorter;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Merged result for group by, which aggregates query results ordered by group by items in streaming, and then sorts aggregated rows by order by items.
+ */
+public final class GroupByStreamSortMergedResult extends MemoryMergedResult<ShardingRule> {
+    
+    public GroupByStreamSortMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                         final ShardingSphereSchema schema, final long maxMemoryBytes) throws SQLException {
+        super(null, schema, selectStatementContext, queryResults, maxMemoryBytes);
+    }
+    
+    @Override
+    protected Iterator<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
+                                                  final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        int columnCount = queryResults.get(0).getMetaData().getColumnCount();
+        List<Boolean> valueCaseSensitive = GroupByRowComparator.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema);
+        MergedResult groupByStreamMergedResult = new GroupByStreamMergedResult(getColumnLabelIndexMap(queryResults.get(0), columnCount), queryResults, selectStatementContext, schema);
+        SpillableRowSorter sorter = new SpillableRowSorter(new GroupByRowComparator(selectStatementContext, valueCaseSensitive), getMaxMemoryBytes());
+        try {
+            while (groupByStreamMergedResult.next()) {
+                Object[] data = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    data[i] = groupByStreamMergedResult.getValue(i + 1, Object.class);
+                }
+                sorter.add(new MemoryQueryResultRow(data));
+            }
+            return sorter.sort();
+        } catch (final IOException ex) {
+            close(sorter, ex);
+            throw new SQLException(ex);
+        }
+    }
+    
+    private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult, final int columnCount) throws SQLException {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = columnCount; i > 0; i--) {
+            result.put(queryResult.getMetaData().getColumnLabel(i), i);
+        }
+        return result;
+    }
+    
+    private void close(final SpillableRowSorter sorter, final IOException cause) {
+        try {
+            sorter.close();
+        } catch (final IOException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+}
@@ -29,31 +29,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private final DecimalAccumulator countAccumulator = new DecimalAccumulator();
     
-    private BigDecimal sum;
+    private final DecimalAccumulator sumAccumulator = new DecimalAccumulator();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (null == count) {
-            count = new BigDecimal("0");
-        }
-        if (null == sum) {
-            sum = new BigDecimal("0");
-        }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
+        countAccumulator.add(values.get(0));
+        sumAccumulator.add(values.get(1));
     }
     
     @Override
     public Comparable<?> getResult() {
+        BigDecimal count = countAccumulator.getResult();
         if (null == count || BigDecimal.ZERO.equals(count)) {
             return count;
         }
         // TODO use metadata to fetch float number precise for database field
-        return sum.divide(count, 4, RoundingMode.HALF_UP);
+        return sumAccumulator.getResult().divide(count, 4, RoundingMode.HALF_UP);
     }
 }
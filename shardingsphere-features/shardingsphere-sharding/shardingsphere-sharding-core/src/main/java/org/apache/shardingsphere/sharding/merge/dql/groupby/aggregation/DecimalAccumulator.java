@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Decimal accumulator.
+ * 
+ * <p>Integral values are summed on a primitive long and only spilled into {@link BigDecimal} on overflow, other values are summed as {@link BigDecimal}.</p>
+ */
+final class DecimalAccumulator {
+    
+    private long integralSum;
+    
+    private BigDecimal decimalSum;
+    
+    private boolean accumulated;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        accumulated = true;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            addIntegral(((Number) value).longValue());
+        } else {
+            decimalSum = addDecimal(new BigDecimal(value.toString()));
+        }
+    }
+    
+    private void addIntegral(final long value) {
+        long sum = integralSum + value;
+        if (((integralSum ^ sum) & (value ^ sum)) < 0) {
+            decimalSum = addDecimal(BigDecimal.valueOf(integralSum));
+            integralSum = value;
+        } else {
+            integralSum = sum;
+        }
+    }
+    
+    private BigDecimal addDecimal(final BigDecimal value) {
+        return null == decimalSum ? value : decimalSum.add(value);
+    }
+    
+    /**
+     * Get accumulated result.
+     * 
+     * @return accumulated result, null if no value added
+     */
+    BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        BigDecimal result = BigDecimal.valueOf(integralSum);
+        return null == decimalSum ? result : decimalSum.add(result);
+    }
+}
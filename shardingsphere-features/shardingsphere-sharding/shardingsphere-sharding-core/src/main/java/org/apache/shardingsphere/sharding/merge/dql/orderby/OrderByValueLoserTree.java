@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values, used to merge ordered query results with k-way merge.
+ *
+ * <p>
+ * Internal nodes keep the loser of each match and node 0 keeps the overall winner,
+ * so replacing the winner only replays the matches on its path to root, which is about log2(k) comparisons.
+ * Equal order by values are returned in query results order at first, and then in the order they became heads of query results.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) throws SQLException {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        for (int i = 0; i < this.orderByValues.length; i++) {
+            exhausted[i] = !this.orderByValues[i].next();
+        }
+        tree = new int[this.orderByValues.length];
+        build();
+    }
+    
+    private void build() {
+        int size = orderByValues.length;
+        if (0 == size) {
+            return;
+        }
+        int[] winners = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            int compareResult = compare(right, left);
+            if (compareResult < 0 || 0 == compareResult && right < left) {
+                winners[node] = right;
+                tree[node] = left;
+            } else {
+                winners[node] = left;
+                tree[node] = right;
+            }
+        }
+        tree[0] = winners[1];
+    }
+    
+    private int compare(final int index, final int otherIndex) {
+        if (exhausted[index] || exhausted[otherIndex]) {
+            return Boolean.compare(exhausted[index], exhausted[otherIndex]);
+        }
+        return orderByValues[index].compareTo(orderByValues[otherIndex]);
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get order by value of winner.
+     *
+     * @return order by value of winner
+     */
+    public OrderByValue peek() {
+        return orderByValues[tree[0]];
+    }
+    
+    /**
+     * Move winner to its next row and replay matches to find new winner.
+     *
+     * @return has next data or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        int winner = tree[0];
+        if (!exhausted[winner]) {
+            exhausted[winner] = !orderByValues[winner].next();
+        }
+        for (int node = (winner + orderByValues.length) >> 1; node > 0; node >>= 1) {
+            if (compare(tree[node], winner) <= 0) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+        return !exhausted[winner];
+    }
+}
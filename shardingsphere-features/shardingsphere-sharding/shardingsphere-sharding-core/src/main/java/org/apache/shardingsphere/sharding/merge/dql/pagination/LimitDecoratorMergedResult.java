@@ -17,26 +17,42 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.pagination;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Decorator merged result for limit pagination.
+ *
+ * <p>
+ * Query results to be cancelled are cancelled once the row count is satisfied, so that rows which are not needed are not fetched from shards any more.
+ * </p>
  */
 public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     
     private final PaginationContext pagination;
     
+    private final Collection<QueryResult> queryResultsToCancel;
+    
     private final boolean skipAll;
     
     private int rowNumber;
     
+    private boolean cancelled;
+    
     public LimitDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext pagination) throws SQLException {
+        this(mergedResult, pagination, Collections.emptyList());
+    }
+    
+    public LimitDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext pagination, final Collection<QueryResult> queryResultsToCancel) throws SQLException {
         super(mergedResult);
         this.pagination = pagination;
+        this.queryResultsToCancel = queryResultsToCancel;
         skipAll = skipOffset();
     }
     
@@ -58,6 +74,23 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (!pagination.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
-        return ++rowNumber <= pagination.getActualRowCount().get() && getMergedResult().next();
+        if (++rowNumber <= pagination.getActualRowCount().get()) {
+            return getMergedResult().next();
+        }
+        cancelQueryResults();
+        return false;
+    }
+    
+    private void cancelQueryResults() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        for (QueryResult each : queryResultsToCancel) {
+            try {
+                each.cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
     }
 }
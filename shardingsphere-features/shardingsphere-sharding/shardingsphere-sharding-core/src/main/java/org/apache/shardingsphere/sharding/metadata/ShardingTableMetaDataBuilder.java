@@ -19,9 +19,12 @@ package org.apache.shardingsphere.sharding.metadata;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoaderEngine;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoaderMaterial;
@@ -37,19 +40,25 @@ import org.apache.shardingsphere.sharding.rule.TableRule;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
  * Table meta data builder for sharding.
  */
+@Slf4j
 public final class ShardingTableMetaDataBuilder implements RuleBasedTableMetaDataBuilder<ShardingRule> {
     
+    private static final ExecutorService CHECK_EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("ShardingTableMetaDataChecker-%d"));
+    
     @Override
     public Map<String, TableMetaData> load(final Collection<String> tableNames, final ShardingRule rule, final SchemaBuilderMaterials materials) throws SQLException {
         Collection<String> needLoadTables = tableNames.stream().filter(each -> rule.findTableRule(each).isPresent() || rule.isBroadcastTable(each)).collect(Collectors.toList());
@@ -61,26 +70,82 @@ public final class ShardingTableMetaDataBuilder implements RuleBasedTableMetaDat
         if (tableMetaDataLoaderMaterials.isEmpty()) {
             return Collections.emptyMap();
         }
-        Collection<TableMetaData> tableMetaDataList = TableMetaDataLoaderEngine.load(tableMetaDataLoaderMaterials, materials.getDatabaseType());
-        if (isCheckingMetaData) {
-            checkTableMetaData(tableMetaDataList, rule);
+        int sampleSize = isCheckingMetaData ? materials.getProps().getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_SAMPLE_SIZE) : 0;
+        if (sampleSize <= 0) {
+            Collection<TableMetaData> tableMetaDataList = TableMetaDataLoaderEngine.load(tableMetaDataLoaderMaterials, materials.getDatabaseType());
+            if (isCheckingMetaData) {
+                checkTableMetaData(tableMetaDataList, rule);
+            }
+            return getTableMetaDataMap(tableMetaDataList, rule);
+        }
+        Collection<TableMetaDataLoaderMaterial> sampleMaterials = new LinkedList<>();
+        Collection<TableMetaDataLoaderMaterial> remainingMaterials = new LinkedList<>();
+        for (TableMetaDataLoaderMaterial each : tableMetaDataLoaderMaterials) {
+            splitSampleMaterial(each, sampleSize, rule, sampleMaterials, remainingMaterials);
+        }
+        Collection<TableMetaData> tableMetaDataList = TableMetaDataLoaderEngine.load(sampleMaterials, materials.getDatabaseType());
+        checkTableMetaData(tableMetaDataList, rule);
+        Map<String, TableMetaData> result = getTableMetaDataMap(tableMetaDataList, rule);
+        if (!remainingMaterials.isEmpty()) {
+            Map<String, TableMetaData> sampleTableMetaDataMap = new HashMap<>(result);
+            CHECK_EXECUTOR_SERVICE.execute(() -> checkRemainingTableMetaData(remainingMaterials, materials.getDatabaseType(), sampleTableMetaDataMap, rule));
+        }
+        return result;
+    }
+    
+    private void splitSampleMaterial(final TableMetaDataLoaderMaterial material, final int sampleSize, final ShardingRule rule,
+                                     final Collection<TableMetaDataLoaderMaterial> sampleMaterials, final Collection<TableMetaDataLoaderMaterial> remainingMaterials) {
+        Map<String, Integer> sampledCounts = new HashMap<>();
+        Collection<String> sampleTableNames = new LinkedList<>();
+        Collection<String> remainingTableNames = new LinkedList<>();
+        for (String each : material.getTableNames()) {
+            int sampledCount = sampledCounts.merge(rule.findLogicTableByActualTable(each).orElse(each), 1, Integer::sum);
+            if (sampledCount <= sampleSize) {
+                sampleTableNames.add(each);
+            } else {
+                remainingTableNames.add(each);
+            }
+        }
+        sampleMaterials.add(new TableMetaDataLoaderMaterial(sampleTableNames, material.getDataSource()));
+        if (!remainingTableNames.isEmpty()) {
+            remainingMaterials.add(new TableMetaDataLoaderMaterial(remainingTableNames, material.getDataSource()));
+        }
+    }
+    
+    private void checkRemainingTableMetaData(final Collection<TableMetaDataLoaderMaterial> remainingMaterials, final DatabaseType databaseType,
+                                             final Map<String, TableMetaData> sampleTableMetaDataMap, final ShardingRule rule) {
+        for (TableMetaDataLoaderMaterial each : remainingMaterials) {
+            try {
+                Map<String, Collection<TableMetaData>> logicTableMetaDataMap = groupByLogicTable(TableMetaDataLoaderEngine.load(Collections.singletonList(each), databaseType), rule);
+                for (Entry<String, Collection<TableMetaData>> entry : logicTableMetaDataMap.entrySet()) {
+                    TableMetaData sample = sampleTableMetaDataMap.get(entry.getKey());
+                    if (null != sample) {
+                        checkUniformed(entry.getKey(), sample, entry.getValue(), rule);
+                    }
+                }
+            } catch (final SQLException | ShardingSphereException ex) {
+                log.error("Check table meta data of actual tables `{}` failed", each.getTableNames(), ex);
+            }
         }
-        return getTableMetaDataMap(tableMetaDataList, rule);
     }
     
     private void checkTableMetaData(final Collection<TableMetaData> tableMetaDataList, final ShardingRule rule) {
-        Map<String, Collection<TableMetaData>> logicTableMetaDataMap = new LinkedHashMap<>();
+        for (Entry<String, Collection<TableMetaData>> entry : groupByLogicTable(tableMetaDataList, rule).entrySet()) {
+            checkUniformed(entry.getKey(), entry.getValue().iterator().next(), entry.getValue(), rule);
+        }
+    }
+    
+    private Map<String, Collection<TableMetaData>> groupByLogicTable(final Collection<TableMetaData> tableMetaDataList, final ShardingRule rule) {
+        Map<String, Collection<TableMetaData>> result = new LinkedHashMap<>();
         for (TableMetaData each : tableMetaDataList) {
             Optional<String> logicName = rule.findLogicTableByActualTable(each.getName());
             if (logicName.isPresent()) {
-                Collection<TableMetaData> logicTableMetaDataList = logicTableMetaDataMap.getOrDefault(logicName.get(), new LinkedList<>());
+                Collection<TableMetaData> logicTableMetaDataList = result.getOrDefault(logicName.get(), new LinkedList<>());
                 logicTableMetaDataList.add(each);
-                logicTableMetaDataMap.putIfAbsent(logicName.get(), logicTableMetaDataList);
+                result.putIfAbsent(logicName.get(), logicTableMetaDataList);
             }
         }
-        for (Entry<String, Collection<TableMetaData>> entry : logicTableMetaDataMap.entrySet()) {
-            checkUniformed(entry.getKey(), entry.getValue(), rule);
-        }
+        return result;
     }
     
     private Map<String, TableMetaData> getTableMetaDataMap(final Collection<TableMetaData> tableMetaDataList, final ShardingRule rule) {
@@ -96,8 +161,8 @@ public final class ShardingTableMetaDataBuilder implements RuleBasedTableMetaDat
         return result;
     }
     
-    private void checkUniformed(final String logicTableName, final Collection<TableMetaData> tableMetaDataList, final ShardingRule shardingRule) {
-        TableMetaData sample = decorate(logicTableName, tableMetaDataList.iterator().next(), shardingRule);
+    private void checkUniformed(final String logicTableName, final TableMetaData sampleTableMetaData, final Collection<TableMetaData> tableMetaDataList, final ShardingRule shardingRule) {
+        TableMetaData sample = decorate(logicTableName, sampleTableMetaData, shardingRule);
         Collection<TableMetaDataViolation> violations = tableMetaDataList.stream()
                 .filter(each -> !sample.equals(decorate(logicTableName, each, shardingRule)))
                 .map(each -> new TableMetaDataViolation(each.getName(), each)).collect(Collectors.toList());
@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.sharding.rewrite.context;
 
 import lombok.Setter;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
@@ -27,6 +30,11 @@ import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.rewrite.parameter.ShardingParameterRewriterBuilder;
 import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingTokenGenerateBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+
+import java.util.Collection;
+import java.util.Optional;
 
 /**
  * SQL rewrite context decorator for sharding.
@@ -45,9 +53,35 @@ public final class ShardingSQLRewriteContextDecorator implements SQLRewriteConte
                 each.rewrite(sqlRewriteContext.getParameterBuilder(), sqlRewriteContext.getSqlStatementContext(), sqlRewriteContext.getParameters());
             }
         }
+        if (sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext && !routeContext.isSingleRouting()
+                && props.<Boolean>getValue(ConfigurationPropertyKey.GROUP_BY_STREAM_MERGE_ENABLED)
+                && isOrderByReplaceableWithGroupBy((SelectStatementContext) sqlRewriteContext.getSqlStatementContext())) {
+            ((SelectStatementContext) sqlRewriteContext.getSqlStatementContext()).setOrderByReplacedWithGroupBy(true);
+        }
         sqlRewriteContext.addSQLTokenGenerators(new ShardingTokenGenerateBuilder(shardingRule, routeContext).getSQLTokenGenerators());
     }
     
+    private boolean isOrderByReplaceableWithGroupBy(final SelectStatementContext selectStatementContext) {
+        if (selectStatementContext.getGroupByContext().getItems().isEmpty() || selectStatementContext.getOrderByContext().isGenerated() || selectStatementContext.isSameGroupByAndOrderByItems()
+                || !selectStatementContext.getSqlStatement().getOrderBy().isPresent() || !selectStatementContext.getProjectionsContext().getAggregationDistinctProjections().isEmpty()) {
+            return false;
+        }
+        Collection<String> tableNames = selectStatementContext.getTablesContext().getTableNames();
+        return isWithoutTableOwner(selectStatementContext.getGroupByContext().getItems(), tableNames) && isWithoutTableOwner(selectStatementContext.getOrderByContext().getItems(), tableNames);
+    }
+    
+    private boolean isWithoutTableOwner(final Collection<OrderByItem> orderByItems, final Collection<String> tableNames) {
+        for (OrderByItem each : orderByItems) {
+            if (each.getSegment() instanceof ColumnOrderByItemSegment) {
+                Optional<OwnerSegment> owner = ((ColumnOrderByItemSegment) each.getSegment()).getColumn().getOwner();
+                if (owner.isPresent() && tableNames.stream().anyMatch(tableName -> tableName.equalsIgnoreCase(owner.get().getIdentifier().getValue()))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
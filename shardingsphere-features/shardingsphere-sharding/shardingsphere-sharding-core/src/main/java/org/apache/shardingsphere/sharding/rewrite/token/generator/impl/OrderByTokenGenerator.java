@@ -17,18 +17,23 @@
 
 package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
 
+import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.OptionalSQLTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
 import org.apache.shardingsphere.sharding.rewrite.token.pojo.OrderByToken;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ExpressionOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.util.Collection;
+import java.util.Optional;
+
 /**
  * Order by token generator.
  */
@@ -36,14 +41,24 @@ public final class OrderByTokenGenerator implements OptionalSQLTokenGenerator<Se
     
     @Override
     public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
-        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getOrderByContext().isGenerated();
+        return sqlStatementContext instanceof SelectStatementContext
+                && (((SelectStatementContext) sqlStatementContext).getOrderByContext().isGenerated() || ((SelectStatementContext) sqlStatementContext).isOrderByReplacedWithGroupBy());
     }
     
     @Override
     public OrderByToken generateSQLToken(final SelectStatementContext selectStatementContext) {
-        OrderByToken result = new OrderByToken(getGenerateOrderByStartIndex(selectStatementContext));
+        if (selectStatementContext.isOrderByReplacedWithGroupBy()) {
+            Optional<OrderBySegment> orderBySegment = selectStatementContext.getSqlStatement().getOrderBy();
+            Preconditions.checkState(orderBySegment.isPresent());
+            return generateSQLToken(orderBySegment.get().getStopIndex() + 1, selectStatementContext.getGroupByContext().getItems());
+        }
+        return generateSQLToken(getGenerateOrderByStartIndex(selectStatementContext), selectStatementContext.getOrderByContext().getItems());
+    }
+    
+    private OrderByToken generateSQLToken(final int startIndex, final Collection<OrderByItem> orderByItems) {
+        OrderByToken result = new OrderByToken(startIndex);
         String columnLabel;
-        for (OrderByItem each : selectStatementContext.getOrderByContext().getItems()) {
+        for (OrderByItem each : orderByItems) {
             if (each.getSegment() instanceof ColumnOrderByItemSegment) {
                 ColumnOrderByItemSegment columnOrderByItemSegment = (ColumnOrderByItemSegment) each.getSegment();
                 columnLabel = columnOrderByItemSegment.getText();
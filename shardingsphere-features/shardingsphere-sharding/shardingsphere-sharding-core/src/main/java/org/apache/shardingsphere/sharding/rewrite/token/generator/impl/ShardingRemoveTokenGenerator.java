@@ -34,19 +34,26 @@ public final class ShardingRemoveTokenGenerator implements CollectionSQLTokenGen
     
     @Override
     public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
-        return isContainsAggregationDistinctProjection(sqlStatementContext);
+        return isContainsAggregationDistinctProjection(sqlStatementContext) || isOrderByReplacedWithGroupBy(sqlStatementContext);
     }
     
     private boolean isContainsAggregationDistinctProjection(final SQLStatementContext<?> sqlStatementContext) {
         return sqlStatementContext instanceof SelectStatementContext && !((SelectStatementContext) sqlStatementContext).getProjectionsContext().getAggregationDistinctProjections().isEmpty();
     }
     
+    private boolean isOrderByReplacedWithGroupBy(final SQLStatementContext<?> sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isOrderByReplacedWithGroupBy();
+    }
+    
     @Override
     public Collection<? extends SQLToken> generateSQLTokens(final SQLStatementContext<?> sqlStatementContext) {
         Collection<SQLToken> result = new LinkedList<>();
         if (isContainsAggregationDistinctProjection(sqlStatementContext)) {
             ((SelectStatementContext) sqlStatementContext).getSqlStatement().getGroupBy().ifPresent(optional -> result.add(new RemoveToken(optional.getStartIndex(), optional.getStopIndex())));
         }
+        if (isOrderByReplacedWithGroupBy(sqlStatementContext)) {
+            ((SelectStatementContext) sqlStatementContext).getSqlStatement().getOrderBy().ifPresent(optional -> result.add(new RemoveToken(optional.getStartIndex(), optional.getStopIndex())));
+        }
         return result;
     }
 }
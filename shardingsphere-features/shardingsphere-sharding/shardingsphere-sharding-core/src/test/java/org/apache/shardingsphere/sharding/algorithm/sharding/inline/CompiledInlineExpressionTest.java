@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    private static final Collection<Comparable<?>> NUMERIC_VALUES = Arrays.asList(0, 1, 7, -7, 15, 16, 17, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            0L, 9L, -9L, 1234567890123L, -1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE, (short) 5, (byte) -3);
+    
+    @Test
+    public void assertEvaluateSameAsGroovy() {
+        for (String each : Arrays.asList("t_order_${order_id % 16}", "t_order_${ order_id % 16 }", "ds_${order_id % 2}_t_order_${order_id % 4}",
+                "t_order_${order_id}", "t_order_${order_id + 1}", "t_order_${(order_id - 3) * 2 % 16}", "t_order_${-order_id % 16}",
+                "t_order_${Math.abs(order_id % 16)}", "t_order_${Math.abs(order_id.hashCode()) % 16}", "t_order_${Math.abs(order_id.hashCode() % 16)}",
+                "t_order_${order_id * 2147483647}", "t_order_${order_id + 3000000000}", "t_order_${order_id % 16 + 2 * 3 - 1}")) {
+            CompiledInlineExpression expression = CompiledInlineExpression.compile(each).orElseThrow(IllegalStateException::new);
+            for (Comparable<?> value : NUMERIC_VALUES) {
+                assertTrue(expression.isEvaluable("order_id", value));
+                assertThat(each + " with " + value, expression.evaluate(value), is(evaluateByGroovy(each, value)));
+            }
+        }
+    }
+    
+    @Test
+    public void assertEvaluateStringValueSameAsGroovy() {
+        for (String each : Arrays.asList("t_order_${order_id}", "t_order_${Math.abs(order_id.hashCode()) % 16}", "t_order_${order_id.hashCode() % 4}")) {
+            CompiledInlineExpression expression = CompiledInlineExpression.compile(each).orElseThrow(IllegalStateException::new);
+            for (String value : Arrays.asList("", "a", "order_10", "Aa", "BB", "polygenelubricants")) {
+                assertTrue(expression.isEvaluable("order_id", value));
+                assertThat(each + " with " + value, expression.evaluate(value), is(evaluateByGroovy(each, value)));
+            }
+        }
+    }
+    
+    @Test
+    public void assertNotEvaluable() {
+        CompiledInlineExpression expression = CompiledInlineExpression.compile("t_order_${order_id % 16}").orElseThrow(IllegalStateException::new);
+        assertFalse(expression.isEvaluable("user_id", 1));
+        assertFalse(expression.isEvaluable("order_id", "1"));
+        assertFalse(expression.isEvaluable("order_id", 1.5D));
+        assertFalse(expression.isEvaluable("order_id", null));
+    }
+    
+    @Test
+    public void assertCompileUnsupportedExpression() {
+        for (String each : Arrays.asList("t_order", "t_order_${order_id / 2}", "t_order_${order_id.substring(1)}", "t_order_${order_id % 2 == 0 ? 0 : 1}",
+                "t_order_${[0, 1]}", "t_order_$order_id", "t_order_${order_id % user_id}", "t_order_${1 % 2}", "t_\"order_${order_id}", "t_order_${order_id % 2L}",
+                "t_order_${order_id % 99999999999999999999}", "t_order_${order_id % 0x10}", "t_order_${Math.max(order_id, 1)}", "t_order_${order_id % 16")) {
+            assertThat(each, CompiledInlineExpression.compile(each), is(Optional.empty()));
+        }
+    }
+    
+    private String evaluateByGroovy(final String expression, final Comparable<?> value) {
+        Closure<?> closure = new InlineExpressionParser(expression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty("order_id", value);
+        return closure.call().toString();
+    }
+}
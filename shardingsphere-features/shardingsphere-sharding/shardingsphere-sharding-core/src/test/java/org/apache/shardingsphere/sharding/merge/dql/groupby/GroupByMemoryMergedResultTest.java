@@ -45,6 +45,7 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -161,6 +162,35 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextWithMemoryExceeded() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 1L);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(100), createQueryResult(100), createQueryResult(50)), createSelectStatementContext(), null);
+        for (int i = 100; i > 0; i--) {
+            int expectedCount = i > 50 ? 2 : 3;
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(expectedCount)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(i));
+            assertThat(actual.getValue(3, Object.class), is(i));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(expectedCount)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(expectedCount * i)));
+        }
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    private QueryResult createQueryResult(final int rowCount) throws SQLException {
+        QueryResult result = createQueryResult();
+        AtomicInteger cursor = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() <= rowCount);
+        when(result.getValue(1, Object.class)).thenReturn(1);
+        when(result.getValue(2, Object.class)).thenAnswer(invocation -> cursor.get());
+        when(result.getValue(3, Object.class)).thenAnswer(invocation -> cursor.get());
+        when(result.getValue(4, Object.class)).thenReturn(1);
+        when(result.getValue(5, Object.class)).thenAnswer(invocation -> cursor.get());
+        return result;
+    }
+    
     private QueryResult createQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
         when(result.getMetaData().getColumnCount()).thenReturn(5);
@@ -41,9 +41,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -187,12 +189,42 @@ public final class OrderByStreamMergedResultTest {
         assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("A"));
         assertTrue(actual.next());
-        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
-        assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("b"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForManyResultSets() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(64);
+        for (int i = 0; i < 64; i++) {
+            queryResults.add(createSortedQueryResult(i, 64, i % 8));
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, buildSchema());
+        int previous = -1;
+        int count = 0;
+        while (actual.next()) {
+            int value = (int) actual.getValue(1, Object.class);
+            assertTrue(value > previous);
+            previous = value;
+            count++;
+        }
+        assertThat(count, is(224));
+    }
+    
+    private QueryResult createSortedQueryResult(final int start, final int step, final int rowCount) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnName(1)).thenReturn("col1");
+        when(result.getMetaData().getColumnName(2)).thenReturn("col2");
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rowCount);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> start + cursor.get() * step);
+        when(result.getValue(2, Object.class)).thenReturn("value");
+        return result;
+    }
+    
     private ShardingSphereSchema buildSchema() {
         ColumnMetaData columnMetaData1 = new ColumnMetaData("col1", 0, false, false, true);
         ColumnMetaData columnMetaData2 = new ColumnMetaData("col2", 0, false, false, false);
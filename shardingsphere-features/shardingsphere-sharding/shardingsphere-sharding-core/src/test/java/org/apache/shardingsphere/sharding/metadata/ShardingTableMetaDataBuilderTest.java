@@ -63,6 +63,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -86,6 +88,8 @@ public class ShardingTableMetaDataBuilderTest {
     
     private ShardingRule shardingRule;
     
+    private DatabaseMetaData databaseMetaData;
+    
     @Before
     public void setUp() throws SQLException {
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
@@ -188,7 +192,7 @@ public class ShardingTableMetaDataBuilderTest {
     }
     
     private void mockDatabaseMetaData(final Connection connection) throws SQLException {
-        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class, RETURNS_DEEP_STUBS);
+        databaseMetaData = mock(DatabaseMetaData.class, RETURNS_DEEP_STUBS);
         when(connection.getMetaData()).thenReturn(databaseMetaData);
         ResultSet dataTypeResultSet = createDataTypeResultSet();
         when(databaseMetaData.getTypeInfo()).thenReturn(dataTypeResultSet);
@@ -355,6 +359,7 @@ public class ShardingTableMetaDataBuilderTest {
     @Test
     public void assertLoadTablesWithCheck() throws SQLException {
         when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(true);
+        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_SAMPLE_SIZE)).thenReturn(0);
         when(databaseType.formatTableNamePattern("t_order_0")).thenReturn("t_order_0");
         when(databaseType.formatTableNamePattern("t_order_1")).thenReturn("t_order_1");
         Collection<String> tableNames = new LinkedList<>();
@@ -368,6 +373,21 @@ public class ShardingTableMetaDataBuilderTest {
         assertThat(tableMetaData.getColumnMetaData(2).getName(), is("pwd_plain"));
     }
     
+    @Test
+    public void assertLoadTablesWithSampleCheck() throws SQLException {
+        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(true);
+        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_SAMPLE_SIZE)).thenReturn(1);
+        when(databaseType.formatTableNamePattern("t_order_0")).thenReturn("t_order_0");
+        when(databaseType.formatTableNamePattern("t_order_1")).thenReturn("t_order_1");
+        Collection<ShardingSphereRule> rules = Collections.singletonList(shardingRule);
+        ShardingTableMetaDataBuilder loader = (ShardingTableMetaDataBuilder) OrderedSPIRegistry.getRegisteredServices(RuleBasedTableMetaDataBuilder.class, rules).get(shardingRule);
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(databaseType, Collections.singletonMap("ds", dataSource), rules, props);
+        TableMetaData tableMetaData = loader.load(Collections.singletonList(TABLE_NAME), shardingRule, materials).get(TABLE_NAME);
+        assertThat(tableMetaData.getName(), is("t_order_0"));
+        assertThat(tableMetaData.getColumnMetaData(0).getName(), is("id"));
+        verify(databaseMetaData, timeout(1000L)).getColumns(any(), any(), eq("t_order_1"), eq("%"));
+    }
+    
     @Test
     public void assertDecorateWithKeyGenerateStrategy() {
         Collection<ShardingSphereRule> rules = Collections.singletonList(shardingRule);
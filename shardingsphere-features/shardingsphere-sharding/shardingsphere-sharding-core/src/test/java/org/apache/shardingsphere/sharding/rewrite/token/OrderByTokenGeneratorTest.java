@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementConte
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.OrderByTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.pojo.OrderByToken;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ExpressionOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQ
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Optional;
 
@@ -62,6 +64,9 @@ public final class OrderByTokenGeneratorTest {
         assertFalse(orderByTokenGenerator.isGenerateSQLToken(selectStatementContext));
         when(selectStatementContext.getOrderByContext().isGenerated()).thenReturn(Boolean.TRUE);
         assertTrue(orderByTokenGenerator.isGenerateSQLToken(selectStatementContext));
+        when(selectStatementContext.getOrderByContext().isGenerated()).thenReturn(Boolean.FALSE);
+        when(selectStatementContext.isOrderByReplacedWithGroupBy()).thenReturn(Boolean.TRUE);
+        assertTrue(orderByTokenGenerator.isGenerateSQLToken(selectStatementContext));
     }
 
     @Test
@@ -83,6 +88,22 @@ public final class OrderByTokenGeneratorTest {
         assertThat(orderByToken.getOrderDirections().get(0), is(orderDirection));
     }
 
+    @Test
+    public void assertGenerateSQLTokenWithOrderByReplacedWithGroupBy() {
+        MySQLSelectStatement mySQLSelectStatement = mock(MySQLSelectStatement.class);
+        when(mySQLSelectStatement.getOrderBy()).thenReturn(Optional.of(new OrderBySegment(10, 20, Collections.emptyList())));
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getSqlStatement()).thenReturn(mySQLSelectStatement);
+        when(selectStatementContext.isOrderByReplacedWithGroupBy()).thenReturn(true);
+        Collection<OrderByItem> groupByItemCollection = getOrderByItemCollection();
+        when(selectStatementContext.getGroupByContext().getItems()).thenReturn(groupByItemCollection);
+        OrderByToken orderByToken = new OrderByTokenGenerator().generateSQLToken(selectStatementContext);
+        assertThat(orderByToken.getStartIndex(), is(21));
+        assertThat(orderByToken.getColumnLabels().get(0), is(TEST_COLUMN_ORDER_BY_ITEM_SEGMENT_COLUMN_LABEL));
+        assertThat(orderByToken.getColumnLabels().get(1), is(TEST_EXPRESSION_ORDER_BY_ITEM_SEGMENT_COLUMN_LABEL));
+        assertThat(orderByToken.getColumnLabels().get(2), is(String.valueOf(TEST_OTHER_CLASS_ORDER_BY_ITEM_INDEX)));
+    }
+
     private Collection<OrderByItem> getOrderByItemCollection() {
         ColumnOrderByItemSegment columnOrderByItemSegment = mock(ColumnOrderByItemSegment.class);
         when(columnOrderByItemSegment.getText()).thenReturn(TEST_COLUMN_ORDER_BY_ITEM_SEGMENT_COLUMN_LABEL);
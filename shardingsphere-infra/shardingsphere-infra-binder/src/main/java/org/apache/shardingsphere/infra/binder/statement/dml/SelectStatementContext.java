@@ -91,6 +91,9 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
     @Setter
     private boolean needAggregateRewrite;
     
+    @Setter
+    private boolean orderByReplacedWithGroupBy;
+    
     public SelectStatementContext(final Map<String, ShardingSphereMetaData> metaDataMap, final List<Object> parameters, final SelectStatement sqlStatement, final String defaultSchemaName) {
         super(sqlStatement);
         this.metaDataMap = metaDataMap;
@@ -47,6 +47,33 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class),
     
+    /**
+     * The max concurrency of executing SQL for each data source, tasks beyond it wait in queue of the data source.
+     * Less than or equal to 0 means no limitation, and all data sources share one worker group.
+     */
+    KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("kernel-executor-max-concurrency-per-data-source", String.valueOf(0), int.class),
+    
+    /**
+     * The max size of waiting queue for each data source when max concurrency per data source is set, submitting blocks when queue is full.
+     * Less than or equal to 0 means no limitation.
+     */
+    KERNEL_EXECUTOR_MAX_QUEUE_SIZE_PER_DATA_SOURCE("kernel-executor-max-queue-size-per-data-source", String.valueOf(1024), int.class),
+    
+    /**
+     * Whether merge query results in completion order of execution groups, instead of waiting for the slowest execution group.
+     */
+    KERNEL_EXECUTOR_COMPLETION_ORDERED_QUERY_ENABLED("kernel-executor-completion-ordered-query-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max size of route plans cached for each schema, route plans of select, update and delete are cached by SQL and parameters, 0 means disabled.
+     */
+    KERNEL_ROUTE_CACHE_SIZE("kernel-route-cache-size", String.valueOf(0), int.class),
+    
+    /**
+     * Whether execute SQL and proxy commands with virtual threads, platform threads are used if JVM does not support virtual thread.
+     */
+    VIRTUAL_THREAD_ENABLED("virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -57,6 +84,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Count of actual tables for each logic table and data source to be checked synchronously when check table meta data enabled,
+     * remaining actual tables are checked in background. Less than or equal to 0 means all actual tables are checked synchronously.
+     */
+    CHECK_TABLE_METADATA_SAMPLE_SIZE("check-table-metadata-sample-size", String.valueOf(0), int.class),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -117,7 +150,23 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Whether enable sql federation.
      */
-    SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max memory bytes of merging query results in memory for each query, rows beyond it are spilled to temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    MEMORY_MERGE_MAX_BYTES("memory-merge-max-bytes", String.valueOf(0L), long.class),
+    
+    /**
+     * Whether replace order by of sharding SQL with group by items when they are different, to merge group by in streaming and sort aggregated rows afterwards.
+     */
+    GROUP_BY_STREAM_MERGE_ENABLED("group-by-stream-merge-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether trust persisted meta data snapshot when startup, and validate it against storage in background.
+     */
+    METADATA_SNAPSHOT_ENABLED("metadata-snapshot-enabled", String.valueOf(Boolean.FALSE), boolean.class);
     
     private final String key;
     
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.schema;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
@@ -27,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere schema.
@@ -36,6 +38,9 @@ public final class ShardingSphereSchema {
     
     private final Map<String, TableMetaData> tables;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
@@ -46,6 +51,15 @@ public final class ShardingSphereSchema {
         tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
     }
     
+    /**
+     * Get version, which is increased when table meta data is added or removed.
+     *
+     * @return version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
     /**
      * Get all table names.
      *
@@ -73,6 +87,7 @@ public final class ShardingSphereSchema {
      */
     public void put(final String tableName, final TableMetaData tableMetaData) {
         tables.put(tableName.toLowerCase(), tableMetaData);
+        version.incrementAndGet();
     }
     
     /**
@@ -93,6 +108,7 @@ public final class ShardingSphereSchema {
      */
     public void remove(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        version.incrementAndGet();
     }
     
     /**
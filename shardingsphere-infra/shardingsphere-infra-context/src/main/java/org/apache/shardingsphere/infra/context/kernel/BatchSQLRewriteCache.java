@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL rewrite cache for batch.
+ *
+ * <p>
+ * Rewritten SQL of single row insert is cached by route unit when none null parameters are not rewritten,
+ * following parameter sets of the batch which are routed to the same route unit reuse the rewritten SQL and skip rewriting.
+ * </p>
+ */
+public final class BatchSQLRewriteCache {
+    
+    private final Map<RouteUnit, String> rewrittenSQLs = new HashMap<>();
+    
+    private boolean disabled;
+    
+    /**
+     * Find SQL rewrite result.
+     *
+     * @param logicSQL logic SQL
+     * @param routeContext route context
+     * @return found SQL rewrite result
+     */
+    Optional<SQLRewriteResult> find(final LogicSQL logicSQL, final RouteContext routeContext) {
+        if (disabled || 1 != routeContext.getRouteUnits().size()) {
+            return Optional.empty();
+        }
+        RouteUnit routeUnit = routeContext.getRouteUnits().iterator().next();
+        String rewrittenSQL = rewrittenSQLs.get(routeUnit);
+        return null == rewrittenSQL
+                ? Optional.empty() : Optional.of(new RouteSQLRewriteResult(Collections.singletonMap(routeUnit, new SQLRewriteUnit(rewrittenSQL, new ArrayList<>(logicSQL.getParameters())))));
+    }
+    
+    /**
+     * Put SQL rewrite result.
+     *
+     * @param logicSQL logic SQL
+     * @param routeContext route context
+     * @param rewriteResult SQL rewrite result
+     */
+    void put(final LogicSQL logicSQL, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
+        if (disabled || 1 != routeContext.getRouteUnits().size() || logicSQL.getParameters().contains(null)) {
+            return;
+        }
+        if (!isSingleRowInsertWithoutGeneratedKey(logicSQL.getSqlStatementContext()) || !(rewriteResult instanceof RouteSQLRewriteResult)
+                || 1 != ((RouteSQLRewriteResult) rewriteResult).getSqlRewriteUnits().size()) {
+            disabled = true;
+            return;
+        }
+        Entry<RouteUnit, SQLRewriteUnit> entry = ((RouteSQLRewriteResult) rewriteResult).getSqlRewriteUnits().entrySet().iterator().next();
+        if (!new ArrayList<>(logicSQL.getParameters()).equals(new ArrayList<>(entry.getValue().getParameters()))) {
+            disabled = true;
+            return;
+        }
+        rewrittenSQLs.put(entry.getKey(), entry.getValue().getSql());
+    }
+    
+    private boolean isSingleRowInsertWithoutGeneratedKey(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        return null == insertStatementContext.getInsertSelectContext() && 1 == insertStatementContext.getValueListCount()
+                && !insertStatementContext.getGeneratedKeyContext().filter(GeneratedKeyContext::isGenerated).isPresent();
+    }
+    
+    /**
+     * Clear cached rewritten SQLs.
+     */
+    public void clear() {
+        rewrittenSQLs.clear();
+        disabled = false;
+    }
+}
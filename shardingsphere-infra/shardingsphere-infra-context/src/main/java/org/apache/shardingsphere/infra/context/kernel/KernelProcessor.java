@@ -17,23 +17,36 @@
 
 package org.apache.shardingsphere.infra.context.kernel;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.RoutePlanCache.RoutePlan;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+
+import java.util.Optional;
 
 /**
  * Kernel processor.
  */
 public final class KernelProcessor {
     
+    private static final Cache<ShardingSphereMetaData, RoutePlanCache> ROUTE_PLAN_CACHES = CacheBuilder.newBuilder().weakKeys().build();
+    
     /**
      * Generate execution context.
      *
@@ -43,13 +56,86 @@ public final class KernelProcessor {
      * @return execution context
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        Optional<RoutePlanCache> routePlanCache = findRoutePlanCache(logicSQL, metaData, props);
+        ExecutionContext result = routePlanCache.isPresent() ? createExecutionContext(logicSQL, metaData, props, routePlanCache.get()) : createExecutionContext(logicSQL, metaData, props);
+        logSQL(logicSQL, props, result);
+        return result;
+    }
+    
+    /**
+     * Generate execution context for batch.
+     *
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @param props configuration properties
+     * @param batchSQLRewriteCache SQL rewrite cache for batch
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props,
+                                                     final BatchSQLRewriteCache batchSQLRewriteCache) {
         RouteContext routeContext = route(logicSQL, metaData, props);
-        SQLRewriteResult rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
+        Optional<SQLRewriteResult> cachedRewriteResult = batchSQLRewriteCache.find(logicSQL, routeContext);
+        SQLRewriteResult rewriteResult;
+        if (cachedRewriteResult.isPresent()) {
+            rewriteResult = cachedRewriteResult.get();
+        } else {
+            rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
+            batchSQLRewriteCache.put(logicSQL, routeContext, rewriteResult);
+        }
         ExecutionContext result = createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
         logSQL(logicSQL, props, result);
         return result;
     }
     
+    private Optional<RoutePlanCache> findRoutePlanCache(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        if (props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_ROUTE_CACHE_SIZE) <= 0 || !isCacheableRoutePlan(logicSQL, metaData)) {
+            return Optional.empty();
+        }
+        RoutePlanCache result = ROUTE_PLAN_CACHES.getIfPresent(metaData);
+        if (null == result || result.getProps() != props) {
+            result = new RoutePlanCache(props);
+            ROUTE_PLAN_CACHES.put(metaData, result);
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isCacheableRoutePlan(final LogicSQL logicSQL, final ShardingSphereMetaData metaData) {
+        SQLStatementContext<?> sqlStatementContext = logicSQL.getSqlStatementContext();
+        if (!(sqlStatementContext instanceof SelectStatementContext || sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext)) {
+            return false;
+        }
+        if (HintManager.isInstantiated() || metaData.getRuleMetaData().getRules().stream().anyMatch(each -> each instanceof DataSourceContainedRule)) {
+            return false;
+        }
+        return RoutePlanCache.isCacheableParameters(logicSQL);
+    }
+    
+    private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        RouteContext routeContext = route(logicSQL, metaData, props);
+        SQLRewriteResult rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
+        return createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
+    }
+    
+    private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RoutePlanCache routePlanCache) {
+        long schemaVersion = metaData.getSchema().getVersion();
+        Optional<RoutePlan> cachedRoutePlan = routePlanCache.find(logicSQL, schemaVersion);
+        if (cachedRoutePlan.isPresent()) {
+            if (cachedRoutePlan.get().isNeedAggregateRewrite()) {
+                ((SelectStatementContext) logicSQL.getSqlStatementContext()).setNeedAggregateRewrite(true);
+            }
+            return createExecutionContext(logicSQL, metaData, cachedRoutePlan.get().getRouteContext(), cachedRoutePlan.get().getRewriteResult());
+        }
+        RouteContext routeContext = route(logicSQL, metaData, props);
+        SQLRewriteResult rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
+        boolean needAggregateRewrite = logicSQL.getSqlStatementContext() instanceof SelectStatementContext && ((SelectStatementContext) logicSQL.getSqlStatementContext()).isNeedAggregateRewrite();
+        routePlanCache.put(logicSQL, schemaVersion, new RoutePlan(routeContext, rewriteResult, needAggregateRewrite));
+        return createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
+    }
+    
+    private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
+        return new ExecutionContext(logicSQL, ExecutionContextBuilder.build(metaData, rewriteResult, logicSQL.getSqlStatementContext()), routeContext);
+    }
+    
     private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
         return new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
     }
@@ -59,10 +145,6 @@ public final class KernelProcessor {
                 metaData.getSchema(), props, metaData.getRuleMetaData().getRules()).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
     }
     
-    private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
-        return new ExecutionContext(logicSQL, ExecutionContextBuilder.build(metaData, rewriteResult, logicSQL.getSqlStatementContext()), routeContext);
-    }
-    
     private void logSQL(final LogicSQL logicSQL, final ConfigurationProperties props, final ExecutionContext executionContext) {
         if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
             SQLLogger.logSQL(logicSQL, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Route plan cache.
+ *
+ * <p>
+ * Route plan cache belongs to ShardingSphere meta data, it is invalidated with the meta data which is recreated when rules or resources changed,
+ * and route plans cached before table meta data changed are never hit because schema version is part of cache key.
+ * </p>
+ */
+final class RoutePlanCache {
+    
+    private static final Collection<Class<?>> IMMUTABLE_PARAMETER_TYPES = new HashSet<>(Arrays.asList(
+            String.class, Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class, BigDecimal.class, BigInteger.class, Boolean.class, Character.class));
+    
+    @Getter
+    private final ConfigurationProperties props;
+    
+    private final Cache<RoutePlanKey, RoutePlan> routePlans;
+    
+    RoutePlanCache(final ConfigurationProperties props) {
+        this.props = props;
+        routePlans = CacheBuilder.newBuilder().softValues().maximumSize(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_ROUTE_CACHE_SIZE)).build();
+    }
+    
+    /**
+     * Judge whether parameters of logic SQL can be part of cache key.
+     *
+     * @param logicSQL logic SQL
+     * @return parameters can be part of cache key or not
+     */
+    static boolean isCacheableParameters(final LogicSQL logicSQL) {
+        for (Object each : logicSQL.getParameters()) {
+            if (null != each && !IMMUTABLE_PARAMETER_TYPES.contains(each.getClass())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Find route plan.
+     *
+     * @param logicSQL logic SQL
+     * @param schemaVersion schema version
+     * @return found route plan
+     */
+    Optional<RoutePlan> find(final LogicSQL logicSQL, final long schemaVersion) {
+        return Optional.ofNullable(routePlans.getIfPresent(new RoutePlanKey(logicSQL.getSql(), logicSQL.getParameters(), schemaVersion)));
+    }
+    
+    /**
+     * Put route plan.
+     *
+     * @param logicSQL logic SQL
+     * @param schemaVersion schema version which is got before route
+     * @param routePlan route plan
+     */
+    void put(final LogicSQL logicSQL, final long schemaVersion, final RoutePlan routePlan) {
+        routePlans.put(new RoutePlanKey(logicSQL.getSql(), new ArrayList<>(logicSQL.getParameters()), schemaVersion), routePlan);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class RoutePlanKey {
+        
+        private final String sql;
+        
+        private final List<Object> parameters;
+        
+        private final long schemaVersion;
+    }
+    
+    /**
+     * Route plan, which consists of route context and SQL rewrite result.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    static final class RoutePlan {
+        
+        private final RouteContext routeContext;
+        
+        private final SQLRewriteResult rewriteResult;
+        
+        private final boolean needAggregateRewrite;
+    }
+}
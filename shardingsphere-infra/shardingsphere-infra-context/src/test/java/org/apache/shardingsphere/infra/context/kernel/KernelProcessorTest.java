@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.context.kernel;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
@@ -27,14 +28,20 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -55,6 +62,38 @@ public final class KernelProcessorTest {
         assertThat(actual.getExecutionUnits().size(), is(1));
     }
     
+    @Test
+    public void assertGenerateExecutionContextWithRoutePlanCache() {
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema",
+                mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), new ShardingSphereSchema());
+        Properties properties = createProperties();
+        properties.setProperty(ConfigurationPropertyKey.KERNEL_ROUTE_CACHE_SIZE.getKey(), "16");
+        ConfigurationProperties props = new ConfigurationProperties(properties);
+        KernelProcessor kernelProcessor = new KernelProcessor();
+        ExecutionContext expected = kernelProcessor.generateExecutionContext(createSelectLogicSQL(metaData, 1), metaData, props);
+        assertThat(kernelProcessor.generateExecutionContext(createSelectLogicSQL(metaData, 1), metaData, props).getRouteContext(), is(sameInstance(expected.getRouteContext())));
+        assertThat(kernelProcessor.generateExecutionContext(createSelectLogicSQL(metaData, 2), metaData, props).getRouteContext(), not(sameInstance(expected.getRouteContext())));
+        metaData.getSchema().put("t_order", new TableMetaData("t_order"));
+        assertThat(kernelProcessor.generateExecutionContext(createSelectLogicSQL(metaData, 1), metaData, props).getRouteContext(), not(sameInstance(expected.getRouteContext())));
+    }
+    
+    @Test
+    public void assertGenerateExecutionContextWithoutRoutePlanCache() {
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema",
+                mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), new ShardingSphereSchema());
+        ConfigurationProperties props = new ConfigurationProperties(createProperties());
+        KernelProcessor kernelProcessor = new KernelProcessor();
+        ExecutionContext expected = kernelProcessor.generateExecutionContext(createSelectLogicSQL(metaData, 1), metaData, props);
+        assertThat(kernelProcessor.generateExecutionContext(createSelectLogicSQL(metaData, 1), metaData, props).getRouteContext(), not(sameInstance(expected.getRouteContext())));
+    }
+    
+    private LogicSQL createSelectLogicSQL(final ShardingSphereMetaData metaData, final Object parameter) {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        List<Object> parameters = Collections.singletonList(parameter);
+        return new LogicSQL(new SelectStatementContext(Collections.singletonMap("logic_schema", metaData), parameters, selectStatement, "logic_schema"), "SELECT * FROM tbl WHERE id = ?", parameters);
+    }
+    
     private Properties createProperties() {
         Properties result = new Properties();
         result.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
@@ -19,11 +19,15 @@ package org.apache.shardingsphere.infra.executor.kernel;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.kernel.thread.DataSourceTaskScheduler;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
@@ -33,6 +37,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -43,8 +48,26 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
+    private final DataSourceTaskScheduler dataSourceTaskScheduler;
+    
     public ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, 0, 0, false);
+    }
+    
+    public ExecutorEngine(final ConfigurationProperties props) {
+        this(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE),
+                props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_QUEUE_SIZE_PER_DATA_SOURCE), props.<Boolean>getValue(ConfigurationPropertyKey.VIRTUAL_THREAD_ENABLED));
+    }
+    
+    public ExecutorEngine(final int executorSize, final int maxConcurrencyPerDataSource, final int maxQueueSizePerDataSource, final boolean virtualThreadEnabled) {
+        dataSourceTaskScheduler = maxConcurrencyPerDataSource > 0
+                ? new DataSourceTaskScheduler(getWorkerSize(executorSize), maxConcurrencyPerDataSource, maxQueueSizePerDataSource, virtualThreadEnabled) : null;
+        // workers of scheduler replace fixed pool, cached pool only starts threads for execution groups without data source name
+        executorServiceManager = new ExecutorServiceManager(null == dataSourceTaskScheduler ? executorSize : 0, virtualThreadEnabled);
+    }
+    
+    private int getWorkerSize(final int executorSize) {
+        return 0 == executorSize ? Runtime.getRuntime().availableProcessors() * 2 : executorSize;
     }
     
     /**
@@ -82,6 +105,55 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute, and get results in completion order.
+     *
+     * <p>
+     * The first execution group is executed in caller thread before returning, other execution groups are executed asynchronously if not serial,
+     * so that results can be consumed as soon as each execution group completes instead of waiting for the slowest one.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param results completion ordered results to be filled
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> void executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback,
+                                                final ExecutorCallback<I, O> callback, final boolean serial, final CompletionOrderedResults<O> results) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return;
+        }
+        if (serial) {
+            results.addResults(serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback));
+            return;
+        }
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        try {
+            while (executionGroups.hasNext()) {
+                ExecutionGroup<I> each = executionGroups.next();
+                results.addFuture(submit(each, results.track(() -> callback.execute(each.getInputs(), false, dataMap))));
+            }
+            results.addResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        } catch (final SQLException | RuntimeException ex) {
+            closeResults(results, ex);
+            throw ex;
+        }
+    }
+    
+    private <O> void closeResults(final CompletionOrderedResults<O> results, final Exception cause) {
+        try {
+            results.close();
+        } catch (final SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -111,7 +183,12 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> ListenableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
         Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        return submit(executionGroup, () -> callback.execute(executionGroup.getInputs(), false, dataMap));
+    }
+    
+    private <I, O> ListenableFuture<Collection<O>> submit(final ExecutionGroup<I> executionGroup, final Callable<Collection<O>> task) {
+        return null == dataSourceTaskScheduler || null == executionGroup.getDataSourceName()
+                ? executorServiceManager.getExecutorService().submit(task) : dataSourceTaskScheduler.submit(executionGroup.getDataSourceName(), task);
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
@@ -136,5 +213,8 @@ public final class ExecutorEngine implements AutoCloseable {
     @Override
     public void close() {
         executorServiceManager.close();
+        if (null != dataSourceTaskScheduler) {
+            dataSourceTaskScheduler.close();
+        }
     }
 }
@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Results of execution groups in completion order.
+ *
+ * <p>
+ * Results of the execution group in caller thread are returned first, then results of other execution groups are returned in the order they complete.
+ * Results should be consumed in one thread.
+ * Closing interrupts execution groups which are still running, waits for them, and closes every result they produced.
+ * </p>
+ *
+ * @param <T> type of result
+ */
+@RequiredArgsConstructor
+public final class CompletionOrderedResults<T> implements AutoCloseable {
+    
+    private final ResultCloser<T> resultCloser;
+    
+    private final Runnable finishedCallback;
+    
+    private final Object lock = new Object();
+    
+    private final Collection<Future<?>> futures = new LinkedList<>();
+    
+    private final Collection<T> producedResults = new LinkedList<>();
+    
+    private final BlockingQueue<CompletedGroup<T>> completedGroups = new LinkedBlockingQueue<>();
+    
+    private final AtomicBoolean finished = new AtomicBoolean();
+    
+    private int remainingGroupCount;
+    
+    private int runningGroupCount;
+    
+    private boolean closed;
+    
+    private Iterator<T> currentResults = Collections.emptyIterator();
+    
+    private volatile boolean cancelled;
+    
+    private volatile boolean failed;
+    
+    /**
+     * Add results of execution group executed in caller thread.
+     *
+     * @param results results to be added
+     * @throws SQLException SQL exception when closed
+     */
+    public void addResults(final Collection<T> results) throws SQLException {
+        synchronized (lock) {
+            producedResults.addAll(results);
+            if (!closed) {
+                currentResults = results.iterator();
+                return;
+            }
+        }
+        closeResults(results);
+        throw new SQLException("Completion ordered results has been closed.");
+    }
+    
+    /**
+     * Track task of execution group, the tracked task is skipped if closed before it starts.
+     *
+     * @param task task of execution group
+     * @return tracked task
+     */
+    public Callable<Collection<T>> track(final Callable<Collection<T>> task) {
+        remainingGroupCount++;
+        return () -> {
+            synchronized (lock) {
+                if (closed) {
+                    return Collections.emptyList();
+                }
+                runningGroupCount++;
+            }
+            Collection<T> results = null;
+            Exception failure = null;
+            try {
+                results = task.call();
+                return results;
+            } catch (final Exception ex) {
+                failure = ex;
+                throw ex;
+            } finally {
+                complete(results, failure);
+            }
+        };
+    }
+    
+    private void complete(final Collection<T> results, final Exception failure) {
+        synchronized (lock) {
+            runningGroupCount--;
+            if (null != results) {
+                producedResults.addAll(results);
+            }
+            if (!closed) {
+                completedGroups.offer(new CompletedGroup<>(results, failure));
+            }
+            lock.notifyAll();
+        }
+    }
+    
+    /**
+     * Add future of tracked task, which is cancelled with interruption when closed.
+     *
+     * @param future future of tracked task
+     */
+    public void addFuture(final Future<?> future) {
+        synchronized (lock) {
+            futures.add(future);
+            if (closed) {
+                future.cancel(true);
+            }
+        }
+    }
+    
+    /**
+     * Judge whether has next result, wait for next completed execution group if necessary.
+     *
+     * @return has next result or not
+     * @throws SQLException SQL exception when execution group failed
+     */
+    public boolean hasNext() throws SQLException {
+        while (!currentResults.hasNext()) {
+            if (cancelled) {
+                return false;
+            }
+            if (0 == remainingGroupCount) {
+                finish();
+                return false;
+            }
+            currentResults = takeCompletedResults().iterator();
+        }
+        return true;
+    }
+    
+    private Collection<T> takeCompletedResults() throws SQLException {
+        CompletedGroup<T> completedGroup;
+        try {
+            completedGroup = completedGroups.take();
+        } catch (final InterruptedException ex) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
+        }
+        if (cancelled) {
+            return Collections.emptyList();
+        }
+        remainingGroupCount--;
+        if (null != completedGroup.getFailure()) {
+            failed = true;
+            cancel();
+            if (completedGroup.getFailure() instanceof SQLException) {
+                throw (SQLException) completedGroup.getFailure();
+            }
+            throw new ShardingSphereException(completedGroup.getFailure());
+        }
+        if (null == completedGroup.getResults()) {
+            failed = true;
+            cancel();
+            throw new ShardingSphereException("Execution group terminated unexpectedly.");
+        }
+        return completedGroup.getResults();
+    }
+    
+    /**
+     * Get next result.
+     *
+     * @return next result
+     * @throws SQLException SQL exception when execution group failed
+     */
+    public T next() throws SQLException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentResults.next();
+    }
+    
+    /**
+     * Cancel execution groups with interruption, results which are not returned are discarded.
+     *
+     * <p>Produced results are not closed until {@link #close()}.</p>
+     */
+    public void cancel() {
+        cancelled = true;
+        synchronized (lock) {
+            futures.forEach(each -> each.cancel(true));
+        }
+        completedGroups.offer(new CompletedGroup<>(Collections.emptyList(), null));
+    }
+    
+    private void finish() {
+        if (!failed && finished.compareAndSet(false, true)) {
+            finishedCallback.run();
+        }
+    }
+    
+    /**
+     * Close, cancel execution groups with interruption, wait for running ones, and close all produced results.
+     *
+     * @throws SQLException SQL exception when close results
+     */
+    @Override
+    public void close() throws SQLException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        cancel();
+        awaitRunningGroups();
+        finish();
+        Collection<T> results;
+        synchronized (lock) {
+            results = new LinkedList<>(producedResults);
+            producedResults.clear();
+        }
+        closeResults(results);
+    }
+    
+    private void awaitRunningGroups() {
+        boolean interrupted = false;
+        synchronized (lock) {
+            while (runningGroupCount > 0) {
+                try {
+                    lock.wait();
+                } catch (final InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void closeResults(final Collection<T> results) throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (T each : results) {
+            try {
+                resultCloser.close(each);
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException();
+        exceptions.forEach(ex::setNextException);
+        throw ex;
+    }
+    
+    /**
+     * Result closer.
+     *
+     * @param <T> type of result
+     */
+    public interface ResultCloser<T> {
+        
+        /**
+         * Close result.
+         *
+         * @param result result to be closed
+         * @throws SQLException SQL exception
+         */
+        void close(T result) throws SQLException;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CompletedGroup<T> {
+        
+        private final Collection<T> results;
+        
+        private final Exception failure;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor metrics of data source.
+ */
+@RequiredArgsConstructor
+public final class DataSourceExecutorMetrics {
+    
+    @Getter
+    private final String dataSourceName;
+    
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    
+    private final AtomicInteger activeCount = new AtomicInteger();
+    
+    private final LongAdder completedTaskCount = new LongAdder();
+    
+    private final LongAdder totalWaitNanos = new LongAdder();
+    
+    private final LongAdder totalRunNanos = new LongAdder();
+    
+    void recordQueued() {
+        queueDepth.incrementAndGet();
+    }
+    
+    void recordStarted(final long waitNanos) {
+        queueDepth.decrementAndGet();
+        activeCount.incrementAndGet();
+        totalWaitNanos.add(waitNanos);
+    }
+    
+    void recordCompleted(final long runNanos) {
+        completedTaskCount.increment();
+        totalRunNanos.add(runNanos);
+        activeCount.decrementAndGet();
+    }
+    
+    void recordCancelled() {
+        queueDepth.decrementAndGet();
+    }
+    
+    /**
+     * Get count of tasks waiting in queue.
+     *
+     * @return count of tasks waiting in queue
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+    
+    /**
+     * Get count of running tasks.
+     *
+     * @return count of running tasks
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+    
+    /**
+     * Get count of completed tasks.
+     *
+     * @return count of completed tasks
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount.sum();
+    }
+    
+    /**
+     * Get total nanoseconds which tasks waited in queue.
+     *
+     * @return total wait nanoseconds
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+    
+    /**
+     * Get total nanoseconds which tasks ran.
+     *
+     * @return total run nanoseconds
+     */
+    public long getTotalRunNanos() {
+        return totalRunNanos.sum();
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Task scheduler which limits concurrency and queue size for each data source.
+ *
+ * <p>
+ * Tasks are queued in bounded queue of their data source, submitting blocks when the queue is full.
+ * Each worker prefers queue of its own data source, and steals tasks from queues of other data sources when idle.
+ * Tasks of data source which reaches max concurrency wait in queue, so slow data source does not block tasks of other data sources.
+ * </p>
+ */
+public final class DataSourceTaskScheduler implements AutoCloseable {
+    
+    private static final String DEFAULT_NAME_FORMAT = "DataSource-Executor-%d";
+    
+    private final int maxConcurrencyPerDataSource;
+    
+    private final int maxQueueSizePerDataSource;
+    
+    private final Map<String, DataSourceTaskQueue> taskQueues = new ConcurrentHashMap<>();
+    
+    private volatile DataSourceTaskQueue[] taskQueueArray = new DataSourceTaskQueue[0];
+    
+    private final Thread[] workers;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition taskAvailable = lock.newCondition();
+    
+    private volatile long signalVersion;
+    
+    private volatile boolean closed;
+    
+    public DataSourceTaskScheduler(final int workerSize, final int maxConcurrencyPerDataSource, final int maxQueueSizePerDataSource, final boolean virtualThreadEnabled) {
+        Preconditions.checkArgument(workerSize > 0, "Worker size must be positive.");
+        Preconditions.checkArgument(maxConcurrencyPerDataSource > 0, "Max concurrency per data source must be positive.");
+        this.maxConcurrencyPerDataSource = maxConcurrencyPerDataSource;
+        this.maxQueueSizePerDataSource = maxQueueSizePerDataSource;
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+        workers = new Thread[workerSize];
+        for (int i = 0; i < workerSize; i++) {
+            workers[i] = threadFactory.newThread(new Worker(i));
+        }
+        for (Thread each : workers) {
+            each.start();
+        }
+    }
+    
+    /**
+     * Submit task of data source.
+     *
+     * <p>Block until queue of data source has space, except submitting in worker thread which runs task directly when queue is full.</p>
+     *
+     * @param dataSourceName data source name
+     * @param task task to be executed
+     * @param <T> type of task result
+     * @return future of task result
+     * @throws RejectedExecutionException rejected execution exception when scheduler closed or interrupted while waiting for queue space
+     */
+    public <T> ListenableFuture<T> submit(final String dataSourceName, final Callable<T> task) {
+        if (closed) {
+            throw new RejectedExecutionException("Data source task scheduler has been closed.");
+        }
+        ListenableFutureTask<T> result = ListenableFutureTask.create(task);
+        DataSourceTaskQueue taskQueue = getTaskQueue(dataSourceName);
+        ScheduledTask scheduledTask = new ScheduledTask(result, taskQueue, System.nanoTime());
+        if (isWorkerThread()) {
+            if (!taskQueue.offer(scheduledTask)) {
+                result.run();
+                return result;
+            }
+        } else {
+            try {
+                taskQueue.put(scheduledTask);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException(ex);
+            }
+        }
+        if (closed) {
+            taskQueue.cancelAll();
+        } else {
+            signal();
+        }
+        return result;
+    }
+    
+    private DataSourceTaskQueue getTaskQueue(final String dataSourceName) {
+        DataSourceTaskQueue result = taskQueues.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        synchronized (taskQueues) {
+            result = taskQueues.get(dataSourceName);
+            if (null == result) {
+                result = new DataSourceTaskQueue(maxConcurrencyPerDataSource, maxQueueSizePerDataSource, new DataSourceExecutorMetrics(dataSourceName));
+                taskQueues.put(dataSourceName, result);
+                taskQueueArray = taskQueues.values().toArray(new DataSourceTaskQueue[0]);
+            }
+            return result;
+        }
+    }
+    
+    private boolean isWorkerThread() {
+        Thread currentThread = Thread.currentThread();
+        for (Thread each : workers) {
+            if (each == currentThread) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void signal() {
+        lock.lock();
+        try {
+            signalVersion++;
+            taskAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Get executor metrics of data sources.
+     *
+     * @return executor metrics map, key is data source name
+     */
+    public Map<String, DataSourceExecutorMetrics> getMetrics() {
+        Map<String, DataSourceExecutorMetrics> result = new LinkedHashMap<>(taskQueues.size(), 1);
+        for (DataSourceTaskQueue each : taskQueueArray) {
+            result.put(each.getMetrics().getDataSourceName(), each.getMetrics());
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        lock.lock();
+        try {
+            signalVersion++;
+            taskAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (DataSourceTaskQueue each : taskQueueArray) {
+            each.cancelAll();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class Worker implements Runnable {
+        
+        private final int index;
+        
+        @Override
+        public void run() {
+            while (!closed) {
+                long version = signalVersion;
+                ScheduledTask task = poll();
+                if (null == task) {
+                    await(version);
+                } else {
+                    execute(task);
+                }
+            }
+        }
+        
+        private ScheduledTask poll() {
+            DataSourceTaskQueue[] queues = taskQueueArray;
+            for (int i = 0; i < queues.length; i++) {
+                ScheduledTask result = queues[(index + i) % queues.length].poll();
+                if (null != result) {
+                    return result;
+                }
+            }
+            return null;
+        }
+        
+        private void await(final long version) {
+            lock.lock();
+            try {
+                while (!closed && version == signalVersion) {
+                    taskAvailable.await();
+                }
+            } catch (final InterruptedException ignored) {
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        private void execute(final ScheduledTask task) {
+            DataSourceExecutorMetrics metrics = task.getTaskQueue().getMetrics();
+            long startNanos = System.nanoTime();
+            metrics.recordStarted(startNanos - task.getQueuedNanos());
+            try {
+                task.getFuture().run();
+            } finally {
+                metrics.recordCompleted(System.nanoTime() - startNanos);
+                task.getTaskQueue().finish();
+                // clear interrupt of cancelled task, which should not leak into next task of this worker
+                Thread.interrupted();
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ScheduledTask {
+        
+        private final ListenableFutureTask<?> future;
+        
+        private final DataSourceTaskQueue taskQueue;
+        
+        private final long queuedNanos;
+    }
+    
+    private static final class DataSourceTaskQueue {
+        
+        private final Queue<ScheduledTask> tasks = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicInteger runningCount = new AtomicInteger();
+        
+        private final int maxConcurrency;
+        
+        private final Semaphore capacity;
+        
+        @Getter
+        private final DataSourceExecutorMetrics metrics;
+        
+        DataSourceTaskQueue(final int maxConcurrency, final int maxQueueSize, final DataSourceExecutorMetrics metrics) {
+            this.maxConcurrency = maxConcurrency;
+            capacity = maxQueueSize > 0 ? new Semaphore(maxQueueSize) : null;
+            this.metrics = metrics;
+        }
+        
+        boolean offer(final ScheduledTask task) {
+            if (null != capacity && !capacity.tryAcquire()) {
+                return false;
+            }
+            enqueue(task);
+            return true;
+        }
+        
+        void put(final ScheduledTask task) throws InterruptedException {
+            if (null != capacity) {
+                capacity.acquire();
+            }
+            enqueue(task);
+        }
+        
+        private void enqueue(final ScheduledTask task) {
+            metrics.recordQueued();
+            tasks.offer(task);
+        }
+        
+        ScheduledTask poll() {
+            int current;
+            do {
+                current = runningCount.get();
+                if (current >= maxConcurrency) {
+                    return null;
+                }
+            } while (!runningCount.compareAndSet(current, current + 1));
+            ScheduledTask result = tasks.poll();
+            if (null == result) {
+                runningCount.decrementAndGet();
+                return null;
+            }
+            if (null != capacity) {
+                capacity.release();
+            }
+            return result;
+        }
+        
+        void finish() {
+            runningCount.decrementAndGet();
+        }
+        
+        void cancelAll() {
+            ScheduledTask each;
+            while (null != (each = tasks.poll())) {
+                metrics.recordCancelled();
+                each.getFuture().cancel(false);
+                if (null != capacity) {
+                    capacity.release();
+                }
+            }
+        }
+    }
+}
@@ -21,7 +21,9 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Executor thread factory builder.
@@ -33,6 +35,18 @@ public final class ExecutorThreadFactoryBuilder {
     
     private static final String DEFAULT_EXECUTOR_NAME_FORMAT = NAME_FORMAT_PREFIX + "%d";
     
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = loadVirtualThreadFactory();
+    
+    private static ThreadFactory loadVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factoryMethod = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factoryMethod.invoke(builder);
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ignored) {
+            return null;
+        }
+    }
+    
     /**
      * Build default thread factory.
      *
@@ -51,4 +65,32 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build thread factory with thread name format, which creates virtual threads if preferred and supported by current JVM.
+     *
+     * @param nameFormat thread name format
+     * @param virtualThreadPreferred whether prefer virtual thread
+     * @return thread factory
+     */
+    public static ThreadFactory build(final String nameFormat, final boolean virtualThreadPreferred) {
+        if (!virtualThreadPreferred || !isVirtualThreadSupported()) {
+            return build(nameFormat);
+        }
+        AtomicLong count = new AtomicLong();
+        return runnable -> {
+            Thread result = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+            result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, count.getAndIncrement()));
+            return result;
+        };
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isVirtualThreadSupported() {
+        return null != VIRTUAL_THREAD_FACTORY;
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics of data source, which are recorded by JDBC executor.
+ * 
+ * <p>
+ * Latency is exponentially weighted moving average of execution time, recent executions weight more than earlier ones.
+ * Statistics are held per schema, because data sources of different schemas may have same name.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceExecutionStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.2D;
+    
+    private static final Map<String, Map<String, DataSourceExecutionStatistics>> STATISTICS = new ConcurrentHashMap<>();
+    
+    @Getter
+    private final String dataSourceName;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong latencyNanosBits = new AtomicLong(Double.doubleToLongBits(0D));
+    
+    private final LongAdder sampleCount = new LongAdder();
+    
+    /**
+     * Get or create execution statistics of data source.
+     * 
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return execution statistics of data source
+     */
+    public static DataSourceExecutionStatistics getInstance(final String schemaName, final String dataSourceName) {
+        Map<String, DataSourceExecutionStatistics> schemaStatistics = STATISTICS.get(schemaName);
+        if (null == schemaStatistics) {
+            schemaStatistics = STATISTICS.computeIfAbsent(schemaName, key -> new ConcurrentHashMap<>());
+        }
+        DataSourceExecutionStatistics result = schemaStatistics.get(dataSourceName);
+        return null == result ? schemaStatistics.computeIfAbsent(dataSourceName, DataSourceExecutionStatistics::new) : result;
+    }
+    
+    /**
+     * Find execution statistics of data source.
+     * 
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @return execution statistics of data source
+     */
+    public static Optional<DataSourceExecutionStatistics> find(final String schemaName, final String dataSourceName) {
+        Map<String, DataSourceExecutionStatistics> schemaStatistics = STATISTICS.get(schemaName);
+        return null == schemaStatistics ? Optional.empty() : Optional.ofNullable(schemaStatistics.get(dataSourceName));
+    }
+    
+    /**
+     * Remove execution statistics of data sources.
+     * 
+     * @param schemaName schema name
+     * @param dataSourceNames data source names
+     */
+    public static void remove(final String schemaName, final Collection<String> dataSourceNames) {
+        Map<String, DataSourceExecutionStatistics> schemaStatistics = STATISTICS.get(schemaName);
+        if (null != schemaStatistics) {
+            dataSourceNames.forEach(schemaStatistics::remove);
+        }
+    }
+    
+    /**
+     * Remove execution statistics of all data sources in schema.
+     * 
+     * @param schemaName schema name
+     */
+    public static void remove(final String schemaName) {
+        STATISTICS.remove(schemaName);
+    }
+    
+    /**
+     * Record execution started.
+     * 
+     * @return start time in nanoseconds
+     */
+    public long recordStarted() {
+        inFlightCount.incrementAndGet();
+        return System.nanoTime();
+    }
+    
+    /**
+     * Record execution finished.
+     * 
+     * @param startNanos start time in nanoseconds
+     */
+    public void recordFinished(final long startNanos) {
+        inFlightCount.decrementAndGet();
+        recordLatency(System.nanoTime() - startNanos);
+    }
+    
+    /**
+     * Record latency of execution.
+     * 
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void recordLatency(final long latencyNanos) {
+        sampleCount.increment();
+        long current;
+        double updated;
+        do {
+            current = latencyNanosBits.get();
+            double latency = Double.longBitsToDouble(current);
+            updated = 0D == latency ? latencyNanos : latency + SMOOTHING_FACTOR * (latencyNanos - latency);
+        } while (!latencyNanosBits.compareAndSet(current, Double.doubleToLongBits(updated)));
+    }
+    
+    /**
+     * Get count of executions in flight.
+     * 
+     * @return count of executions in flight
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get moving average latency in nanoseconds.
+     * 
+     * @return moving average latency in nanoseconds, 0 if not sampled yet
+     */
+    public double getLatencyNanos() {
+        return Double.longBitsToDouble(latencyNanosBits.get());
+    }
+    
+    /**
+     * Get count of sampled executions.
+     * 
+     * @return count of sampled executions
+     */
+    public long getSampleCount() {
+        return sampleCount.sum();
+    }
+}
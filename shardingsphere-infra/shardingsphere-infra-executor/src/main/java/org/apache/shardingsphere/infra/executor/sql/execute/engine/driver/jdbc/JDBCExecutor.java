@@ -19,10 +19,15 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.deferred.DeferredQueryResult;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -68,4 +73,43 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute query, and bind query results in completion order of execution groups.
+     *
+     * <p>
+     * Query results are returned without waiting for all execution groups, each query result is bound to the next completed one when first accessed.
+     * Closing or cancelling any of the query results interrupts running execution groups, waits for them and closes all produced query results.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param finishedCallback callback when all execution groups finished or query results closed
+     * @param <T> class type of return value
+     * @return query results
+     * @throws SQLException SQL exception
+     */
+    public <T extends ExecuteResult> List<QueryResult> executeQueryInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> firstCallback,
+                                                                                      final JDBCExecutorCallback<T> callback, final Runnable finishedCallback) throws SQLException {
+        CompletionOrderedResults<T> completionOrderedResults = new CompletionOrderedResults<>(this::closeQueryResult, finishedCallback);
+        try {
+            executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, serial, completionOrderedResults);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+        int inputSize = executionGroupContext.getInputGroups().stream().mapToInt(each -> each.getInputs().size()).sum();
+        List<QueryResult> result = new ArrayList<>(inputSize);
+        for (int i = 0; i < inputSize; i++) {
+            result.add(new DeferredQueryResult(completionOrderedResults));
+        }
+        return result;
+    }
+    
+    private void closeQueryResult(final ExecuteResult executeResult) throws SQLException {
+        if (executeResult instanceof QueryResult) {
+            ((QueryResult) executeResult).close();
+        }
+    }
 }
@@ -52,6 +52,8 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     private final DatabaseType databaseType;
     
+    private final String schemaName;
+    
     private final SQLStatement sqlStatement;
     
     private final boolean isExceptionThrown;
@@ -82,7 +84,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
-            T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+            T result = executeSQLWithStatistics(jdbcExecutionUnit, sqlUnit.getSql());
             sqlExecutionHook.finishSuccess();
             finishReport(dataMap, jdbcExecutionUnit);
             return result;
@@ -100,6 +102,16 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    private T executeSQLWithStatistics(final JDBCExecutionUnit jdbcExecutionUnit, final String sql) throws SQLException {
+        DataSourceExecutionStatistics statistics = DataSourceExecutionStatistics.getInstance(schemaName, jdbcExecutionUnit.getExecutionUnit().getDataSourceName());
+        long startNanos = statistics.recordStarted();
+        try {
+            return executeSQL(sql, jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+        } finally {
+            statistics.recordFinished(startNanos);
+        }
+    }
+    
     private DataSourceMetaData getDataSourceMetaData(final DatabaseMetaData metaData) throws SQLException {
         String url = metaData.getURL();
         if (CACHED_DATASOURCE_METADATA.containsKey(url)) {
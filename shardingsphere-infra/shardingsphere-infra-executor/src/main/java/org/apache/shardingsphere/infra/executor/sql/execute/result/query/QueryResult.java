@@ -82,6 +82,14 @@ public interface QueryResult extends ExecuteResult {
      */
     QueryResultMetaData getMetaData();
     
+    /**
+     * Cancel fetching rows which are not read yet, when the rest rows are not needed any more.
+     *
+     * @throws SQLException SQL exception
+     */
+    default void cancel() throws SQLException {
+    }
+    
     /**
      * Close.
      *
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.deferred;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResults;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Deferred query result, which is bound to the next completed query result when first accessed.
+ *
+ * <p>Deferred query results of one execution share completion ordered results, closing or cancelling any of them closes all produced query results.</p>
+ */
+public final class DeferredQueryResult implements QueryResult {
+    
+    private final CompletionOrderedResults<? extends ExecuteResult> completionOrderedResults;
+    
+    private final QueryResultMetaData metaData = new DeferredQueryResultMetaData(this);
+    
+    private QueryResult delegate;
+    
+    private boolean bound;
+    
+    public DeferredQueryResult(final CompletionOrderedResults<? extends ExecuteResult> completionOrderedResults) {
+        this.completionOrderedResults = completionOrderedResults;
+    }
+    
+    private boolean bind() throws SQLException {
+        if (!bound) {
+            delegate = completionOrderedResults.hasNext() ? (QueryResult) completionOrderedResults.next() : null;
+            bound = true;
+        }
+        return null != delegate;
+    }
+    
+    QueryResult getDelegate() throws SQLException {
+        if (!bind()) {
+            throw new SQLException("Query result is not available, execution may be cancelled or failed.");
+        }
+        return delegate;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return bind() && delegate.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return getDelegate().getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getDelegate().getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return getDelegate().getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return getDelegate().wasNull();
+    }
+    
+    @Override
+    public QueryResultMetaData getMetaData() {
+        return null == delegate ? metaData : delegate.getMetaData();
+    }
+    
+    @Override
+    public void cancel() throws SQLException {
+        completionOrderedResults.close();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        completionOrderedResults.close();
+    }
+}
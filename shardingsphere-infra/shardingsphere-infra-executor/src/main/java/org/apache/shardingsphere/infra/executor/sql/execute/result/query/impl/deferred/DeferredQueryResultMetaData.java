@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.deferred;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.sql.SQLException;
+
+/**
+ * Deferred query result meta data.
+ */
+@RequiredArgsConstructor
+final class DeferredQueryResultMetaData implements QueryResultMetaData {
+    
+    private final DeferredQueryResult queryResult;
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return queryResult.getDelegate().getMetaData().getColumnCount();
+    }
+    
+    @Override
+    public String getTableName(final int columnIndex) throws SQLException {
+        return queryResult.getDelegate().getMetaData().getTableName(columnIndex);
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) throws SQLException {
+        return queryResult.getDelegate().getMetaData().getColumnName(columnIndex);
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return queryResult.getDelegate().getMetaData().getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public int getColumnType(final int columnIndex) throws SQLException {
+        return queryResult.getDelegate().getMetaData().getColumnType(columnIndex);
+    }
+    
+    @Override
+    public String getColumnTypeName(final int columnIndex) throws SQLException {
+        return queryResult.getDelegate().getMetaData().getColumnTypeName(columnIndex);
+    }
+    
+    @Override
+    public int getColumnLength(final int columnIndex) throws SQLException {
+        return queryResult.getDelegate().getMetaData().getColumnLength(columnIndex);
+    }
+    
+    @Override
+    public int getDecimals(final int columnIndex) throws SQLException {
+        return queryResult.getDelegate().getMetaData().getDecimals(columnIndex);
+    }
+    
+    @Override
+    public boolean isSigned(final int columnIndex) throws SQLException {
+        return queryResult.getDelegate().getMetaData().isSigned(columnIndex);
+    }
+    
+    @Override
+    public boolean isNotNull(final int columnIndex) throws SQLException {
+        return queryResult.getDelegate().getMetaData().isNotNull(columnIndex);
+    }
+    
+    @Override
+    public boolean isAutoIncrement(final int columnIndex) throws SQLException {
+        return queryResult.getDelegate().getMetaData().isAutoIncrement(columnIndex);
+    }
+}
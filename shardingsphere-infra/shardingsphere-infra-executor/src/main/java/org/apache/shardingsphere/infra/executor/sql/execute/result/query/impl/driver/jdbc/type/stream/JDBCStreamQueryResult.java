@@ -28,6 +28,7 @@ import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
@@ -39,6 +40,8 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     private final ResultSet resultSet;
     
+    private boolean exhausted;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
@@ -46,7 +49,11 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        if (resultSet.next()) {
+            return true;
+        }
+        exhausted = true;
+        return false;
     }
     
     @Override
@@ -122,6 +129,22 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
         return resultSet.wasNull();
     }
     
+    @Override
+    public void cancel() throws SQLException {
+        if (exhausted) {
+            return;
+        }
+        exhausted = true;
+        Statement statement = resultSet.getStatement();
+        try {
+            resultSet.close();
+        } finally {
+            if (null != statement) {
+                statement.close();
+            }
+        }
+    }
+    
     @Override
     public void close() throws SQLException {
         resultSet.close();
@@ -78,6 +78,21 @@ public final class ExecuteProcessEngine {
         }
     }
     
+    /**
+     * Create finisher, which finishes execute process after cleaned, such as when query results are consumed in completion order.
+     *
+     * @param executionID execution ID
+     * @return finisher
+     */
+    public static Runnable createFinisher(final String executionID) {
+        if (HANDLERS.isEmpty() || !ExecutorDataMap.getValue().containsKey(ExecuteProcessConstants.EXECUTE_ID.name())) {
+            return () -> {
+            };
+        }
+        ExecuteProcessReporter reporter = HANDLERS.iterator().next();
+        return () -> reporter.report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+    }
+    
     /**
      * Finish.
      *
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.junit.After;
@@ -29,6 +30,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -89,6 +91,55 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteWithDataSourceTaskScheduler() throws SQLException, InterruptedException {
+        ExecutorEngine executorEngine = new ExecutorEngine(2, 1, 16, false);
+        try {
+            Collection<ExecutionGroup<Object>> executionGroups = new LinkedList<>();
+            for (int i = 0; i < 4; i++) {
+                executionGroups.add(new ExecutionGroup<>(createMockedInputs(1), "ds_" + i % 2));
+            }
+            List<String> actual = executorEngine.execute(new ExecutionGroupContext<>(executionGroups), callback);
+            latch.await();
+            assertThat(actual.size(), is(4));
+            assertThat(executorEngine.getDataSourceTaskScheduler().getMetrics().size(), is(2));
+        } finally {
+            executorEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        AtomicInteger closedCount = new AtomicInteger();
+        CompletionOrderedResults<String> actual = new CompletionOrderedResults<>(each -> closedCount.incrementAndGet(), () -> {
+        });
+        executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, false, actual);
+        int count = 0;
+        while (actual.hasNext()) {
+            assertThat(actual.next(), is("succeed"));
+            count++;
+        }
+        latch.await();
+        assertThat(count, is(4));
+        actual.close();
+        assertThat(closedCount.get(), is(4));
+    }
+    
+    @Test
+    public void assertSerialExecuteInCompletionOrder() throws SQLException {
+        CompletionOrderedResults<String> actual = new CompletionOrderedResults<>(each -> {
+        }, () -> {
+        });
+        executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, true, actual);
+        assertThat(latch.getCount(), is(0L));
+        int count = 0;
+        while (actual.hasNext()) {
+            actual.next();
+            count++;
+        }
+        assertThat(count, is(4));
+    }
+    
     @Test
     public void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
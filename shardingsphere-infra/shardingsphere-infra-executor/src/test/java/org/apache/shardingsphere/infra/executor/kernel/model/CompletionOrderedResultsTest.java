@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import com.google.common.util.concurrent.SettableFuture;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompletionOrderedResultsTest {
+    
+    private final Collection<String> closedResults = new LinkedList<>();
+    
+    private final AtomicInteger finishedCount = new AtomicInteger();
+    
+    private final CompletionOrderedResults<String> actual = new CompletionOrderedResults<>(closedResults::add, finishedCount::incrementAndGet);
+    
+    @Test
+    public void assertNextInCompletionOrder() throws Exception {
+        Callable<Collection<String>> slowTask = actual.track(() -> Arrays.asList("slow_0", "slow_1"));
+        Callable<Collection<String>> fastTask = actual.track(() -> Collections.singletonList("fast"));
+        actual.addResults(Collections.singletonList("first"));
+        fastTask.call();
+        assertThat(actual.next(), is("first"));
+        assertThat(actual.next(), is("fast"));
+        slowTask.call();
+        assertThat(actual.next(), is("slow_0"));
+        assertThat(actual.next(), is("slow_1"));
+        assertFalse(actual.hasNext());
+        assertThat(finishedCount.get(), is(1));
+        actual.close();
+        assertThat(finishedCount.get(), is(1));
+        assertThat(closedResults.size(), is(4));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithFailedExecutionGroup() throws Exception {
+        Callable<Collection<String>> failedTask = actual.track(() -> {
+            throw new SQLException("failed");
+        });
+        actual.addResults(Collections.emptyList());
+        try {
+            failedTask.call();
+        } catch (final SQLException ignored) {
+        }
+        try {
+            actual.next();
+        } finally {
+            assertThat(finishedCount.get(), is(0));
+        }
+    }
+    
+    @Test
+    public void assertCloseWithNotStartedExecutionGroup() throws Exception {
+        Callable<Collection<String>> task = actual.track(() -> Collections.singletonList("not_started"));
+        SettableFuture<Collection<String>> future = SettableFuture.create();
+        actual.addFuture(future);
+        actual.addResults(Collections.singletonList("first"));
+        assertThat(actual.next(), is("first"));
+        actual.close();
+        assertTrue(future.isCancelled());
+        assertTrue(task.call().isEmpty());
+        assertFalse(actual.hasNext());
+        assertThat(closedResults, is(Collections.singletonList("first")));
+        assertThat(finishedCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertCloseWaitsForRunningExecutionGroup() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Callable<Collection<String>> task = actual.track(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (final InterruptedException ignored) {
+            }
+            return Collections.singletonList("late");
+        });
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Collection<String>> future = executorService.submit(task);
+            actual.addFuture(future);
+            actual.addResults(Collections.emptyList());
+            started.await();
+            actual.close();
+            assertTrue(future.isCancelled());
+            assertThat(closedResults, is(Collections.singletonList("late")));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceTaskSchedulerTest {
+    
+    private final DataSourceTaskScheduler scheduler = new DataSourceTaskScheduler(4, 2, 16, false);
+    
+    @After
+    public void tearDown() {
+        scheduler.close();
+    }
+    
+    @Test
+    public void assertSubmitWithMaxConcurrency() throws InterruptedException, ExecutionException, TimeoutException {
+        AtomicInteger runningCount = new AtomicInteger();
+        AtomicInteger maxRunningCount = new AtomicInteger();
+        Collection<ListenableFuture<Integer>> futures = new ArrayList<>(10);
+        for (int i = 0; i < 10; i++) {
+            futures.add(scheduler.submit("ds_0", () -> {
+                int current = runningCount.incrementAndGet();
+                maxRunningCount.accumulateAndGet(current, Math::max);
+                Thread.sleep(10L);
+                return runningCount.decrementAndGet();
+            }));
+        }
+        for (ListenableFuture<Integer> each : futures) {
+            each.get(10L, TimeUnit.SECONDS);
+        }
+        assertTrue(maxRunningCount.get() <= 2);
+        DataSourceExecutorMetrics actual = scheduler.getMetrics().get("ds_0");
+        awaitInactive(actual);
+        assertThat(actual.getCompletedTaskCount(), is(10L));
+        assertThat(actual.getQueueDepth(), is(0));
+        assertThat(actual.getActiveCount(), is(0));
+        assertTrue(actual.getTotalRunNanos() > 0L);
+    }
+    
+    private void awaitInactive(final DataSourceExecutorMetrics metrics) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000L;
+        while (metrics.getActiveCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1L);
+        }
+    }
+    
+    @Test
+    public void assertSubmitWhenOtherDataSourceBlocked() throws InterruptedException, ExecutionException, TimeoutException {
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        Collection<ListenableFuture<Boolean>> blockedFutures = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            blockedFutures.add(scheduler.submit("ds_0", () -> blockLatch.await(10L, TimeUnit.SECONDS)));
+        }
+        assertThat(scheduler.submit("ds_1", () -> "ds_1").get(10L, TimeUnit.SECONDS), is("ds_1"));
+        assertThat(scheduler.getMetrics().get("ds_0").getQueueDepth() + scheduler.getMetrics().get("ds_0").getActiveCount(), is(4));
+        assertTrue(scheduler.getMetrics().get("ds_0").getActiveCount() <= 2);
+        blockLatch.countDown();
+        for (ListenableFuture<Boolean> each : blockedFutures) {
+            assertTrue(each.get(10L, TimeUnit.SECONDS));
+        }
+    }
+    
+    @Test
+    public void assertCloseWithQueuedTasks() {
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        scheduler.submit("ds_0", () -> blockLatch.await(10L, TimeUnit.SECONDS));
+        scheduler.submit("ds_0", () -> blockLatch.await(10L, TimeUnit.SECONDS));
+        ListenableFuture<Boolean> queuedFuture = scheduler.submit("ds_0", () -> blockLatch.await(10L, TimeUnit.SECONDS));
+        scheduler.close();
+        blockLatch.countDown();
+        assertTrue(queuedFuture.isCancelled() || queuedFuture.isDone());
+        assertFalse(scheduler.getMetrics().get("ds_0").getQueueDepth() > 0);
+    }
+    
+    @Test
+    public void assertInterruptOfCancelledTaskNotLeakedIntoNextTask() throws InterruptedException, ExecutionException, TimeoutException {
+        DataSourceTaskScheduler singleWorkerScheduler = new DataSourceTaskScheduler(1, 1, 16, false);
+        try {
+            CountDownLatch startedLatch = new CountDownLatch(1);
+            ListenableFuture<Boolean> cancelledFuture = singleWorkerScheduler.submit("ds_0", () -> {
+                startedLatch.countDown();
+                while (!Thread.currentThread().isInterrupted()) {
+                    Thread.yield();
+                }
+                return true;
+            });
+            assertTrue(startedLatch.await(10L, TimeUnit.SECONDS));
+            cancelledFuture.cancel(true);
+            assertFalse(singleWorkerScheduler.submit("ds_0", () -> Thread.currentThread().isInterrupted()).get(10L, TimeUnit.SECONDS));
+        } finally {
+            singleWorkerScheduler.close();
+        }
+    }
+    
+    @Test(expected = RejectedExecutionException.class)
+    public void assertSubmitAfterClose() {
+        scheduler.close();
+        scheduler.submit("ds_0", () -> "ds_0");
+    }
+}
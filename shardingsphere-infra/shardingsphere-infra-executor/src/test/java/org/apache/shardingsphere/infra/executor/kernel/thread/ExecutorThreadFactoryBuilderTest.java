@@ -41,4 +41,11 @@ public final class ExecutorThreadFactoryBuilderTest {
         Thread thread = threadFactory.newThread(() -> { });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    public void assertBuildWithVirtualThreadPreferred() {
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build("test-%d", true);
+        assertThat(threadFactory.newThread(() -> { }).getName(), is("ShardingSphere-test-0"));
+        assertThat(threadFactory.newThread(() -> { }).getName(), is("ShardingSphere-test-1"));
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceExecutionStatisticsTest {
+    
+    @Test
+    public void assertGetInstance() {
+        assertFalse(DataSourceExecutionStatistics.find("get_instance_schema", "ds").isPresent());
+        DataSourceExecutionStatistics actual = DataSourceExecutionStatistics.getInstance("get_instance_schema", "ds");
+        assertSame(actual, DataSourceExecutionStatistics.getInstance("get_instance_schema", "ds"));
+        assertTrue(DataSourceExecutionStatistics.find("get_instance_schema", "ds").isPresent());
+        assertThat(actual.getDataSourceName(), is("ds"));
+    }
+    
+    @Test
+    public void assertGetInstanceWithDifferentSchemas() {
+        DataSourceExecutionStatistics actual = DataSourceExecutionStatistics.getInstance("foo_schema", "ds");
+        actual.recordLatency(1000L);
+        assertNotSame(actual, DataSourceExecutionStatistics.getInstance("bar_schema", "ds"));
+        assertThat(DataSourceExecutionStatistics.getInstance("bar_schema", "ds").getSampleCount(), is(0L));
+    }
+    
+    @Test
+    public void assertRemoveDataSources() {
+        DataSourceExecutionStatistics.getInstance("remove_ds_schema", "foo_ds");
+        DataSourceExecutionStatistics.getInstance("remove_ds_schema", "bar_ds");
+        DataSourceExecutionStatistics.remove("remove_ds_schema", Collections.singleton("foo_ds"));
+        assertFalse(DataSourceExecutionStatistics.find("remove_ds_schema", "foo_ds").isPresent());
+        assertTrue(DataSourceExecutionStatistics.find("remove_ds_schema", "bar_ds").isPresent());
+    }
+    
+    @Test
+    public void assertRemoveSchema() {
+        DataSourceExecutionStatistics.getInstance("remove_schema", "ds");
+        DataSourceExecutionStatistics.remove("remove_schema");
+        assertFalse(DataSourceExecutionStatistics.find("remove_schema", "ds").isPresent());
+    }
+    
+    @Test
+    public void assertRecordStartedAndFinished() {
+        DataSourceExecutionStatistics actual = DataSourceExecutionStatistics.getInstance("record_schema", "ds");
+        long startNanos = actual.recordStarted();
+        assertThat(actual.getInFlightCount(), is(1));
+        actual.recordFinished(startNanos);
+        assertThat(actual.getInFlightCount(), is(0));
+        assertThat(actual.getSampleCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRecordLatency() {
+        DataSourceExecutionStatistics actual = DataSourceExecutionStatistics.getInstance("latency_schema", "ds");
+        assertThat(actual.getLatencyNanos(), is(0D));
+        actual.recordLatency(1000L);
+        assertThat(actual.getLatencyNanos(), is(1000D));
+        actual.recordLatency(2000L);
+        assertThat(actual.getLatencyNanos(), is(1200D));
+        assertThat(actual.getSampleCount(), is(2L));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.deferred;
+
+import com.google.common.util.concurrent.SettableFuture;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResults;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class DeferredQueryResultTest {
+    
+    @Test
+    public void assertBindInAccessOrder() throws SQLException {
+        QueryResult firstQueryResult = mockQueryResult("first");
+        QueryResult secondQueryResult = mockQueryResult("second");
+        CompletionOrderedResults<QueryResult> completionOrderedResults = createCompletionOrderedResults();
+        completionOrderedResults.addResults(Arrays.asList(firstQueryResult, secondQueryResult));
+        DeferredQueryResult second = new DeferredQueryResult(completionOrderedResults);
+        assertThat(second.getMetaData().getColumnLabel(1), is("first_label"));
+        assertTrue(second.next());
+        assertThat(second.getValue(1, Object.class), is("first"));
+        DeferredQueryResult first = new DeferredQueryResult(completionOrderedResults);
+        assertTrue(first.next());
+        assertThat(first.getValue(1, Object.class), is("second"));
+        first.close();
+        verify(firstQueryResult).close();
+        verify(secondQueryResult).close();
+    }
+    
+    @Test
+    public void assertNextWithoutQueryResult() throws SQLException {
+        DeferredQueryResult actual = new DeferredQueryResult(createCompletionOrderedResults());
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetValueWithoutQueryResult() throws SQLException {
+        new DeferredQueryResult(createCompletionOrderedResults()).getValue(1, Object.class);
+    }
+    
+    @Test
+    public void assertCancel() throws Exception {
+        QueryResult queryResult = mockQueryResult("first");
+        QueryResult lateQueryResult = mock(QueryResult.class);
+        CompletionOrderedResults<QueryResult> completionOrderedResults = createCompletionOrderedResults();
+        Callable<Collection<QueryResult>> lateTask = completionOrderedResults.track(() -> Collections.singletonList(lateQueryResult));
+        SettableFuture<Collection<QueryResult>> future = SettableFuture.create();
+        completionOrderedResults.addFuture(future);
+        completionOrderedResults.addResults(Collections.singletonList(queryResult));
+        DeferredQueryResult first = new DeferredQueryResult(completionOrderedResults);
+        assertTrue(first.next());
+        DeferredQueryResult second = new DeferredQueryResult(completionOrderedResults);
+        first.cancel();
+        second.cancel();
+        verify(queryResult).close();
+        assertTrue(future.isCancelled());
+        assertTrue(lateTask.call().isEmpty());
+        verify(lateQueryResult, never()).close();
+        assertFalse(second.next());
+    }
+    
+    private CompletionOrderedResults<QueryResult> createCompletionOrderedResults() {
+        return new CompletionOrderedResults<>(QueryResult::close, () -> {
+        });
+    }
+    
+    private QueryResult mockQueryResult(final String value) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.next()).thenReturn(true);
+        when(result.getValue(1, Object.class)).thenReturn(value);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnLabel(1)).thenReturn(value + "_label");
+        when(result.getMetaData()).thenReturn(metaData);
+        return result;
+    }
+}
@@ -26,6 +26,7 @@ import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
@@ -35,6 +36,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -244,6 +246,31 @@ public final class JDBCStreamQueryResultTest {
         assertTrue(queryResult.wasNull());
     }
     
+    @Test
+    public void assertCancel() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        new JDBCStreamQueryResult(resultSet).cancel();
+        verify(resultSet).close();
+        verify(statement).close();
+        verify(statement, never()).cancel();
+    }
+    
+    @Test
+    public void assertCancelAfterExhausted() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        assertFalse(queryResult.next());
+        queryResult.cancel();
+        verify(resultSet, never()).close();
+        verify(statement, never()).close();
+        verify(statement, never()).cancel();
+    }
+    
     private ResultSet getResultSet() throws SQLException {
         ResultSet result = mock(ResultSet.class);
         when(result.next()).thenReturn(true).thenReturn(false);
@@ -32,7 +32,6 @@ import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
 import org.apache.shardingsphere.infra.federation.optimizer.ShardingSphereOptimizer;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -65,9 +64,9 @@ public final class CustomizedFilterableExecutor implements FederationExecutor {
         return null;
     }
     
-    private Enumerable<Object[]> execute(final SQLStatement sqlStatement) {
+    private Enumerable<Object[]> execute(final LogicSQL logicSQL) {
         // TODO
-        return execute(optimizer.optimize(schemaName, sqlStatement));
+        return execute(optimizer.optimize(schemaName, logicSQL.getSql(), logicSQL.getSqlStatementContext().getSqlStatement()));
     }
     
     private Enumerable<Object[]> execute(final RelNode bestPlan) {
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.infra.federation.executor.original.table;
 
-import com.google.common.collect.ImmutableList;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.AbstractEnumerable;
 import org.apache.calcite.linq4j.Enumerable;
@@ -64,6 +63,8 @@ import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine
 import org.apache.shardingsphere.infra.federation.executor.original.row.FilterableRowEnumerator;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.plan.FederationPlanCache;
+import org.apache.shardingsphere.infra.federation.optimizer.plan.FederationPushDownSQL;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -74,12 +75,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -129,10 +132,8 @@ public final class FilterableTableScanExecutor {
     public Enumerable<Object[]> execute(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext) {
         String schemaName = executorContext.getSchemaName();
         DatabaseType databaseType = DatabaseTypeRegistry.getTrunkDatabaseType(optimizerContext.getParserContexts().get(schemaName).getDatabaseType().getName());
-        SqlString sqlString = createSQLString(tableMetaData, scanContext, databaseType);
-        // TODO replace sql parse with sql convert
-        SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType.getName(), optimizerContext.getSqlParserRule()).parse(sqlString.getSql(), false);
-        LogicSQL logicSQL = createLogicSQL(executorContext.getMetaDataMap(), sqlString.getSql(), getParameters(sqlString.getDynamicParameters()), sqlStatement);
+        FederationPushDownSQL pushDownSQL = getPushDownSQL(tableMetaData, scanContext, databaseType);
+        LogicSQL logicSQL = createLogicSQL(executorContext.getMetaDataMap(), pushDownSQL.getSql(), getParameters(pushDownSQL.getParameterIndexes()), pushDownSQL.getSqlStatement());
         ShardingSphereMetaData metaData = executorContext.getMetaDataMap().get(schemaName);
         ConfigurationProperties props = executorContext.getProps();
         ExecutionContext context = new KernelProcessor().generateExecutionContext(logicSQL, metaData, props);
@@ -152,6 +153,22 @@ public final class FilterableTableScanExecutor {
         }
     }
     
+    private FederationPushDownSQL getPushDownSQL(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext, final DatabaseType databaseType) {
+        FederationPlanCache planCache = optimizerContext.getPlannerContexts().get(executorContext.getSchemaName()).getPlanCache();
+        String tableScanKey = String.join(":", tableMetaData.getName(), String.valueOf(scanContext.getFilters()), Arrays.toString(scanContext.getProjects()));
+        Optional<FederationPushDownSQL> cachedPushDownSQL = planCache.findPushDownSQL(tableScanKey);
+        if (cachedPushDownSQL.isPresent()) {
+            return cachedPushDownSQL.get();
+        }
+        SqlString sqlString = createSQLString(tableMetaData, scanContext, databaseType);
+        // TODO replace sql parse with sql convert
+        SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType.getName(), optimizerContext.getSqlParserRule()).parse(sqlString.getSql(), false);
+        List<Integer> parameterIndexes = null == sqlString.getDynamicParameters() ? Collections.emptyList() : sqlString.getDynamicParameters();
+        FederationPushDownSQL result = new FederationPushDownSQL(sqlString.getSql(), parameterIndexes, sqlStatement);
+        planCache.putPushDownSQL(tableScanKey, result);
+        return result;
+    }
+    
     private SqlString createSQLString(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext, final DatabaseType databaseType) {
         SqlDialect sqlDialect = SQL_DIALECTS.getOrDefault(databaseType.getClass(), MysqlSqlDialect.DEFAULT);
         return new RelToSqlConverter(sqlDialect).visitRoot(createRelNode(tableMetaData, scanContext)).asStatement().toSqlString(sqlDialect);
@@ -177,12 +194,12 @@ public final class FilterableTableScanExecutor {
         }
     }
     
-    private List<Object> getParameters(final ImmutableList<Integer> parameterIndices) {
-        if (null == parameterIndices) {
+    private List<Object> getParameters(final List<Integer> parameterIndexes) {
+        if (parameterIndexes.isEmpty()) {
             return Collections.emptyList();
         }
-        List<Object> result = new ArrayList<>();
-        for (Integer each : parameterIndices) {
+        List<Object> result = new ArrayList<>(parameterIndexes.size());
+        for (Integer each : parameterIndexes) {
             result.add(executorContext.getParameters().get(each));
         }
         return result;
@@ -38,10 +38,13 @@ import org.apache.calcite.util.Pair;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.converter.SQLNodeConverterEngine;
+import org.apache.shardingsphere.infra.federation.optimizer.plan.FederationPlanCache;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * ShardingSphere optimizer.
@@ -71,6 +74,26 @@ public final class ShardingSphereOptimizer {
         }
     }
     
+    /**
+     * Optimize query execution plan, and reuse cached plan for the same SQL.
+     *
+     * @param schemaName schema name
+     * @param sql SQL
+     * @param sqlStatement SQL statement to be optimized
+     * @return optimized relational node
+     */
+    public RelNode optimize(final String schemaName, final String sql, final SQLStatement sqlStatement) {
+        FederationPlanCache planCache = context.getPlannerContexts().get(schemaName).getPlanCache();
+        String normalizedSQL = SQLUtil.trimSemicolon(sql.trim());
+        Optional<RelNode> cachedPlan = planCache.findOptimizedPlan(normalizedSQL);
+        if (cachedPlan.isPresent()) {
+            return cachedPlan.get();
+        }
+        RelNode result = optimize(schemaName, sqlStatement);
+        planCache.putOptimizedPlan(normalizedSQL, result);
+        return result;
+    }
+    
     private RelNode optimize(final String schemaName, final RelNode queryPlan, final RelDataType resultType) {
         RelOptPlanner planner = context.getPlannerContexts().get(schemaName).getConverter().getCluster().getPlanner();
         RelNode node = planner.changeTraits(queryPlan, context.getPlannerContexts().get(schemaName).getConverter().getCluster().traitSet().replace(EnumerableConvention.INSTANCE));
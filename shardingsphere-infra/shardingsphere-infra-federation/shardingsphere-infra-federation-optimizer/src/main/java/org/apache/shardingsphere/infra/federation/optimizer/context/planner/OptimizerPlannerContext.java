@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.infra.federation.optimizer.plan.FederationPlanCache;
 
 /**
  * Optimize planner context.
@@ -32,4 +33,6 @@ public final class OptimizerPlannerContext {
     private final SqlValidator validator;
     
     private final SqlToRelConverter converter;
+    
+    private final FederationPlanCache planCache = new FederationPlanCache();
 }
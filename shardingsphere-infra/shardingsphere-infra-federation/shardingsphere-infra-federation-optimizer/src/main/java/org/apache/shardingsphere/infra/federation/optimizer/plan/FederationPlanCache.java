@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.plan;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.calcite.rel.RelNode;
+
+import java.util.Optional;
+
+/**
+ * Federation plan cache.
+ *
+ * <p>
+ * Plan cache belongs to optimizer planner context of schema, it is invalidated with the planner context which is recreated when meta data refreshed.
+ * </p>
+ */
+public final class FederationPlanCache {
+    
+    private static final int INITIAL_CAPACITY = 128;
+    
+    private static final long MAXIMUM_SIZE = 1024L;
+    
+    private final Cache<String, RelNode> optimizedPlans = CacheBuilder.newBuilder().softValues().initialCapacity(INITIAL_CAPACITY).maximumSize(MAXIMUM_SIZE).build();
+    
+    private final Cache<String, FederationPushDownSQL> pushDownSQLs = CacheBuilder.newBuilder().softValues().initialCapacity(INITIAL_CAPACITY).maximumSize(MAXIMUM_SIZE).build();
+    
+    /**
+     * Find optimized plan.
+     *
+     * @param sql SQL
+     * @return optimized plan
+     */
+    public Optional<RelNode> findOptimizedPlan(final String sql) {
+        return Optional.ofNullable(optimizedPlans.getIfPresent(sql));
+    }
+    
+    /**
+     * Put optimized plan.
+     *
+     * @param sql SQL
+     * @param optimizedPlan optimized plan
+     */
+    public void putOptimizedPlan(final String sql, final RelNode optimizedPlan) {
+        optimizedPlans.put(sql, optimizedPlan);
+    }
+    
+    /**
+     * Find push down SQL.
+     *
+     * @param tableScanKey key of table scan, which consists of table name, filters and projects
+     * @return push down SQL
+     */
+    public Optional<FederationPushDownSQL> findPushDownSQL(final String tableScanKey) {
+        return Optional.ofNullable(pushDownSQLs.getIfPresent(tableScanKey));
+    }
+    
+    /**
+     * Put push down SQL.
+     *
+     * @param tableScanKey key of table scan, which consists of table name, filters and projects
+     * @param pushDownSQL push down SQL
+     */
+    public void putPushDownSQL(final String tableScanKey, final FederationPushDownSQL pushDownSQL) {
+        pushDownSQLs.put(tableScanKey, pushDownSQL);
+    }
+}
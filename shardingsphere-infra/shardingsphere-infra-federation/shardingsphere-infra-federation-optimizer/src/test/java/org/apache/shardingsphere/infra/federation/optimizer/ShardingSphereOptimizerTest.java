@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer;
 
+import org.apache.calcite.rel.RelNode;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
@@ -163,6 +164,15 @@ public final class ShardingSphereOptimizerTest {
         assertThat(actual.replaceAll("\\s*", ""), is(expected.replaceAll("\\s*", "")));
     }
     
+    @Test
+    public void assertSelectWhereAllFieldsWithCachedPlan() {
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(
+                DatabaseTypeRegistry.getTrunkDatabaseTypeName(new H2DatabaseType()), sqlParserRule);
+        SQLStatement sqlStatement = sqlParserEngine.parse(SELECT_WHERE_ALL_FIELDS, false);
+        RelNode expected = optimizer.optimize(schemaName, SELECT_WHERE_ALL_FIELDS, sqlStatement);
+        assertThat(optimizer.optimize(schemaName, SELECT_WHERE_ALL_FIELDS + ";", sqlStatement), is(expected));
+    }
+    
     @Test
     public void assertSelectWhereSingleField() {
         ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(
@@ -17,6 +17,10 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -31,7 +35,9 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLXML;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -41,21 +47,52 @@ import java.util.List;
  */
 public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
     
-    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    @Getter(AccessLevel.PROTECTED)
+    private final long maxMemoryBytes;
+    
+    private final PeekingIterator<MemoryQueryResultRow> memoryResultSetRows;
     
     private MemoryQueryResultRow currentResultSetRow;
     
+    private final Collection<AutoCloseable> resources = new LinkedList<>();
+    
     private boolean wasNull;
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        List<MemoryQueryResultRow> memoryQueryResultRowList = init(rule, schema, sqlStatementContext, queryResults);
-        memoryResultSetRows = memoryQueryResultRowList.iterator();
-        if (!memoryQueryResultRowList.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRowList.get(0);
+        this(rule, schema, sqlStatementContext, queryResults, 0L);
+    }
+    
+    protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, 
+                                 final List<QueryResult> queryResults, final long maxMemoryBytes) throws SQLException {
+        this.maxMemoryBytes = maxMemoryBytes;
+        memoryResultSetRows = Iterators.peekingIterator(init(rule, schema, sqlStatementContext, queryResults));
+        if (memoryResultSetRows.hasNext()) {
+            currentResultSetRow = memoryResultSetRows.peek();
         }
     }
     
-    protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
+    /**
+     * Initialize memory query result rows.
+     * 
+     * <p>Implementations may spill rows to temporary files when max memory bytes is greater than 0 and return a streaming iterator.</p>
+     * 
+     * @param rule rule
+     * @param schema ShardingSphere schema
+     * @param sqlStatementContext SQL statement context
+     * @param queryResults query results
+     * @return iterator of memory query result rows
+     * @throws SQLException SQL exception
+     */
+    protected abstract Iterator<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
+    
+    /**
+     * Register resource which is released when merged result closed, such as spill files.
+     *
+     * @param resource resource to be registered
+     */
+    protected final void registerResource(final AutoCloseable resource) {
+        resources.add(resource);
+    }
     
     @Override
     public final boolean next() {
@@ -93,4 +130,23 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public final void close() throws SQLException {
+        Collection<Exception> exceptions = new LinkedList<>();
+        for (AutoCloseable each : resources) {
+            try {
+                each.close();
+            } catch (final Exception ex) {
+                exceptions.add(ex);
+            }
+        }
+        resources.clear();
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException("Close memory merged result failed.");
+        exceptions.forEach(ex::addSuppressed);
+        throw ex;
+    }
 }
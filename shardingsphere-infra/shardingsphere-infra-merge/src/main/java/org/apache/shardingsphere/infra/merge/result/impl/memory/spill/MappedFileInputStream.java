@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Input stream which reads file through memory mapped regions.
+ */
+final class MappedFileInputStream extends InputStream {
+    
+    private static final long REGION_BYTES = 64L * 1024 * 1024;
+    
+    private final FileChannel channel;
+    
+    private final long length;
+    
+    private long regionPosition;
+    
+    private MappedByteBuffer region;
+    
+    MappedFileInputStream(final FileChannel channel) throws IOException {
+        this.channel = channel;
+        length = channel.size();
+    }
+    
+    @Override
+    public int read() throws IOException {
+        return nextRegionIfNecessary() ? region.get() & 0xFF : -1;
+    }
+    
+    @Override
+    public int read(final byte[] bytes, final int offset, final int len) throws IOException {
+        if (0 == len) {
+            return 0;
+        }
+        if (!nextRegionIfNecessary()) {
+            return -1;
+        }
+        int result = Math.min(len, region.remaining());
+        region.get(bytes, offset, result);
+        return result;
+    }
+    
+    private boolean nextRegionIfNecessary() throws IOException {
+        if (null != region && region.hasRemaining()) {
+            return true;
+        }
+        if (regionPosition >= length) {
+            return false;
+        }
+        long regionSize = Math.min(REGION_BYTES, length - regionPosition);
+        region = channel.map(MapMode.READ_ONLY, regionPosition, regionSize);
+        regionPosition += regionSize;
+        return true;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Temporary file of spilled rows.
+ *
+ * <p>
+ * Rows are appended first, then read back once in the written order.
+ * The file is deleted right after it is opened, so nothing is left behind if the process exits; where open files can not be deleted, it is deleted when closed.
+ * </p>
+ */
+public final class SpillFile implements AutoCloseable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-merge-";
+    
+    private static final String FILE_SUFFIX = ".spill";
+    
+    private final Path path;
+    
+    private final FileChannel channel;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    private boolean deleted;
+    
+    @Getter
+    private long rowCount;
+    
+    public SpillFile() throws IOException {
+        path = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (final IOException ex) {
+            if (null != output) {
+                output.close();
+            }
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+        deleted = deleteEagerly();
+    }
+    
+    private boolean deleteEagerly() {
+        try {
+            Files.delete(path);
+            return true;
+        } catch (final IOException ignored) {
+            return false;
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        Preconditions.checkState(null != output, "Spill file `%s` has been read.", path);
+        SpillRowCodec.write(output, row);
+        rowCount++;
+    }
+    
+    /**
+     * Read rows in written order.
+     *
+     * @return iterator of rows
+     * @throws IOException IO exception
+     */
+    public Iterator<Object[]> read() throws IOException {
+        Preconditions.checkState(null != output, "Spill file `%s` has been read.", path);
+        output.close();
+        output = null;
+        input = new DataInputStream(new BufferedInputStream(new MappedFileInputStream(channel)));
+        return new RowIterator();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            if (null != output) {
+                output.close();
+                output = null;
+            }
+            if (null != input) {
+                input.close();
+                input = null;
+            }
+            channel.close();
+        } finally {
+            if (!deleted) {
+                Files.deleteIfExists(path);
+                deleted = true;
+            }
+        }
+    }
+    
+    private final class RowIterator implements Iterator<Object[]> {
+        
+        private long remainingRowCount = rowCount;
+        
+        RowIterator() throws IOException {
+            closeIfFinished();
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return remainingRowCount > 0;
+        }
+        
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                Object[] result = SpillRowCodec.read(input);
+                remainingRowCount--;
+                closeIfFinished();
+                return result;
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        
+        private void closeIfFinished() throws IOException {
+            if (0 == remainingRowCount) {
+                SpillFile.this.close();
+            }
+        }
+    }
+}
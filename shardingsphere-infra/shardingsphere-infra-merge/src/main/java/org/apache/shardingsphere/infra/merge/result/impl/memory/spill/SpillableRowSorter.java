@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Row sorter which spills sorted runs to temporary files when memory budget exceeded, and merges them with external merge sort.
+ *
+ * <p>Rows which can not be spilled are kept in memory and merged with the last run.</p>
+ */
+@RequiredArgsConstructor
+public final class SpillableRowSorter implements AutoCloseable {
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final long maxMemoryBytes;
+    
+    private final List<MemoryQueryResultRow> rows = new ArrayList<>();
+    
+    private final List<MemoryQueryResultRow> unspillableRows = new ArrayList<>();
+    
+    private final List<SpillFile> runs = new ArrayList<>();
+    
+    private long usedBytes;
+    
+    @Getter
+    private long rowCount;
+    
+    /**
+     * Add row.
+     *
+     * @param row row to be added
+     * @throws IOException IO exception
+     */
+    public void add(final MemoryQueryResultRow row) throws IOException {
+        rowCount++;
+        if (maxMemoryBytes <= 0) {
+            rows.add(row);
+            return;
+        }
+        if (!SpillRowCodec.isSpillable(row.getData())) {
+            unspillableRows.add(row);
+            return;
+        }
+        rows.add(row);
+        usedBytes += SpillRowCodec.estimateSize(row.getData());
+        if (usedBytes > maxMemoryBytes) {
+            spill();
+        }
+    }
+    
+    private void spill() throws IOException {
+        rows.sort(comparator);
+        SpillFile run = new SpillFile();
+        runs.add(run);
+        for (MemoryQueryResultRow each : rows) {
+            run.write(each.getData());
+        }
+        rows.clear();
+        usedBytes = 0L;
+    }
+    
+    /**
+     * Get count of sorted runs spilled to temporary files.
+     *
+     * @return spilled run count
+     */
+    public int getSpilledRunCount() {
+        return runs.size();
+    }
+    
+    /**
+     * Sort all added rows.
+     *
+     * @return iterator of sorted rows
+     * @throws IOException IO exception
+     */
+    public Iterator<MemoryQueryResultRow> sort() throws IOException {
+        rows.addAll(unspillableRows);
+        unspillableRows.clear();
+        rows.sort(comparator);
+        if (runs.isEmpty()) {
+            return rows.iterator();
+        }
+        List<Iterator<MemoryQueryResultRow>> sortedRuns = new ArrayList<>(runs.size() + 1);
+        for (SpillFile each : runs) {
+            sortedRuns.add(Iterators.transform(each.read(), MemoryQueryResultRow::new));
+        }
+        sortedRuns.add(new ArrayList<>(rows).iterator());
+        rows.clear();
+        return new MergedRunsIterator(sortedRuns);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        rows.clear();
+        unspillableRows.clear();
+        IOException exception = null;
+        for (SpillFile each : runs) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                exception = ex;
+            }
+        }
+        runs.clear();
+        if (null != exception) {
+            throw exception;
+        }
+    }
+    
+    private final class MergedRunsIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final PriorityQueue<SortedRun> queue;
+        
+        MergedRunsIterator(final List<Iterator<MemoryQueryResultRow>> sortedRuns) {
+            queue = new PriorityQueue<>(sortedRuns.size());
+            for (int i = 0; i < sortedRuns.size(); i++) {
+                PeekingIterator<MemoryQueryResultRow> rows = Iterators.peekingIterator(sortedRuns.get(i));
+                if (rows.hasNext()) {
+                    queue.offer(new SortedRun(rows, i));
+                }
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            SortedRun sortedRun = queue.poll();
+            if (null == sortedRun) {
+                throw new NoSuchElementException();
+            }
+            MemoryQueryResultRow result = sortedRun.getRows().next();
+            if (sortedRun.getRows().hasNext()) {
+                queue.offer(sortedRun);
+            }
+            return result;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private final class SortedRun implements Comparable<SortedRun> {
+        
+        private final PeekingIterator<MemoryQueryResultRow> rows;
+        
+        private final int order;
+        
+        @Override
+        public int compareTo(final SortedRun other) {
+            int result = comparator.compare(rows.peek(), other.rows.peek());
+            return 0 == result ? Integer.compare(order, other.order) : result;
+        }
+    }
+}
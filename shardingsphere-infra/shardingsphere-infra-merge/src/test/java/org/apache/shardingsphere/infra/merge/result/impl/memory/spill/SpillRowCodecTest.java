@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillRowCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] expected = new Object[]{null, 1, 2L, "foo", new BigDecimal("-12.345"), 1.5D, 2.5F, (short) 3, (byte) 4, true, new byte[]{1, 2},
+            new BigInteger("123456789012345678901234567890"), timestamp, new Date(2000L), new Time(3000L), LocalDateTime.of(2021, 1, 1, 0, 0)};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(bytes), expected);
+        Object[] actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertIsSpillable() {
+        assertTrue(SpillRowCodec.isSpillable(new Object[]{null, 1, "foo", LocalDateTime.of(2021, 1, 1, 0, 0)}));
+        assertFalse(SpillRowCodec.isSpillable(new Object[]{1, new Object()}));
+    }
+}
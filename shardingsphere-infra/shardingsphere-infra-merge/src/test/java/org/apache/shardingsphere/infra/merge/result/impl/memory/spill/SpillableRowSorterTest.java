@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillableRowSorterTest {
+    
+    private static final Comparator<MemoryQueryResultRow> COMPARATOR = Comparator.comparing(each -> (Integer) each.getCell(1));
+    
+    @Test
+    public void assertSortWithoutSpill() throws IOException {
+        try (SpillableRowSorter sorter = new SpillableRowSorter(COMPARATOR, 0L)) {
+            addRows(sorter);
+            assertSorted(sorter.sort());
+        }
+    }
+    
+    @Test
+    public void assertSortWithSpill() throws IOException {
+        try (SpillableRowSorter sorter = new SpillableRowSorter(COMPARATOR, 512L)) {
+            addRows(sorter);
+            assertThat(sorter.getRowCount(), is(100L));
+            assertTrue(sorter.getSpilledRunCount() > 0);
+            assertSorted(sorter.sort());
+        }
+    }
+    
+    @Test
+    public void assertSortWithUnspillableRows() throws IOException {
+        try (SpillableRowSorter sorter = new SpillableRowSorter(COMPARATOR, 512L)) {
+            Object unspillableValue = new Object();
+            for (int i = 0; i < 100; i++) {
+                sorter.add(new MemoryQueryResultRow(new Object[]{(i * 37) % 100, 0 == i % 10 ? unspillableValue : "value_" + i}));
+            }
+            Iterator<MemoryQueryResultRow> actual = sorter.sort();
+            for (int i = 0; i < 100; i++) {
+                assertTrue(actual.hasNext());
+                MemoryQueryResultRow row = actual.next();
+                assertThat(row.getCell(1), is(i));
+                int index = (i * 73) % 100;
+                assertThat(row.getCell(2), is(0 == index % 10 ? unspillableValue : "value_" + index));
+            }
+            assertFalse(actual.hasNext());
+        }
+    }
+    
+    @Test
+    public void assertCloseBeforeSortedRowsConsumed() throws IOException {
+        long spillFileCount = countSpillFiles();
+        SpillableRowSorter sorter = new SpillableRowSorter(COMPARATOR, 512L);
+        addRows(sorter);
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        assertThat(actual.next().getCell(1), is(0));
+        sorter.close();
+        assertThat(countSpillFiles(), is(spillFileCount));
+    }
+    
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-merge-")).count();
+        }
+    }
+    
+    private void addRows(final SpillableRowSorter sorter) throws IOException {
+        for (int i = 0; i < 100; i++) {
+            sorter.add(new MemoryQueryResultRow(new Object[]{(i * 37) % 100, "value_" + i}));
+        }
+    }
+    
+    private void assertSorted(final Iterator<MemoryQueryResultRow> actual) {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(actual.hasNext());
+            MemoryQueryResultRow row = actual.next();
+            assertThat(row.getCell(1), is(i));
+            assertThat(row.getCell(2), is("value_" + ((i * 73) % 100)));
+        }
+        assertFalse(actual.hasNext());
+    }
+}
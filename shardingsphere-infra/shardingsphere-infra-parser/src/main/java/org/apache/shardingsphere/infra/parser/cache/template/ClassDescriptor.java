@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache.template;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reflective descriptor of SQL statement and segment class.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+final class ClassDescriptor {
+    
+    private static final String SQL_PARSER_PACKAGE_PREFIX = "org.apache.shardingsphere.sql.parser.";
+    
+    private static final String START_INDEX_FIELD = "startIndex";
+    
+    private static final String STOP_INDEX_FIELD = "stopIndex";
+    
+    private static final Map<Class<?>, ClassDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+    
+    private final Constructor<?> constructor;
+    
+    private final List<Field> fields;
+    
+    private final Field startIndexField;
+    
+    private final Field stopIndexField;
+    
+    /**
+     * Get class descriptor.
+     *
+     * @param type class of SQL statement or segment
+     * @return class descriptor
+     */
+    static ClassDescriptor of(final Class<?> type) {
+        ClassDescriptor result = DESCRIPTORS.get(type);
+        if (null == result) {
+            result = load(type);
+            DESCRIPTORS.putIfAbsent(type, result);
+        }
+        return result;
+    }
+    
+    private static ClassDescriptor load(final Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> each = type; Object.class != each; each = each.getSuperclass()) {
+            for (Field field : each.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        Constructor<?> constructor = Arrays.stream(type.getDeclaredConstructors()).min(Comparator.comparingInt(Constructor::getParameterCount)).orElse(null);
+        if (null != constructor) {
+            constructor.setAccessible(true);
+        }
+        return new ClassDescriptor(constructor, fields, findIndexField(fields, START_INDEX_FIELD), findIndexField(fields, STOP_INDEX_FIELD));
+    }
+    
+    private static Field findIndexField(final List<Field> fields, final String fieldName) {
+        return fields.stream().filter(each -> int.class == each.getType() && fieldName.equals(each.getName())).findFirst().orElse(null);
+    }
+    
+    /**
+     * Judge whether value is immutable and can be shared.
+     *
+     * @param value value to be judged
+     * @return is immutable value or not
+     */
+    static boolean isImmutableValue(final Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum || value instanceof Class;
+    }
+    
+    /**
+     * Judge whether class is declared by SQL parser.
+     *
+     * @param type class to be judged
+     * @return is SQL parser class or not
+     */
+    static boolean isSQLParserClass(final Class<?> type) {
+        return type.getName().startsWith(SQL_PARSER_PACKAGE_PREFIX);
+    }
+    
+    /**
+     * Judge whether class is segment with start index and stop index.
+     *
+     * @return is segment or not
+     */
+    boolean isSegment() {
+        return null != startIndexField && null != stopIndexField;
+    }
+    
+    /**
+     * Create new instance, all fields should be assigned by caller later.
+     *
+     * @param original original object
+     * @return new instance
+     * @throws ReflectiveOperationException reflective operation exception
+     */
+    Object newInstance(final Object original) throws ReflectiveOperationException {
+        if (null == constructor) {
+            throw new InstantiationException(original.getClass().getName());
+        }
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        boolean[] usedFields = new boolean[fields.size()];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            args[i] = getArgument(original, parameterTypes[i], usedFields);
+        }
+        return constructor.newInstance(args);
+    }
+    
+    private Object getArgument(final Object original, final Class<?> parameterType, final boolean[] usedFields) throws IllegalAccessException {
+        for (int i = 0; i < fields.size(); i++) {
+            Class<?> fieldType = fields.get(i).getType();
+            if (!usedFields[i] && (parameterType == fieldType || !parameterType.isPrimitive() && parameterType.isAssignableFrom(fieldType))) {
+                usedFields[i] = true;
+                return fields.get(i).get(original);
+            }
+        }
+        return parameterType.isPrimitive() ? Array.get(Array.newInstance(parameterType, 1), 0) : null;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache.template;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal normalizer.
+ *
+ * <p>
+ * Scan SQL as a lexer, replace single quoted string literals and unsigned decimal number literals with placeholders.
+ * Quoted identifiers and comments are kept as they are. 
+ * SQL which contains parameter markers, escaped or prefixed string literals is not normalized.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLLiteralNormalizer {
+    
+    private static final String NUMBER_PLACEHOLDER = "?";
+    
+    private static final String STRING_PLACEHOLDER = "'?'";
+    
+    /**
+     * Normalize SQL.
+     *
+     * @param sql SQL to be normalized
+     * @return normalized SQL, empty if SQL can not be normalized
+     */
+    public static Optional<NormalizedSQL> normalize(final String sql) {
+        StringBuilder template = new StringBuilder(sql.length());
+        List<SQLLiteral> literals = new ArrayList<>();
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char current = sql.charAt(index);
+            int next;
+            if ('\'' == current) {
+                next = skipString(sql, index);
+                if (next < 0 || index > 0 && isIdentifierPart(sql.charAt(index - 1))) {
+                    return Optional.empty();
+                }
+                String text = sql.substring(index, next);
+                literals.add(new SQLLiteral(index, next - 1, text, new StringLiteralValue(text).getValue()));
+                template.append(STRING_PLACEHOLDER);
+            } else if (Character.isDigit(current) && !isNumberPrefix(sql, index)) {
+                next = skipNumber(sql, index);
+                if (next < length && (isIdentifierPart(sql.charAt(next)) || '.' == sql.charAt(next))) {
+                    next = skipWord(sql, next);
+                    template.append(sql, index, next);
+                } else {
+                    String text = sql.substring(index, next);
+                    literals.add(new SQLLiteral(index, next - 1, text, new NumberLiteralValue(text).getValue()));
+                    template.append(NUMBER_PLACEHOLDER);
+                }
+            } else if ('?' == current) {
+                return Optional.empty();
+            } else {
+                next = skipVerbatim(sql, index);
+                if (next < 0) {
+                    return Optional.empty();
+                }
+                template.append(sql, index, next);
+            }
+            index = next;
+        }
+        return Optional.of(new NormalizedSQL(template.toString(), literals));
+    }
+    
+    private static int skipString(final String sql, final int startIndex) {
+        int index = startIndex + 1;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if ('\\' == current) {
+                return -1;
+            }
+            if ('\'' == current) {
+                if (index + 1 < sql.length() && '\'' == sql.charAt(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return -1;
+    }
+    
+    private static boolean isNumberPrefix(final String sql, final int index) {
+        if (0 == index) {
+            return false;
+        }
+        char previous = sql.charAt(index - 1);
+        return isIdentifierPart(previous) || '.' == previous || ':' == previous;
+    }
+    
+    private static int skipNumber(final String sql, final int startIndex) {
+        int result = skipDigits(sql, startIndex);
+        if (result + 1 < sql.length() && '.' == sql.charAt(result) && Character.isDigit(sql.charAt(result + 1))) {
+            result = skipDigits(sql, result + 1);
+        }
+        return result;
+    }
+    
+    private static int skipDigits(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && Character.isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipWord(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && (isIdentifierPart(sql.charAt(result)) || '.' == sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipVerbatim(final String sql, final int startIndex) {
+        char current = sql.charAt(startIndex);
+        if ('"' == current || '`' == current) {
+            return skipQuoted(sql, startIndex, current);
+        }
+        if ('#' == current || sql.startsWith("--", startIndex)) {
+            int result = sql.indexOf('\n', startIndex);
+            return result < 0 ? sql.length() : result + 1;
+        }
+        if (sql.startsWith("/*", startIndex)) {
+            int result = sql.indexOf("*/", startIndex + 2);
+            return result < 0 ? -1 : result + 2;
+        }
+        return isIdentifierPart(current) ? skipWord(sql, startIndex) : startIndex + 1;
+    }
+    
+    private static int skipQuoted(final String sql, final int startIndex, final char quote) {
+        int index = startIndex + 1;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if ('\\' == current) {
+                return -1;
+            }
+            if (quote == current) {
+                if (index + 1 < sql.length() && quote == sql.charAt(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return -1;
+    }
+    
+    private static boolean isIdentifierPart(final char character) {
+        return Character.isLetterOrDigit(character) || '_' == character || '$' == character || '@' == character;
+    }
+}
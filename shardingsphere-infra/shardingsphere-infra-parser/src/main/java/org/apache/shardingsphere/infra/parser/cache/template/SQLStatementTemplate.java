@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache.template;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.List;
+
+/**
+ * SQL statement template.
+ *
+ * <p>
+ * Template is trusted after binding result is verified to be same with parsed result once. 
+ * Literal is verified if it has different text in a verified SQL, and SQL can be bound only if its unverified literals are same with template,
+ * so that literal which never changes is treated as part of template. Template is marked as unbindable if binding result is different from parsed result.
+ * </p>
+ */
+@Getter
+final class SQLStatementTemplate {
+    
+    private final String sql;
+    
+    private final List<SQLLiteral> literals;
+    
+    private final SQLStatement sqlStatement;
+    
+    @Getter(AccessLevel.NONE)
+    private final boolean[] verifiedLiterals;
+    
+    private volatile boolean trusted;
+    
+    private volatile boolean unbindable;
+    
+    SQLStatementTemplate(final String sql, final List<SQLLiteral> literals, final SQLStatement sqlStatement) {
+        this.sql = sql;
+        this.literals = literals;
+        this.sqlStatement = sqlStatement;
+        verifiedLiterals = new boolean[literals.size()];
+    }
+    
+    /**
+     * Record a successful verification.
+     *
+     * @param sampleLiterals literals of parsed SQL which is used to verify
+     */
+    synchronized void verify(final List<SQLLiteral> sampleLiterals) {
+        for (int i = 0; i < literals.size(); i++) {
+            if (!literals.get(i).getText().equals(sampleLiterals.get(i).getText())) {
+                verifiedLiterals[i] = true;
+            }
+        }
+        trusted = true;
+    }
+    
+    /**
+     * Judge whether literals can be bound into template.
+     *
+     * @param sampleLiterals literals of SQL to be bound
+     * @return can be bound or not
+     */
+    synchronized boolean isBindable(final List<SQLLiteral> sampleLiterals) {
+        if (!trusted || literals.size() != sampleLiterals.size()) {
+            return false;
+        }
+        for (int i = 0; i < literals.size(); i++) {
+            if (!verifiedLiterals[i] && !literals.get(i).getText().equals(sampleLiterals.get(i).getText())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Mark template as unbindable.
+     */
+    void markUnbindable() {
+        trusted = false;
+        unbindable = true;
+    }
+}
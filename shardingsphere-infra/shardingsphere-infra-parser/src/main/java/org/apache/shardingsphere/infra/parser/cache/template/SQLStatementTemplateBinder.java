@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache.template;
+
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL statement template binder.
+ *
+ * <p>
+ * Copy SQL statement of template, shift start and stop indexes of segments to the new SQL, 
+ * and bind values of new literals into segments whose start and stop indexes are same with template literals.
+ * </p>
+ */
+final class SQLStatementTemplateBinder {
+    
+    private final SQLStatementTemplate template;
+    
+    private final String sql;
+    
+    private final List<SQLLiteral> literals;
+    
+    private final boolean[] boundLiterals;
+    
+    private final Map<Object, Object> copiedObjects = new IdentityHashMap<>();
+    
+    private SQLStatementTemplateBinder(final SQLStatementTemplate template, final String sql, final List<SQLLiteral> literals) {
+        this.template = template;
+        this.sql = sql;
+        this.literals = literals;
+        boundLiterals = new boolean[literals.size()];
+    }
+    
+    /**
+     * Bind literals into SQL statement template.
+     *
+     * @param template SQL statement template
+     * @param sql SQL which is normalized to same template
+     * @param literals literals of SQL
+     * @return bound SQL statement, empty if literals can not be bound
+     */
+    static Optional<SQLStatement> bind(final SQLStatementTemplate template, final String sql, final List<SQLLiteral> literals) {
+        if (template.getLiterals().size() != literals.size()) {
+            return Optional.empty();
+        }
+        SQLStatementTemplateBinder binder = new SQLStatementTemplateBinder(template, sql, literals);
+        try {
+            Object result = binder.copy(template.getSqlStatement());
+            return binder.isAllLiteralsBound() ? Optional.of((SQLStatement) result) : Optional.empty();
+        } catch (final ReflectiveOperationException | SQLStatementTemplateBindException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private boolean isAllLiteralsBound() {
+        for (boolean each : boundLiterals) {
+            if (!each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Object copy(final Object value) throws ReflectiveOperationException, SQLStatementTemplateBindException {
+        if (null == value || ClassDescriptor.isImmutableValue(value)) {
+            return value;
+        }
+        Object result = copiedObjects.get(value);
+        if (null != result) {
+            return result;
+        }
+        if (value.getClass().isArray()) {
+            return copyArray(value);
+        }
+        if (value instanceof Collection) {
+            return copyCollection((Collection<?>) value);
+        }
+        if (value instanceof Map) {
+            return copyMap((Map<?, ?>) value);
+        }
+        if (!ClassDescriptor.isSQLParserClass(value.getClass())) {
+            throw new SQLStatementTemplateBindException(String.format("Can not copy `%s`", value.getClass().getName()));
+        }
+        return copyObject(value);
+    }
+    
+    private Object copyArray(final Object value) throws ReflectiveOperationException, SQLStatementTemplateBindException {
+        int length = Array.getLength(value);
+        Object result = Array.newInstance(value.getClass().getComponentType(), length);
+        copiedObjects.put(value, result);
+        for (int i = 0; i < length; i++) {
+            Array.set(result, i, copy(Array.get(value, i)));
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Object copyCollection(final Collection<?> value) throws ReflectiveOperationException, SQLStatementTemplateBindException {
+        if (!Modifier.isPublic(value.getClass().getModifiers())) {
+            if (value.isEmpty()) {
+                return value;
+            }
+            throw new SQLStatementTemplateBindException(String.format("Can not copy `%s`", value.getClass().getName()));
+        }
+        Collection<Object> result = (Collection<Object>) value.getClass().getConstructor().newInstance();
+        copiedObjects.put(value, result);
+        for (Object each : value) {
+            result.add(copy(each));
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Object copyMap(final Map<?, ?> value) throws ReflectiveOperationException, SQLStatementTemplateBindException {
+        if (!Modifier.isPublic(value.getClass().getModifiers())) {
+            if (value.isEmpty()) {
+                return value;
+            }
+            throw new SQLStatementTemplateBindException(String.format("Can not copy `%s`", value.getClass().getName()));
+        }
+        Map<Object, Object> result = (Map<Object, Object>) value.getClass().getConstructor().newInstance();
+        copiedObjects.put(value, result);
+        for (Entry<?, ?> entry : value.entrySet()) {
+            result.put(copy(entry.getKey()), copy(entry.getValue()));
+        }
+        return result;
+    }
+    
+    private Object copyObject(final Object value) throws ReflectiveOperationException, SQLStatementTemplateBindException {
+        ClassDescriptor descriptor = ClassDescriptor.of(value.getClass());
+        Object result = descriptor.newInstance(value);
+        copiedObjects.put(value, result);
+        if (!descriptor.isSegment()) {
+            for (Field each : descriptor.getFields()) {
+                each.set(result, copy(each.get(value)));
+            }
+            return result;
+        }
+        int startIndex = descriptor.getStartIndexField().getInt(value);
+        int stopIndex = descriptor.getStopIndexField().getInt(value);
+        int newStartIndex = mapIndex(startIndex, true);
+        int newStopIndex = mapIndex(stopIndex, false);
+        String text = startIndex >= 0 && startIndex <= stopIndex && stopIndex < template.getSql().length() ? template.getSql().substring(startIndex, stopIndex + 1) : null;
+        int literalIndex = findLiteral(startIndex, stopIndex);
+        for (Field each : descriptor.getFields()) {
+            if (each.equals(descriptor.getStartIndexField())) {
+                each.setInt(result, newStartIndex);
+            } else if (each.equals(descriptor.getStopIndexField())) {
+                each.setInt(result, newStopIndex);
+            } else {
+                each.set(result, copyField(each, each.get(value), text, newStartIndex, newStopIndex, literalIndex));
+            }
+        }
+        return result;
+    }
+    
+    private Object copyField(final Field field, final Object value, final String text, final int newStartIndex, final int newStopIndex,
+                             final int literalIndex) throws ReflectiveOperationException, SQLStatementTemplateBindException {
+        if (null != text && text.equals(value)) {
+            markBound(literalIndex);
+            return sql.substring(newStartIndex, newStopIndex + 1);
+        }
+        if (literalIndex >= 0 && null != value) {
+            Optional<Object> result = bindLiteral(field.getType(), value, literalIndex);
+            if (result.isPresent()) {
+                markBound(literalIndex);
+                return result.get();
+            }
+        }
+        return copy(value);
+    }
+    
+    private void markBound(final int literalIndex) {
+        if (literalIndex >= 0) {
+            boundLiterals[literalIndex] = true;
+        }
+    }
+    
+    private Optional<Object> bindLiteral(final Class<?> fieldType, final Object value, final int literalIndex) throws SQLStatementTemplateBindException {
+        Object templateValue = template.getLiterals().get(literalIndex).getValue();
+        Object newValue = literals.get(literalIndex).getValue();
+        if (value.equals(templateValue) && !fieldType.isPrimitive() && fieldType.isInstance(newValue)) {
+            return Optional.of(newValue);
+        }
+        if (!isIntegralType(fieldType) || !isIntegral(value) || !isIntegral(templateValue) || ((Number) value).longValue() != ((Number) templateValue).longValue()) {
+            return Optional.empty();
+        }
+        if (!isIntegral(newValue)) {
+            throw new SQLStatementTemplateBindException(String.format("Can not bind `%s` to integral value", newValue));
+        }
+        long result = ((Number) newValue).longValue();
+        if (long.class == fieldType || Long.class == fieldType) {
+            return Optional.of(result);
+        }
+        if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+            throw new SQLStatementTemplateBindException(String.format("Can not bind `%s` to int value", newValue));
+        }
+        return Optional.of((int) result);
+    }
+    
+    private boolean isIntegralType(final Class<?> type) {
+        return int.class == type || Integer.class == type || long.class == type || Long.class == type;
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+    
+    private int mapIndex(final int index, final boolean isStartIndex) throws SQLStatementTemplateBindException {
+        int offset = 0;
+        List<SQLLiteral> templateLiterals = template.getLiterals();
+        for (int i = 0; i < templateLiterals.size(); i++) {
+            SQLLiteral each = templateLiterals.get(i);
+            if (index < each.getStartIndex()) {
+                break;
+            }
+            if (index > each.getStopIndex()) {
+                offset = literals.get(i).getStopIndex() - each.getStopIndex();
+                continue;
+            }
+            if (isStartIndex && index == each.getStartIndex()) {
+                return literals.get(i).getStartIndex();
+            }
+            if (!isStartIndex && index == each.getStopIndex()) {
+                return literals.get(i).getStopIndex();
+            }
+            throw new SQLStatementTemplateBindException(String.format("Index `%s` is inside of literal `%s`", index, each.getText()));
+        }
+        return index + offset;
+    }
+    
+    private int findLiteral(final int startIndex, final int stopIndex) {
+        List<SQLLiteral> templateLiterals = template.getLiterals();
+        for (int i = 0; i < templateLiterals.size(); i++) {
+            if (templateLiterals.get(i).getStartIndex() == startIndex && templateLiterals.get(i).getStopIndex() == stopIndex) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
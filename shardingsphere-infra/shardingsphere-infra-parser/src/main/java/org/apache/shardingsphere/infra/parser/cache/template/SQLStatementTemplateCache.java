@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache.template;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL statement template cache.
+ *
+ * <p>
+ * SQL is normalized by replacing literals with placeholders, and a private copy of the parsed SQL statement is cached as template of the normalized SQL.
+ * SQL statement of the SQL with same template is bound from template instead of parsing again, after the template has been verified.
+ * </p>
+ */
+public final class SQLStatementTemplateCache {
+    
+    private final SQLStatementParserExecutor sqlStatementParserExecutor;
+    
+    private final Cache<String, SQLStatementTemplate> templates;
+    
+    public SQLStatementTemplateCache(final SQLStatementParserExecutor sqlStatementParserExecutor, final CacheOption cacheOption) {
+        this.sqlStatementParserExecutor = sqlStatementParserExecutor;
+        templates = CacheBuilder.newBuilder().softValues().initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize())
+                .concurrencyLevel(cacheOption.getConcurrencyLevel()).build();
+    }
+    
+    /**
+     * Parse to SQL statement.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql) {
+        Optional<NormalizedSQL> normalizedSQL = SQLLiteralNormalizer.normalize(sql);
+        if (!normalizedSQL.isPresent()) {
+            SQLStatementTemplateCacheMetrics.recordMiss();
+            return sqlStatementParserExecutor.parse(sql);
+        }
+        List<SQLLiteral> literals = normalizedSQL.get().getLiterals();
+        SQLStatementTemplate template = templates.getIfPresent(normalizedSQL.get().getTemplate());
+        if (null == template) {
+            SQLStatement result = sqlStatementParserExecutor.parse(sql);
+            templates.put(normalizedSQL.get().getTemplate(), createTemplate(sql, literals, result));
+            SQLStatementTemplateCacheMetrics.recordMiss();
+            return result;
+        }
+        if (template.isBindable(literals)) {
+            Optional<SQLStatement> result = SQLStatementTemplateBinder.bind(template, sql, literals);
+            if (result.isPresent()) {
+                SQLStatementTemplateCacheMetrics.recordHit();
+                return result.get();
+            }
+            template.markUnbindable();
+        }
+        SQLStatement result = sqlStatementParserExecutor.parse(sql);
+        if (!template.isUnbindable()) {
+            verify(template, sql, literals, result);
+        }
+        SQLStatementTemplateCacheMetrics.recordMiss();
+        return result;
+    }
+    
+    private SQLStatementTemplate createTemplate(final String sql, final List<SQLLiteral> literals, final SQLStatement parsedSQLStatement) {
+        SQLStatementTemplate parsedTemplate = new SQLStatementTemplate(sql, literals, parsedSQLStatement);
+        Optional<SQLStatement> copiedSQLStatement = SQLStatementTemplateBinder.bind(parsedTemplate, sql, literals);
+        if (!copiedSQLStatement.isPresent()) {
+            parsedTemplate.markUnbindable();
+            return parsedTemplate;
+        }
+        return new SQLStatementTemplate(sql, literals, copiedSQLStatement.get());
+    }
+    
+    private void verify(final SQLStatementTemplate template, final String sql, final List<SQLLiteral> literals, final SQLStatement parsedSQLStatement) {
+        Optional<SQLStatement> boundSQLStatement = SQLStatementTemplateBinder.bind(template, sql, literals);
+        if (boundSQLStatement.isPresent() && SQLStatementTemplateVerifier.verify(parsedSQLStatement, boundSQLStatement.get())) {
+            template.verify(literals);
+        } else {
+            template.markUnbindable();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache.template;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of SQL statement template cache.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStatementTemplateCacheMetrics {
+    
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    
+    private static final LongAdder MISS_COUNT = new LongAdder();
+    
+    static void recordHit() {
+        HIT_COUNT.increment();
+    }
+    
+    static void recordMiss() {
+        MISS_COUNT.increment();
+    }
+    
+    /**
+     * Get count of SQL statements which are bound from template.
+     *
+     * @return hit count
+     */
+    public static long getHitCount() {
+        return HIT_COUNT.sum();
+    }
+    
+    /**
+     * Get count of SQL statements which are parsed.
+     *
+     * @return miss count
+     */
+    public static long getMissCount() {
+        return MISS_COUNT.sum();
+    }
+    
+    /**
+     * Get hit rate.
+     *
+     * @return hit rate, 0 if there is no request
+     */
+    public static double getHitRate() {
+        long hitCount = HIT_COUNT.sum();
+        long requestCount = hitCount + MISS_COUNT.sum();
+        return 0 == requestCount ? 0D : (double) hitCount / requestCount;
+    }
+}
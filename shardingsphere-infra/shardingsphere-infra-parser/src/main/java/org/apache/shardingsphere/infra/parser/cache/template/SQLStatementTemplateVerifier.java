@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache.template;
+
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * SQL statement template verifier, compare bound SQL statement with parsed SQL statement field by field.
+ */
+final class SQLStatementTemplateVerifier {
+    
+    private final Map<Object, Object> comparedObjects = new IdentityHashMap<>();
+    
+    private SQLStatementTemplateVerifier() {
+    }
+    
+    /**
+     * Verify whether bound SQL statement is same with parsed SQL statement.
+     *
+     * @param parsedSQLStatement parsed SQL statement
+     * @param boundSQLStatement bound SQL statement
+     * @return is same or not
+     */
+    static boolean verify(final SQLStatement parsedSQLStatement, final SQLStatement boundSQLStatement) {
+        try {
+            return new SQLStatementTemplateVerifier().isSame(parsedSQLStatement, boundSQLStatement);
+        } catch (final IllegalAccessException ignored) {
+            return false;
+        }
+    }
+    
+    private boolean isSame(final Object expected, final Object actual) throws IllegalAccessException {
+        if (expected == actual) {
+            return true;
+        }
+        if (null == expected || null == actual || expected.getClass() != actual.getClass()) {
+            return false;
+        }
+        if (ClassDescriptor.isImmutableValue(expected)) {
+            return expected.equals(actual);
+        }
+        if (actual == comparedObjects.get(expected)) {
+            return true;
+        }
+        comparedObjects.put(expected, actual);
+        if (expected.getClass().isArray()) {
+            return isSameArray(expected, actual);
+        }
+        if (expected instanceof Collection) {
+            return isSameCollection((Collection<?>) expected, (Collection<?>) actual);
+        }
+        if (expected instanceof Map) {
+            return isSameMap((Map<?, ?>) expected, (Map<?, ?>) actual);
+        }
+        if (!ClassDescriptor.isSQLParserClass(expected.getClass())) {
+            return expected.equals(actual);
+        }
+        for (Field each : ClassDescriptor.of(expected.getClass()).getFields()) {
+            if (!isSame(each.get(expected), each.get(actual))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameArray(final Object expected, final Object actual) throws IllegalAccessException {
+        int length = Array.getLength(expected);
+        if (length != Array.getLength(actual)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isSame(Array.get(expected, i), Array.get(actual, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameCollection(final Collection<?> expected, final Collection<?> actual) throws IllegalAccessException {
+        if (expected.size() != actual.size()) {
+            return false;
+        }
+        Iterator<?> actualIterator = actual.iterator();
+        for (Object each : expected) {
+            if (!isSame(each, actualIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameMap(final Map<?, ?> expected, final Map<?, ?> actual) throws IllegalAccessException {
+        if (expected.size() != actual.size()) {
+            return false;
+        }
+        Iterator<? extends Entry<?, ?>> actualIterator = actual.entrySet().iterator();
+        for (Entry<?, ?> each : expected.entrySet()) {
+            Entry<?, ?> actualEntry = actualIterator.next();
+            if (!isSame(each.getKey(), actualEntry.getKey()) || !isSame(each.getValue(), actualEntry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
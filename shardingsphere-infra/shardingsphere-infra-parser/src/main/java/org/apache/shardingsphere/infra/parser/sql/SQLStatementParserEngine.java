@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.parser.sql;
 
 import com.google.common.cache.LoadingCache;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
+import org.apache.shardingsphere.infra.parser.cache.template.SQLStatementTemplateCache;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -30,20 +31,23 @@ public final class SQLStatementParserEngine {
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
-
+    
+    private final SQLStatementTemplateCache sqlStatementTemplateCache;
+    
     public SQLStatementParserEngine(final String databaseType, final SQLParserRule sqlParserRule) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, sqlParserRule);
         sqlStatementCache = SQLStatementCacheBuilder.build(sqlParserRule, databaseType);
+        sqlStatementTemplateCache = new SQLStatementTemplateCache(sqlStatementParserExecutor, sqlParserRule.getSqlStatementCache());
     }
     
     /**
      * Parse to SQL statement.
      *
      * @param sql SQL to be parsed
-     * @param useCache whether use cache
+     * @param useCache whether use cache, SQL statement is bound from literal normalized template if not use cache
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
+        return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementTemplateCache.parse(sql);
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache.template;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLLiteralNormalizerTest {
+    
+    @Test
+    public void assertNormalize() {
+        Optional<NormalizedSQL> actual = SQLLiteralNormalizer.normalize("SELECT * FROM t_order_1 o WHERE o.user_id = 10 AND o.status = 'it''s' AND o.price > 1.5 LIMIT 20");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplate(), is("SELECT * FROM t_order_1 o WHERE o.user_id = ? AND o.status = '?' AND o.price > ? LIMIT ?"));
+        List<SQLLiteral> literals = actual.get().getLiterals();
+        assertThat(literals.size(), is(4));
+        assertThat(literals.get(0).getStartIndex(), is(44));
+        assertThat(literals.get(0).getStopIndex(), is(45));
+        assertThat(literals.get(0).getValue(), is(10));
+        assertThat(literals.get(1).getText(), is("'it''s'"));
+        assertThat(literals.get(1).getValue(), is("it''s"));
+        assertThat(literals.get(2).getText(), is("1.5"));
+        assertThat(literals.get(3).getValue(), is(20));
+    }
+    
+    @Test
+    public void assertNormalizeWithQuotedIdentifiersAndComments() {
+        Optional<NormalizedSQL> actual = SQLLiteralNormalizer.normalize("/* 1 */ SELECT `c1`, \"c2\" FROM t_1e5 WHERE id = 0x1F -- 2\n AND v = 3");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplate(), is("/* 1 */ SELECT `c1`, \"c2\" FROM t_1e5 WHERE id = 0x1F -- 2\n AND v = ?"));
+        assertThat(actual.get().getLiterals().size(), is(1));
+    }
+    
+    @Test
+    public void assertNormalizeWithParameterMarker() {
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE order_id = ?").isPresent());
+    }
+    
+    @Test
+    public void assertNormalizeWithEscapedString() {
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE status = 'a\\'b'").isPresent());
+    }
+    
+    @Test
+    public void assertNormalizeWithPrefixedString() {
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE status = N'a'").isPresent());
+    }
+}
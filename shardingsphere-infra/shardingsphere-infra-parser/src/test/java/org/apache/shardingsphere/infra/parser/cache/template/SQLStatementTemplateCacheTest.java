@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache.template;
+
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public final class SQLStatementTemplateCacheTest {
+    
+    private SQLStatementParserExecutor sqlStatementParserExecutor;
+    
+    private SQLStatementTemplateCache sqlStatementTemplateCache;
+    
+    @Before
+    public void setUp() {
+        sqlStatementParserExecutor = spy(new SQLStatementParserExecutor("MySQL", new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build())));
+        sqlStatementTemplateCache = new SQLStatementTemplateCache(sqlStatementParserExecutor, new CacheOption(16, 16L, 1));
+    }
+    
+    @Test
+    public void assertParseSelectWithBoundTemplate() {
+        assertBoundSameAsParsed("SELECT o.order_id, o.status FROM t_order o WHERE o.user_id = %s AND o.status = %s ORDER BY o.order_id LIMIT %s, %s",
+                new String[]{"7", "'done'", "3", "12345"}, new String[]{"10", "'init'", "0", "5"}, new String[]{"1024", "'paid'", "100", "20"});
+    }
+    
+    @Test
+    public void assertParseInsertWithBoundTemplate() {
+        assertBoundSameAsParsed("INSERT INTO t_order (order_id, user_id, status) VALUES (%s, %s, %s)",
+                new String[]{"99999999999", "3", "''"}, new String[]{"1", "10", "'init'"}, new String[]{"1000000", "20", "'paid'"});
+    }
+    
+    @Test
+    public void assertParseUpdateWithBoundTemplate() {
+        assertBoundSameAsParsed("UPDATE t_order SET status = %s, amount = amount + %s WHERE order_id IN (%s, %s)",
+                new String[]{"'x'", "3.75", "5", "6"}, new String[]{"'init'", "1.5", "1", "2"}, new String[]{"'paid'", "20.25", "300", "4000"});
+    }
+    
+    @Test
+    public void assertParseWithConstantLiteral() {
+        String sql = "SELECT * FROM t_order WHERE status = %s AND user_id = %s";
+        sqlStatementTemplateCache.parse(String.format(sql, 1, 10));
+        sqlStatementTemplateCache.parse(String.format(sql, 1, 20));
+        long hitCount = SQLStatementTemplateCacheMetrics.getHitCount();
+        SQLStatement actual = sqlStatementTemplateCache.parse(String.format(sql, 1, 30));
+        assertThat(SQLStatementTemplateCacheMetrics.getHitCount(), is(hitCount + 1));
+        verify(sqlStatementParserExecutor, times(2)).parse(anyString());
+        assertTrue(SQLStatementTemplateVerifier.verify(sqlStatementParserExecutor.parse(String.format(sql, 1, 30)), actual));
+    }
+    
+    @Test
+    public void assertParseWithChangedConstantLiteral() {
+        String sql = "SELECT * FROM t_order WHERE status = %s AND user_id = %s";
+        sqlStatementTemplateCache.parse(String.format(sql, 1, 10));
+        sqlStatementTemplateCache.parse(String.format(sql, 1, 20));
+        sqlStatementTemplateCache.parse(String.format(sql, 2, 30));
+        verify(sqlStatementParserExecutor, times(3)).parse(anyString());
+        long hitCount = SQLStatementTemplateCacheMetrics.getHitCount();
+        SQLStatement actual = sqlStatementTemplateCache.parse(String.format(sql, 3, 40));
+        assertThat(SQLStatementTemplateCacheMetrics.getHitCount(), is(hitCount + 1));
+        assertTrue(SQLStatementTemplateVerifier.verify(sqlStatementParserExecutor.parse(String.format(sql, 3, 40)), actual));
+    }
+    
+    @Test
+    public void assertParseWithFirstSQLStatementChangedByCaller() {
+        String sql = "SELECT * FROM t_order WHERE user_id = %s";
+        ((SelectStatement) sqlStatementTemplateCache.parse(String.format(sql, 10))).setWhere(null);
+        sqlStatementTemplateCache.parse(String.format(sql, 20));
+        long hitCount = SQLStatementTemplateCacheMetrics.getHitCount();
+        SQLStatement actual = sqlStatementTemplateCache.parse(String.format(sql, 30));
+        assertThat(SQLStatementTemplateCacheMetrics.getHitCount(), is(hitCount + 1));
+        assertTrue(((SelectStatement) actual).getWhere().isPresent());
+    }
+    
+    private void assertBoundSameAsParsed(final String sql, final String[] boundLiterals, final String[]... verifiedLiterals) {
+        for (String[] each : verifiedLiterals) {
+            sqlStatementTemplateCache.parse(String.format(sql, (Object[]) each));
+        }
+        long hitCount = SQLStatementTemplateCacheMetrics.getHitCount();
+        String boundSQL = String.format(sql, (Object[]) boundLiterals);
+        SQLStatement actual = sqlStatementTemplateCache.parse(boundSQL);
+        assertThat(SQLStatementTemplateCacheMetrics.getHitCount(), is(hitCount + 1));
+        verify(sqlStatementParserExecutor, times(verifiedLiterals.length)).parse(anyString());
+        assertTrue(SQLStatementTemplateVerifier.verify(sqlStatementParserExecutor.parse(boundSQL), actual));
+        assertFalse(SQLStatementTemplateVerifier.verify(sqlStatementParserExecutor.parse(String.format(sql, (Object[]) verifiedLiterals[0])), actual));
+    }
+}
@@ -23,7 +23,6 @@ import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
 
 import java.util.Collections;
 
@@ -41,37 +40,43 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
             return context.getSql();
         }
         Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
-            result.append(each instanceof ComposableSQLToken ? getComposableSQLTokenText((ComposableSQLToken) each) : getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+        String sql = context.getSql();
+        SQLToken[] sqlTokens = context.getSqlTokens().toArray(new SQLToken[0]);
+        String[] sqlTokenTexts = new String[sqlTokens.length];
+        int capacity = sqlTokens[0].getStartIndex();
+        for (int i = 0; i < sqlTokens.length; i++) {
+            sqlTokenTexts[i] = sqlTokens[i] instanceof ComposableSQLToken ? getComposableSQLTokenText((ComposableSQLToken) sqlTokens[i]) : getSQLTokenText(sqlTokens[i]);
+            capacity += sqlTokenTexts[i].length() + Math.max(getStopIndex(sqlTokens, i, sql) - getStartIndex(sqlTokens[i], sql), 0);
+        }
+        StringBuilder result = new StringBuilder(capacity);
+        result.append(sql, 0, sqlTokens[0].getStartIndex());
+        for (int i = 0; i < sqlTokens.length; i++) {
+            result.append(sqlTokenTexts[i]);
+            result.append(sql, getStartIndex(sqlTokens[i], sql), getStopIndex(sqlTokens, i, sql));
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
-
+    
     private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
+        String sql = context.getSql();
+        SQLToken[] sqlTokens = composableSQLToken.getSqlTokens().toArray(new SQLToken[0]);
         StringBuilder result = new StringBuilder();
-        for (SQLToken each : composableSQLToken.getSqlTokens()) {
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+        for (int i = 0; i < sqlTokens.length; i++) {
+            result.append(getSQLTokenText(sqlTokens[i]));
+            int stopIndex = i == sqlTokens.length - 1 ? Math.min(composableSQLToken.getStopIndex() + 1, sql.length()) : sqlTokens[i + 1].getStartIndex();
+            result.append(sql, getStartIndex(sqlTokens[i], sql), Math.max(stopIndex, getStartIndex(sqlTokens[i], sql)));
         }
         return result.toString();
     }
-
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
     
-    private int getStartIndex(final SQLToken sqlToken) {
+    private int getStartIndex(final SQLToken sqlToken, final String sql) {
         int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
+        return Math.min(startIndex, sql.length());
     }
     
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
+    private int getStopIndex(final SQLToken[] sqlTokens, final int sqlTokenIndex, final String sql) {
+        return sqlTokens.length - 1 == sqlTokenIndex ? sql.length() : sqlTokens[sqlTokenIndex + 1].getStartIndex();
     }
 }
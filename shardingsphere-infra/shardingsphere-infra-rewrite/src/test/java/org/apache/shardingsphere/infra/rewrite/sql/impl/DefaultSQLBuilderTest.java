@@ -19,9 +19,13 @@ package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -45,4 +49,47 @@ public final class DefaultSQLBuilderTest {
         when(context.getSqlTokens()).thenReturn(Collections.singletonList(new SQLTokenFixture(14, 16)));
         assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE id=?"));
     }
+    
+    @Test
+    public void assertToSQLWithUnsortedSQLTokens() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=? AND tbl.name=?");
+        List<SQLToken> sqlTokens = new LinkedList<>();
+        sqlTokens.add(new SQLTokenFixture(33, 35));
+        sqlTokens.add(new SQLTokenFixture(14, 16));
+        when(context.getSqlTokens()).thenReturn(sqlTokens);
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE id=? AND XXX.name=?"));
+    }
+    
+    @Test
+    public void assertToSQLWithComposableSQLToken() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT a, b FROM tbl");
+        ComposableSQLToken composableSQLToken = new ComposableSQLToken(7, 10);
+        composableSQLToken.addSQLToken(new SQLTokenFixture(7, 7));
+        composableSQLToken.addSQLToken(new SQLTokenFixture(10, 10));
+        when(context.getSqlTokens()).thenReturn(Collections.singletonList(composableSQLToken));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT XXX, XXX FROM tbl"));
+    }
+    
+    @Test
+    public void assertToSQLWithLargeAmountOfSQLTokens() {
+        int rowCount = 10000;
+        StringBuilder sql = new StringBuilder("INSERT INTO tbl VALUES ");
+        StringBuilder expected = new StringBuilder(sql);
+        List<SQLToken> sqlTokens = new LinkedList<>();
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+                expected.append(", ");
+            }
+            sqlTokens.add(new SQLTokenFixture(sql.length() + 1, sql.length() + 3));
+            sql.append("(tbl)");
+            expected.append("(XXX)");
+        }
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn(sql.toString());
+        when(context.getSqlTokens()).thenReturn(sqlTokens);
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is(expected.toString()));
+    }
 }
@@ -35,8 +35,8 @@ import java.util.Optional;
  */
 public abstract class ExecuteQueryCallback extends JDBCExecutorCallback<QueryResult> {
     
-    protected ExecuteQueryCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-        super(databaseType, sqlStatement, isExceptionThrown);
+    protected ExecuteQueryCallback(final DatabaseType databaseType, final String schemaName, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+        super(databaseType, schemaName, sqlStatement, isExceptionThrown);
     }
     
     @Override
@@ -31,8 +31,8 @@ import java.sql.Statement;
  */
 public final class PreparedStatementExecuteQueryCallback extends ExecuteQueryCallback {
     
-    public PreparedStatementExecuteQueryCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-        super(databaseType, sqlStatement, isExceptionThrown);
+    public PreparedStatementExecuteQueryCallback(final DatabaseType databaseType, final String schemaName, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+        super(databaseType, schemaName, sqlStatement, isExceptionThrown);
     }
     
     @Override
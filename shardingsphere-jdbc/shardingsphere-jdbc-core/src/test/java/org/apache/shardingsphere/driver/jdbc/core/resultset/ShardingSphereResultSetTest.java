@@ -56,6 +56,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingSphereResultSetTest {
@@ -105,6 +106,13 @@ public final class ShardingSphereResultSetTest {
         assertTrue(shardingSphereResultSet.next());
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        shardingSphereResultSet.close();
+        verify(mergeResultSet).close();
+        assertTrue(shardingSphereResultSet.isClosed());
+    }
+    
     @Test
     public void assertWasNull() throws SQLException {
         assertFalse(shardingSphereResultSet.wasNull());
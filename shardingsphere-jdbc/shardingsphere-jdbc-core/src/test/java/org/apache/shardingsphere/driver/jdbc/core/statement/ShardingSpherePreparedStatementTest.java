@@ -101,6 +101,41 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
         }
     }
     
+    @Test
+    public void assertAddBatchWithSameRouteUnits() throws SQLException {
+        try (
+                Connection connection = getShardingSphereDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(INSERT_WITH_GENERATE_KEY_SQL);
+                Statement queryStatement = connection.createStatement()) {
+            for (int i = 0; i < 4; i++) {
+                preparedStatement.setInt(1, 3201 + i);
+                preparedStatement.setInt(2, 11 + i % 2);
+                preparedStatement.setInt(3, 11 + i % 2);
+                preparedStatement.setString(4, "BATCH");
+                preparedStatement.addBatch();
+            }
+            int[] result = preparedStatement.executeBatch();
+            assertThat(result.length, is(4));
+            for (int each : result) {
+                assertThat(each, is(1));
+            }
+            try (ResultSet resultSet = queryStatement.executeQuery(String.format(SELECT_SQL_WITHOUT_PARAMETER_MARKER, 11, 11))) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(3201));
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(3203));
+                assertFalse(resultSet.next());
+            }
+            try (ResultSet resultSet = queryStatement.executeQuery(String.format(SELECT_SQL_WITHOUT_PARAMETER_MARKER, 12, 12))) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(3202));
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(3204));
+                assertFalse(resultSet.next());
+            }
+        }
+    }
+    
     @Test
     public void assertMultiValuesWithGenerateShardingKeyColumn() throws SQLException {
         try (
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data consistency check progress.
+ */
+@RequiredArgsConstructor
+@Slf4j
+final class DataConsistencyCheckProgress {
+    
+    private static final int REPORT_TIMES = 20;
+    
+    private final int rangesCount;
+    
+    private final AtomicInteger checkedRangesCount = new AtomicInteger();
+    
+    private final AtomicInteger mismatchedRangesCount = new AtomicInteger();
+    
+    /**
+     * Report checked unique key range.
+     *
+     * @param logicTableName logic table name
+     * @param uniqueKeyValueRange unique key value range
+     * @param matched matched or not
+     */
+    public void onRangeChecked(final String logicTableName, final Pair<Object, Object> uniqueKeyValueRange, final boolean matched) {
+        int mismatchedCount = matched ? mismatchedRangesCount.get() : mismatchedRangesCount.incrementAndGet();
+        int checkedCount = checkedRangesCount.incrementAndGet();
+        log.debug("unique key range checked, logicTableName={}, uniqueKeyValueRange={}, matched={}", logicTableName, uniqueKeyValueRange, matched);
+        if (checkedCount == rangesCount || 0 == checkedCount % Math.max(1, rangesCount / REPORT_TIMES)) {
+            log.info("data check progress, checkedRangesCount={}, rangesCount={}, mismatchedRangesCount={}, percentage={}%", checkedCount, rangesCount, mismatchedCount, checkedCount * 100L / rangesCount);
+        }
+    }
+}
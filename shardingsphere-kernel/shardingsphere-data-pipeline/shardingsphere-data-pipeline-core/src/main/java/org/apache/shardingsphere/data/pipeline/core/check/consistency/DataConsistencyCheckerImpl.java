@@ -17,10 +17,11 @@
 
 package org.apache.shardingsphere.data.pipeline.core.check.consistency;
 
+import com.google.common.base.Strings;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataCalculateParameter;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
@@ -43,15 +44,19 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Properties;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -60,6 +65,10 @@ import java.util.stream.Collectors;
 
 /**
  * Data consistency checker implementation.
+ *
+ * <p>
+ * Records content of table is split into integer unique key ranges, ranges of all tables are checked in parallel.
+ * </p>
  */
 @RequiredArgsConstructor
 @Getter
@@ -68,6 +77,14 @@ public final class DataConsistencyCheckerImpl implements DataConsistencyChecker
     
     private static final Map<PipelineDataSourceConfiguration, PipelineTableMetaDataLoader> TABLE_META_DATA_LOADER_MAP = new ConcurrentHashMap<>();
     
+    private static final String RANGE_SIZE_KEY = "range-size";
+    
+    private static final int DEFAULT_RANGE_SIZE = 100_000;
+    
+    private static final String CONCURRENCY_KEY = "concurrency";
+    
+    private static final int DEFAULT_CONCURRENCY = 4;
+    
     private final PipelineDataSourceFactory dataSourceFactory = new PipelineDataSourceFactory();
     
     // TODO replace to JobConfiguration
@@ -133,9 +150,10 @@ public final class DataConsistencyCheckerImpl implements DataConsistencyChecker
         String targetDatabaseType = targetDataSourceConfig.getDatabaseType().getName();
         SingleTableDataCalculator sourceCalculator = checkAlgorithm.getSingleTableDataCalculator(sourceDatabaseType);
         SingleTableDataCalculator targetCalculator = checkAlgorithm.getSingleTableDataCalculator(targetDatabaseType);
-        Map<String, Boolean> result = new HashMap<>();
+        int rangeSize = getPositiveIntProperty(checkAlgorithm.getProps(), RANGE_SIZE_KEY, DEFAULT_RANGE_SIZE);
+        int concurrency = getPositiveIntProperty(checkAlgorithm.getProps(), CONCURRENCY_KEY, DEFAULT_CONCURRENCY);
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build("job" + jobContext.getJobId() % 10_000 + "-dataCheck-%d");
-        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(2), threadFactory);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
         JobRateLimitAlgorithm rateLimitAlgorithm = jobContext.getRuleAlteredContext().getRateLimitAlgorithm();
         try (PipelineDataSourceWrapper sourceDataSource = dataSourceFactory.newInstance(sourceDataSourceConfig);
              PipelineDataSourceWrapper targetDataSource = dataSourceFactory.newInstance(targetDataSourceConfig)) {
@@ -146,41 +164,97 @@ public final class DataConsistencyCheckerImpl implements DataConsistencyChecker
                     throw new PipelineDataConsistencyCheckFailedException(String.format("could not get metadata for table '%s'", each));
                 }
             });
+            Map<String, Collection<Pair<Object, Object>>> tableRangesMap = new LinkedHashMap<>(logicTableNames.size(), 1);
             for (String each : logicTableNames) {
-                PipelineTableMetaData tableMetaData = tableMetaDataLoader.getTableMetaData(each);
-                Collection<String> columnNames = tableMetaData.getColumnNames();
-                String uniqueKey = tableMetaData.getPrimaryKeys().get(0);
-                DataCalculateParameter sourceCalculateParameter = DataCalculateParameter.builder().dataSource(sourceDataSource).databaseType(sourceDatabaseType).peerDatabaseType(targetDatabaseType)
-                    .logicTableName(each).columnNames(columnNames).uniqueKey(uniqueKey).build();
-                DataCalculateParameter targetCalculateParameter = DataCalculateParameter.builder().dataSource(targetDataSource).databaseType(targetDatabaseType).peerDatabaseType(sourceDatabaseType)
-                    .logicTableName(each).columnNames(columnNames).uniqueKey(uniqueKey).build();
-                Iterator<Object> sourceCalculatedResultIterator = sourceCalculator.calculate(sourceCalculateParameter).iterator();
-                Iterator<Object> targetCalculatedResultIterator = targetCalculator.calculate(targetCalculateParameter).iterator();
+                String uniqueKey = tableMetaDataLoader.getTableMetaData(each).getPrimaryKeys().get(0);
+                tableRangesMap.put(each, splitUniqueKeyValueRanges(sourceDataSource, targetDataSource, each, uniqueKey, rangeSize));
+            }
+            DataConsistencyCheckProgress progress = new DataConsistencyCheckProgress(tableRangesMap.values().stream().mapToInt(Collection::size).sum());
+            Map<String, Collection<Future<Boolean>>> tableFuturesMap = new LinkedHashMap<>(logicTableNames.size(), 1);
+            for (Entry<String, Collection<Pair<Object, Object>>> entry : tableRangesMap.entrySet()) {
+                PipelineTableMetaData tableMetaData = tableMetaDataLoader.getTableMetaData(entry.getKey());
+                UniqueKeyRangeDataConsistencyChecker rangeChecker = new UniqueKeyRangeDataConsistencyChecker(
+                        sourceDataSource, targetDataSource, sourceCalculator, targetCalculator, entry.getKey(), tableMetaData, rateLimitAlgorithm);
+                Collection<Future<Boolean>> futures = new LinkedList<>();
+                for (Pair<Object, Object> each : entry.getValue()) {
+                    futures.add(executor.submit(() -> {
+                        boolean result = rangeChecker.check(each);
+                        progress.onRangeChecked(entry.getKey(), each, result);
+                        return result;
+                    }));
+                }
+                tableFuturesMap.put(entry.getKey(), futures);
+            }
+            Map<String, Boolean> result = new HashMap<>(logicTableNames.size(), 1);
+            for (Entry<String, Collection<Future<Boolean>>> entry : tableFuturesMap.entrySet()) {
                 boolean calculateResultsEquals = true;
-                while (sourceCalculatedResultIterator.hasNext() && targetCalculatedResultIterator.hasNext()) {
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.onQuery();
-                    }
-                    Future<Object> sourceFuture = executor.submit(sourceCalculatedResultIterator::next);
-                    Future<Object> targetFuture = executor.submit(targetCalculatedResultIterator::next);
-                    Object sourceCalculatedResult = sourceFuture.get();
-                    Object targetCalculatedResult = targetFuture.get();
-                    calculateResultsEquals = Objects.equals(sourceCalculatedResult, targetCalculatedResult);
-                    if (!calculateResultsEquals) {
-                        break;
-                    }
+                for (Future<Boolean> each : entry.getValue()) {
+                    calculateResultsEquals &= each.get();
                 }
-                result.put(each, calculateResultsEquals);
+                result.put(entry.getKey(), calculateResultsEquals);
             }
+            return result;
         } catch (final ExecutionException | InterruptedException | SQLException ex) {
             throw new PipelineDataConsistencyCheckFailedException("data check failed", ex);
         } finally {
             executor.shutdown();
             executor.shutdownNow();
         }
+    }
+    
+    private int getPositiveIntProperty(final Properties props, final String key, final int defaultValue) {
+        String value = null != props ? props.getProperty(key) : null;
+        if (Strings.isNullOrEmpty(value)) {
+            return defaultValue;
+        }
+        int result = Integer.parseInt(value);
+        if (result <= 0) {
+            log.warn("invalid {}={}, use default value {}", key, result, defaultValue);
+            return defaultValue;
+        }
         return result;
     }
     
+    private Collection<Pair<Object, Object>> splitUniqueKeyValueRanges(final PipelineDataSourceWrapper sourceDataSource, final PipelineDataSourceWrapper targetDataSource,
+                                                                       final String logicTableName, final String uniqueKey, final int rangeSize) throws SQLException {
+        Optional<long[]> sourceStatistics = queryUniqueKeyStatistics(sourceDataSource, logicTableName, uniqueKey);
+        Optional<long[]> targetStatistics = queryUniqueKeyStatistics(targetDataSource, logicTableName, uniqueKey);
+        if (!sourceStatistics.isPresent() || !targetStatistics.isPresent()) {
+            return Collections.singletonList(null);
+        }
+        long minValue = Math.min(sourceStatistics.get()[0], targetStatistics.get()[0]);
+        long maxValue = Math.max(sourceStatistics.get()[1], targetStatistics.get()[1]);
+        long recordsCount = Math.max(sourceStatistics.get()[2], targetStatistics.get()[2]);
+        long valueCount = maxValue - minValue + 1;
+        if (valueCount <= 0) {
+            return Collections.singletonList(null);
+        }
+        long rangeCount = Math.max(1L, (recordsCount + rangeSize - 1) / rangeSize);
+        long stepSize = (valueCount + rangeCount - 1) / rangeCount;
+        Collection<Pair<Object, Object>> result = new LinkedList<>();
+        for (long beginValue = minValue; beginValue <= maxValue && beginValue >= minValue; beginValue += stepSize) {
+            result.add(Pair.of(beginValue, maxValue - beginValue < stepSize ? maxValue : beginValue + stepSize - 1));
+        }
+        log.info("split unique key value ranges, logicTableName={}, minValue={}, maxValue={}, recordsCount={}, rangeCount={}", logicTableName, minValue, maxValue, recordsCount, result.size());
+        return result;
+    }
+    
+    private Optional<long[]> queryUniqueKeyStatistics(final PipelineDataSourceWrapper dataSource, final String logicTableName, final String uniqueKey) throws SQLException {
+        String sql = ScalingSQLBuilderFactory.newInstance(dataSource.getDatabaseType().getName()).buildPrimaryKeyStatisticsSQL(logicTableName, uniqueKey);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next() || !isIntegerValue(resultSet.getObject(1)) || !isIntegerValue(resultSet.getObject(2))) {
+                return Optional.empty();
+            }
+            return Optional.of(new long[]{resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3)});
+        }
+    }
+    
+    private boolean isIntegerValue(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
     private void checkDatabaseTypeSupportedOrNot(final Collection<String> supportedDatabaseTypes, final String databaseType) {
         if (!supportedDatabaseTypes.contains(databaseType)) {
             throw new PipelineDataConsistencyCheckFailedException("database type " + databaseType + " is not supported in " + supportedDatabaseTypes);
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.spi.check.consistency.SingleTableDataCalculator;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Objects;
+
+/**
+ * Unique key range data consistency checker.
+ *
+ * <p>
+ * If unique key range is mismatched, it will be split into halves and only mismatched halves are checked again, to locate mismatched records.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+final class UniqueKeyRangeDataConsistencyChecker {
+    
+    private static final long MIN_DRILL_DOWN_RANGE_SIZE = 1000L;
+    
+    private static final int MAX_MISMATCHED_RANGES_COUNT = 10;
+    
+    private final PipelineDataSourceWrapper sourceDataSource;
+    
+    private final PipelineDataSourceWrapper targetDataSource;
+    
+    private final SingleTableDataCalculator sourceCalculator;
+    
+    private final SingleTableDataCalculator targetCalculator;
+    
+    private final String logicTableName;
+    
+    private final PipelineTableMetaData tableMetaData;
+    
+    private final JobRateLimitAlgorithm rateLimitAlgorithm;
+    
+    /**
+     * Check records content of unique key range.
+     *
+     * @param uniqueKeyValueRange unique key value range, null means whole table
+     * @return matched or not
+     */
+    public boolean check(final Pair<Object, Object> uniqueKeyValueRange) {
+        if (isMatched(uniqueKeyValueRange)) {
+            return true;
+        }
+        if (null != uniqueKeyValueRange) {
+            Collection<Pair<Object, Object>> mismatchedRanges = new LinkedList<>();
+            drillDown(uniqueKeyValueRange, mismatchedRanges);
+            log.warn("data check mismatched, logicTableName={}, uniqueKeyValueRange={}, mismatchedRanges={}", logicTableName, uniqueKeyValueRange, mismatchedRanges);
+        } else {
+            log.warn("data check mismatched, logicTableName={}", logicTableName);
+        }
+        return false;
+    }
+    
+    private void drillDown(final Pair<Object, Object> uniqueKeyValueRange, final Collection<Pair<Object, Object>> mismatchedRanges) {
+        long beginValue = (Long) uniqueKeyValueRange.getLeft();
+        long endValue = (Long) uniqueKeyValueRange.getRight();
+        if (endValue - beginValue < MIN_DRILL_DOWN_RANGE_SIZE || mismatchedRanges.size() >= MAX_MISMATCHED_RANGES_COUNT) {
+            mismatchedRanges.add(uniqueKeyValueRange);
+            return;
+        }
+        int mismatchedRangesCount = mismatchedRanges.size();
+        long middleValue = beginValue + (endValue - beginValue) / 2;
+        Pair<Object, Object> lowerRange = Pair.of(beginValue, middleValue);
+        Pair<Object, Object> upperRange = Pair.of(middleValue + 1, endValue);
+        for (Pair<Object, Object> each : Arrays.asList(lowerRange, upperRange)) {
+            if (!isMatched(each)) {
+                drillDown(each, mismatchedRanges);
+            }
+        }
+        if (mismatchedRanges.size() == mismatchedRangesCount) {
+            mismatchedRanges.add(uniqueKeyValueRange);
+        }
+    }
+    
+    private boolean isMatched(final Pair<Object, Object> uniqueKeyValueRange) {
+        Iterator<Object> sourceCalculatedResultIterator = sourceCalculator.calculate(createCalculateParameter(sourceDataSource, targetDataSource, uniqueKeyValueRange)).iterator();
+        Iterator<Object> targetCalculatedResultIterator = targetCalculator.calculate(createCalculateParameter(targetDataSource, sourceDataSource, uniqueKeyValueRange)).iterator();
+        while (sourceCalculatedResultIterator.hasNext() && targetCalculatedResultIterator.hasNext()) {
+            if (null != rateLimitAlgorithm) {
+                rateLimitAlgorithm.onQuery();
+            }
+            if (!Objects.equals(sourceCalculatedResultIterator.next(), targetCalculatedResultIterator.next())) {
+                return false;
+            }
+        }
+        return !sourceCalculatedResultIterator.hasNext() && !targetCalculatedResultIterator.hasNext();
+    }
+    
+    private DataCalculateParameter createCalculateParameter(final PipelineDataSourceWrapper dataSource, final PipelineDataSourceWrapper peerDataSource, final Pair<Object, Object> uniqueKeyValueRange) {
+        return DataCalculateParameter.builder().dataSource(dataSource).databaseType(dataSource.getDatabaseType().getName()).peerDatabaseType(peerDataSource.getDatabaseType().getName())
+                .logicTableName(logicTableName).columnNames(tableMetaData.getColumnNames()).uniqueKey(tableMetaData.getPrimaryKeys().get(0)).uniqueKeyValueRange(uniqueKeyValueRange).build();
+    }
+}
@@ -36,14 +36,21 @@ import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
 import org.apache.shardingsphere.data.pipeline.spi.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.spi.importer.ImporterListener;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +61,12 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_ROWS_PER_INSERT = 1000;
+    
+    private static final int MAX_PARAMETERS_PER_STATEMENT = Short.MAX_VALUE;
+    
+    private static final int MIN_RECORDS_PER_WRITER = 64;
+    
     private final ImporterConfiguration importerConfig;
     
     private final PipelineDataSourceManager dataSourceManager;
@@ -66,6 +79,8 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     @Setter
     private ImporterListener importerListener;
     
+    private ExecutorService writerExecutor;
+    
     protected AbstractImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
         this.importerConfig = importerConfig;
         this.dataSourceManager = dataSourceManager;
@@ -89,6 +104,19 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     @Override
     public final void write() {
         log.info("importer write");
+        if (importerConfig.getWriterConcurrency() > 1) {
+            writerExecutor = Executors.newFixedThreadPool(importerConfig.getWriterConcurrency() - 1, ExecutorThreadFactoryBuilder.build("Importer-Writer-%d"));
+        }
+        try {
+            doWrite();
+        } finally {
+            if (null != writerExecutor) {
+                writerExecutor.shutdownNow();
+            }
+        }
+    }
+    
+    private void doWrite() {
         int rowCount = 0;
         while (isRunning()) {
             List<Record> records = channel.fetchRecords(1024, 3);
@@ -115,17 +143,72 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
                 .collect(Collectors.toList()));
         groupedDataRecords.forEach(each -> {
             if (CollectionUtils.isNotEmpty(each.getDeleteDataRecords())) {
-                flushInternal(dataSource, each.getDeleteDataRecords());
+                flushInParallel(dataSource, each.getDeleteDataRecords(), DataRecord::getKey);
             }
             if (CollectionUtils.isNotEmpty(each.getInsertDataRecords())) {
-                flushInternal(dataSource, each.getInsertDataRecords());
+                flushInParallel(dataSource, each.getInsertDataRecords(), DataRecord::getKey);
             }
             if (CollectionUtils.isNotEmpty(each.getUpdateDataRecords())) {
-                flushInternal(dataSource, each.getUpdateDataRecords());
+                if (each.getUpdateDataRecords().stream().anyMatch(this::isPrimaryKeyUpdated)) {
+                    flushInternal(dataSource, each.getUpdateDataRecords());
+                } else {
+                    flushInParallel(dataSource, each.getUpdateDataRecords(), DataRecord::getKey);
+                }
             }
         });
     }
     
+    private boolean isPrimaryKeyUpdated(final DataRecord dataRecord) {
+        return RecordUtil.extractPrimaryColumns(dataRecord).stream().anyMatch(Column::isUpdated);
+    }
+    
+    private void flushInParallel(final DataSource dataSource, final List<DataRecord> buffer, final Function<DataRecord, Object> partitionKeyFunction) {
+        int writerCount = null == writerExecutor ? 1 : Math.min(importerConfig.getWriterConcurrency(), buffer.size() / MIN_RECORDS_PER_WRITER);
+        if (writerCount <= 1) {
+            flushInternal(dataSource, buffer);
+            return;
+        }
+        List<List<DataRecord>> partitions = partition(buffer, writerCount, partitionKeyFunction);
+        List<Future<?>> futures = new ArrayList<>(writerCount - 1);
+        for (int i = 1; i < writerCount; i++) {
+            List<DataRecord> partition = partitions.get(i);
+            if (!partition.isEmpty()) {
+                futures.add(writerExecutor.submit(() -> flushInternal(dataSource, partition)));
+            }
+        }
+        if (!partitions.get(0).isEmpty()) {
+            flushInternal(dataSource, partitions.get(0));
+        }
+        waitForFlushed(futures);
+    }
+    
+    private List<List<DataRecord>> partition(final List<DataRecord> buffer, final int partitionCount, final Function<DataRecord, Object> partitionKeyFunction) {
+        List<List<DataRecord>> result = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            result.add(new ArrayList<>(buffer.size() / partitionCount + 1));
+        }
+        for (DataRecord each : buffer) {
+            result.get(Math.abs(partitionKeyFunction.apply(each).hashCode() % partitionCount)).add(each);
+        }
+        return result;
+    }
+    
+    private void waitForFlushed(final List<Future<?>> futures) {
+        for (Future<?> each : futures) {
+            try {
+                each.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new PipelineJobExecutionException("write interrupted.", ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof PipelineJobExecutionException) {
+                    throw (PipelineJobExecutionException) ex.getCause();
+                }
+                throw new PipelineJobExecutionException("write failed.", ex.getCause());
+            }
+        }
+    }
+    
     private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
         boolean success = tryFlush(dataSource, buffer);
         if (isRunning() && !success) {
@@ -167,14 +250,30 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        String insertSql = pipelineSqlBuilder.buildInsertSQL(dataRecords.get(0));
+        int maxRowsPerStatement = Math.min(MAX_ROWS_PER_INSERT, MAX_PARAMETERS_PER_STATEMENT / Math.max(1, dataRecords.get(0).getColumnCount()));
+        int rowsPerStatement = Math.max(1, Math.min(maxRowsPerStatement, dataRecords.size()));
+        int multipleRowsCount = 1 == rowsPerStatement ? 0 : dataRecords.size() - dataRecords.size() % rowsPerStatement;
+        executeBatchInsert(connection, dataRecords.subList(0, multipleRowsCount), rowsPerStatement);
+        executeBatchInsert(connection, dataRecords.subList(multipleRowsCount, dataRecords.size()), 1);
+    }
+    
+    private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords, final int rowsPerStatement) throws SQLException {
+        if (dataRecords.isEmpty()) {
+            return;
+        }
+        String insertSql = 1 == rowsPerStatement ? pipelineSqlBuilder.buildInsertSQL(dataRecords.get(0)) : pipelineSqlBuilder.buildInsertSQL(dataRecords.get(0), rowsPerStatement);
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             ps.setQueryTimeout(30);
+            int parameterIndex = 1;
+            int rowIndex = 0;
             for (DataRecord each : dataRecords) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
-                    ps.setObject(i + 1, each.getColumn(i).getValue());
+                    ps.setObject(parameterIndex++, each.getColumn(i).getValue());
+                }
+                if (0 == ++rowIndex % rowsPerStatement) {
+                    ps.addBatch();
+                    parameterIndex = 1;
                 }
-                ps.addBatch();
             }
             ps.executeBatch();
         }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel;
+
+import com.google.common.collect.Queues;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Channel util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ChannelUtil {
+    
+    /**
+     * Fetch records from queue.
+     *
+     * <p>
+     * Wait until the first record arrives or timeout expires, then wait until batch is full or linger time expires.
+     * Waiting threads are woken up by arrived records, so there is no polling interval.
+     * </p>
+     *
+     * @param queue queue
+     * @param batchSize record batch size
+     * @param timeout timeout(seconds)
+     * @param lingerMillis linger time(milliseconds) to wait for batch full after the first record arrived
+     * @return records
+     */
+    public static List<Record> fetchRecords(final BlockingQueue<Record> queue, final int batchSize, final int timeout, final long lingerMillis) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+        try {
+            Record firstRecord = queue.poll(timeout, TimeUnit.SECONDS);
+            if (null == firstRecord) {
+                return result;
+            }
+            result.add(firstRecord);
+            long lingerNanos = Math.max(0L, Math.min(TimeUnit.MILLISECONDS.toNanos(lingerMillis), deadlineNanos - System.nanoTime()));
+            Queues.drain(queue, result, batchSize - 1, lingerNanos, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+}
@@ -19,9 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.channel;
 
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.Channel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
-import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
 
-import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -32,18 +30,29 @@ import java.util.concurrent.BlockingQueue;
  */
 public final class MemoryChannel implements Channel {
     
+    public static final long DEFAULT_LINGER_MILLIS = 100L;
+    
     private final BlockingQueue<Record> queue;
     
+    private final long lingerMillis;
+    
     private final AckCallback ackCallback;
     
     private final List<Record> toBeAcknowledgeRecords = new LinkedList<>();
     
+    private volatile long lastAcknowledgedCommitTime;
+    
     public MemoryChannel(final AckCallback ackCallback) {
         this(10000, ackCallback);
     }
     
     public MemoryChannel(final int blockQueueSize, final AckCallback ackCallback) {
+        this(blockQueueSize, DEFAULT_LINGER_MILLIS, ackCallback);
+    }
+    
+    public MemoryChannel(final int blockQueueSize, final long lingerMillis, final AckCallback ackCallback) {
         this.queue = new ArrayBlockingQueue<>(blockQueueSize);
+        this.lingerMillis = lingerMillis;
         this.ackCallback = ackCallback;
     }
     
@@ -54,15 +63,7 @@ public final class MemoryChannel implements Channel {
     
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
-        List<Record> result = new ArrayList<>(batchSize);
-        long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
-            if (timeout * 1000L <= System.currentTimeMillis() - start) {
-                break;
-            }
-            ThreadUtil.sleep(100L);
-        }
-        queue.drainTo(result, batchSize);
+        List<Record> result = ChannelUtil.fetchRecords(queue, batchSize, timeout, lingerMillis);
         toBeAcknowledgeRecords.addAll(result);
         return result;
     }
@@ -71,10 +72,22 @@ public final class MemoryChannel implements Channel {
     public void ack() {
         if (!toBeAcknowledgeRecords.isEmpty()) {
             ackCallback.onAck(toBeAcknowledgeRecords);
+            lastAcknowledgedCommitTime = toBeAcknowledgeRecords.get(toBeAcknowledgeRecords.size() - 1).getCommitTime();
             toBeAcknowledgeRecords.clear();
         }
     }
     
+    @Override
+    public int getQueueDepth() {
+        return queue.size();
+    }
+    
+    @Override
+    public long getLagMillis() {
+        long commitTime = lastAcknowledgedCommitTime;
+        return commitTime > 0 ? Math.max(0L, System.currentTimeMillis() - commitTime) : 0L;
+    }
+    
     @Override
     public void close() {
         queue.clear();
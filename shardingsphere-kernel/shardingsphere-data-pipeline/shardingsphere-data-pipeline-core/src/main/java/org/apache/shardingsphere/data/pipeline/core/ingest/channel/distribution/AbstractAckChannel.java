@@ -19,43 +19,26 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.channel.distribution
 
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 
-import java.util.BitSet;
-import java.util.Deque;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
- * Abstract BitSet channel.
+ * Abstract acknowledge channel.
  */
 @Getter(AccessLevel.PROTECTED)
-@Setter(AccessLevel.PROTECTED)
-public abstract class AbstractBitSetChannel implements BitSetChannel {
+public abstract class AbstractAckChannel implements AckChannel {
     
-    private final Deque<Record> toBeAckRecords = new ConcurrentLinkedDeque<>();
-    
-    private final ManualBitSet manualBitSet = new ManualBitSet();
-    
-    private long acknowledgedIndex;
-    
-    @Override
-    public BitSet getAckBitSet(final long fromIndex) {
-        return manualBitSet.get(fromIndex, acknowledgedIndex);
-    }
-    
-    @Override
-    public Record removeAckRecord() {
-        return toBeAckRecords.remove();
-    }
+    private final Queue<Record> ackRecords = new ConcurrentLinkedQueue<>();
     
     @Override
-    public void clear(final long index) {
-        manualBitSet.clear(index);
+    public Record pollAckRecord() {
+        return ackRecords.poll();
     }
     
     @Override
     public void close() {
-        toBeAckRecords.clear();
+        ackRecords.clear();
     }
 }
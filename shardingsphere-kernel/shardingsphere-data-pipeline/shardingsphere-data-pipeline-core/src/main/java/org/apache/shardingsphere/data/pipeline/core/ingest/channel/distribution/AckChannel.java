@@ -19,22 +19,20 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.channel.distribution
 
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 
-import java.util.BitSet;
 import java.util.List;
 
 /**
- * BitSet channel interface.
+ * Acknowledge channel interface.
  */
-public interface BitSetChannel {
+public interface AckChannel {
     
     /**
-     * Push a {@code DataRecord} with index to channel.
+     * Push a {@code DataRecord} to channel.
      *
      * @param dataRecord data
-     * @param index data index
      * @throws InterruptedException if thread interrupted
      */
-    void pushRecord(Record dataRecord, long index) throws InterruptedException;
+    void pushRecord(Record dataRecord) throws InterruptedException;
     
     /**
      * Fetch {@code Record} from channel, if the timeout also returns the record.
@@ -46,31 +44,23 @@ public interface BitSetChannel {
     List<Record> fetchRecords(int batchSize, int timeout);
     
     /**
-     * Ack the last batch.
+     * Ack the fetched records.
      */
     void ack();
     
     /**
-     * Get acknowledged BitSet.
+     * Poll earliest acknowledged record.
      *
-     * @param fromIndex from index
-     * @return BitSet
+     * @return record, null if there is no acknowledged record
      */
-    BitSet getAckBitSet(long fromIndex);
+    Record pollAckRecord();
     
     /**
-     * Remove earliest acknowledged record.
+     * Get count of records waiting to be fetched.
      *
-     * @return record
-     */
-    Record removeAckRecord();
-    
-    /**
-     * Clear BitSet.
-     *
-     * @param index BitSet index
+     * @return queue depth
      */
-    void clear(long index);
+    int getQueueDepth();
     
     /**
      * Close channel.
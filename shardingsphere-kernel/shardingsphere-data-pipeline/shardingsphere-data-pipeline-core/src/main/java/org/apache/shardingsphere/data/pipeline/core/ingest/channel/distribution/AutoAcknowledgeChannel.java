@@ -22,15 +22,13 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import java.util.List;
 
 /**
- * Auto Acknowledge BitSet channel.
+ * Auto acknowledge channel.
  */
-public final class AutoAcknowledgeChannel extends AbstractBitSetChannel {
+public final class AutoAcknowledgeChannel extends AbstractAckChannel {
     
     @Override
-    public void pushRecord(final Record dataRecord, final long index) {
-        getManualBitSet().set(index);
-        getToBeAckRecords().add(dataRecord);
-        setAcknowledgedIndex(index + 1);
+    public void pushRecord(final Record dataRecord) {
+        getAckRecords().add(dataRecord);
     }
     
     @Override
@@ -42,4 +40,9 @@ public final class AutoAcknowledgeChannel extends AbstractBitSetChannel {
     public void ack() {
         throw new UnsupportedOperationException("Auto ack channel do not have to ack.");
     }
+    
+    @Override
+    public int getQueueDepth() {
+        return 0;
+    }
 }
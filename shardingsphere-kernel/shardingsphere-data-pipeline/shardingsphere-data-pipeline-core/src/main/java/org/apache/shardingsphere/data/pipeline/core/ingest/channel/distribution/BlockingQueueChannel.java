@@ -18,55 +18,59 @@
 package org.apache.shardingsphere.data.pipeline.core.ingest.channel.distribution;
 
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
-import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.ChannelUtil;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.MemoryChannel;
 
-import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 
 /**
- * Blocking queue BitSet channel.
+ * Blocking queue acknowledge channel.
  */
-public final class BlockingQueueChannel extends AbstractBitSetChannel {
+public final class BlockingQueueChannel extends AbstractAckChannel {
     
     private final BlockingQueue<Record> queue;
     
-    private long fetchedIndex;
+    private final long lingerMillis;
+    
+    private final List<Record> fetchedRecords = new LinkedList<>();
     
     public BlockingQueueChannel() {
         this(10000);
     }
     
     public BlockingQueueChannel(final int blockQueueSize) {
+        this(blockQueueSize, MemoryChannel.DEFAULT_LINGER_MILLIS);
+    }
+    
+    public BlockingQueueChannel(final int blockQueueSize, final long lingerMillis) {
         this.queue = new ArrayBlockingQueue<>(blockQueueSize);
+        this.lingerMillis = lingerMillis;
     }
     
     @Override
-    public void pushRecord(final Record dataRecord, final long index) throws InterruptedException {
-        getManualBitSet().set(index);
+    public void pushRecord(final Record dataRecord) throws InterruptedException {
         queue.put(dataRecord);
     }
     
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
-        List<Record> result = new ArrayList<>(batchSize);
-        long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
-            if (timeout * 1000L <= System.currentTimeMillis() - start) {
-                break;
-            }
-            ThreadUtil.sleep(100L);
-        }
-        queue.drainTo(result, batchSize);
-        getToBeAckRecords().addAll(result);
-        fetchedIndex = getManualBitSet().getEndIndex(fetchedIndex, result.size());
+        List<Record> result = ChannelUtil.fetchRecords(queue, batchSize, timeout, lingerMillis);
+        fetchedRecords.addAll(result);
         return result;
     }
     
     @Override
     public void ack() {
-        setAcknowledgedIndex(fetchedIndex);
+        getAckRecords().addAll(fetchedRecords);
+        fetchedRecords.clear();
+    }
+    
+    @Override
+    public int getQueueDepth() {
+        return queue.size();
     }
     
     @Override
@@ -24,56 +24,50 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.MemoryChannel;
 
-import java.util.BitSet;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Distribution channel.
+ *
+ * <p>
+ * Records are acknowledged in push order, as soon as they and all records pushed before them are acknowledged by their channels.
+ * </p>
  */
 @Slf4j
 public final class DistributionChannel implements Channel {
     
     private final int channelNumber;
     
-    private final BitSetChannel[] channels;
+    private final AckChannel[] channels;
     
-    private final BitSetChannel autoAckChannel = new AutoAcknowledgeChannel();
+    private final AckChannel autoAckChannel = new AutoAcknowledgeChannel();
     
     private final Map<String, Integer> channelAssignment = new HashMap<>();
     
     private final AckCallback ackCallback;
     
-    private final AtomicLong indexAutoIncreaseGenerator = new AtomicLong();
-    
-    private final Queue<Integer> toBeAckBitSetIndexes = new ConcurrentLinkedQueue<>();
-    
-    private long lastAckIndex;
+    private final Queue<Integer> toBeAckChannelIndexes = new ConcurrentLinkedQueue<>();
     
-    private ScheduledExecutorService scheduleAckRecordsExecutor;
+    private volatile long lastAckCommitTime;
     
     public DistributionChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
+        this(channelNumber, blockQueueSize, MemoryChannel.DEFAULT_LINGER_MILLIS, ackCallback);
+    }
+    
+    public DistributionChannel(final int channelNumber, final int blockQueueSize, final long lingerMillis, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
         this.ackCallback = ackCallback;
-        channels = new BitSetChannel[channelNumber];
+        channels = new AckChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new BlockingQueueChannel(blockQueueSize);
+            channels[i] = new BlockingQueueChannel(blockQueueSize, lingerMillis);
         }
-        scheduleAckRecords();
-    }
-    
-    private void scheduleAckRecords() {
-        scheduleAckRecordsExecutor = Executors.newSingleThreadScheduledExecutor();
-        scheduleAckRecordsExecutor.scheduleWithFixedDelay(this::ackRecords0, 5, 1, TimeUnit.SECONDS);
     }
     
     @Override
@@ -86,14 +80,15 @@ public final class DistributionChannel implements Channel {
             pushRecord(record, Math.abs(record.hashCode() % channelNumber));
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
             pushRecord(record, -1);
+            ackRecords0();
         } else {
             throw new RuntimeException("Not Support Record Type");
         }
     }
     
     private void pushRecord(final Record record, final int index) throws InterruptedException {
-        toBeAckBitSetIndexes.add(index);
-        getBitSetChannel(index).pushRecord(record, indexAutoIncreaseGenerator.getAndIncrement());
+        toBeAckChannelIndexes.add(index);
+        getAckChannel(index).pushRecord(record);
     }
     
     @Override
@@ -104,47 +99,58 @@ public final class DistributionChannel implements Channel {
     @Override
     public void ack() {
         findChannel().ack();
+        ackRecords0();
     }
     
     private synchronized void ackRecords0() {
         try {
-            int count = shouldAckCount();
-            if (0 == count) {
+            List<Record> records = fetchAckRecords();
+            if (records.isEmpty()) {
                 return;
             }
-            ackCallback.onAck(fetchAckRecords(count));
-            lastAckIndex += count;
-            for (BitSetChannel channel : channels) {
-                channel.clear(lastAckIndex);
-            }
+            ackCallback.onAck(records);
+            lastAckCommitTime = records.get(records.size() - 1).getCommitTime();
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            log.error("distribution channel auto ack failed.", ex);
+            log.error("distribution channel ack failed.", ex);
         }
     }
     
-    private int shouldAckCount() {
-        BitSet bitSet = autoAckChannel.getAckBitSet(lastAckIndex);
-        for (BitSetChannel channel : channels) {
-            bitSet.or(channel.getAckBitSet(lastAckIndex));
+    private List<Record> fetchAckRecords() {
+        List<Record> result = new LinkedList<>();
+        Integer index;
+        while (null != (index = toBeAckChannelIndexes.peek())) {
+            Record record = getAckChannel(index).pollAckRecord();
+            if (null == record) {
+                break;
+            }
+            toBeAckChannelIndexes.remove();
+            result.add(record);
         }
-        return bitSet.nextClearBit(0);
+        return result;
     }
     
-    private List<Record> fetchAckRecords(final int count) {
-        List<Record> result = new LinkedList<>();
-        for (int i = 0; i < count; i++) {
-            result.add(getBitSetChannel(toBeAckBitSetIndexes.remove()).removeAckRecord());
+    @Override
+    public int getQueueDepth() {
+        int result = 0;
+        for (AckChannel each : channels) {
+            result += each.getQueueDepth();
         }
         return result;
     }
     
-    private BitSetChannel getBitSetChannel(final Integer index) {
+    @Override
+    public long getLagMillis() {
+        long commitTime = lastAckCommitTime;
+        return commitTime > 0 ? Math.max(0L, System.currentTimeMillis() - commitTime) : 0L;
+    }
+    
+    private AckChannel getAckChannel(final Integer index) {
         return index == -1 ? autoAckChannel : channels[index];
     }
     
-    private BitSetChannel findChannel() {
+    private AckChannel findChannel() {
         String threadId = Long.toString(Thread.currentThread().getId());
         checkAssignment(threadId);
         return channels[channelAssignment.get(threadId)];
@@ -171,11 +177,11 @@ public final class DistributionChannel implements Channel {
     
     @Override
     public void close() {
-        scheduleAckRecordsExecutor.shutdown();
         ackRecords0();
-        for (BitSetChannel each : channels) {
+        for (AckChannel each : channels) {
             each.close();
         }
-        toBeAckBitSetIndexes.clear();
+        autoAckChannel.close();
+        toBeAckChannelIndexes.clear();
     }
 }
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.scaling.core.job.sqlbuilder.ScalingSQLBuilderFactory;
@@ -42,19 +43,28 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Inventory data task splitter.
+ *
+ * <p>
+ * Integer primary key range is split by min value, max value and row count of primary key if primary key is dense enough,
+ * otherwise it is split by scanning primary key.
+ * </p>
  */
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final int MAX_PRIMARY_KEY_SPARSENESS = 2;
+    
     /**
      * Split inventory data to multi-tasks.
      *
@@ -166,35 +176,72 @@ public final class InventoryTaskSplitter {
     }
     
     private Collection<IngestPosition<?>> getPositionByPrimaryKeyRange(final RuleAlteredJobContext jobContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
+        PipelineSQLBuilder sqlBuilder = ScalingSQLBuilderFactory.newInstance(jobContext.getJobConfig().getHandleConfig().getSourceDatabaseType());
+        int shardingSize = jobContext.getJobConfig().getHandleConfig().getShardingSize();
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<Collection<IngestPosition<?>>> result = getPositionByPrimaryKeyStatistics(connection, sqlBuilder, dumperConfig, shardingSize);
+            return result.isPresent() ? result.get() : getPositionByPrimaryKeyScan(connection, sqlBuilder, dumperConfig, shardingSize);
+        } catch (final SQLException ex) {
+            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfig.getTableName(), dumperConfig.getPrimaryKey()), ex);
+        }
+    }
+    
+    private Optional<Collection<IngestPosition<?>>> getPositionByPrimaryKeyStatistics(
+            final Connection connection, final PipelineSQLBuilder sqlBuilder, final InventoryDumperConfiguration dumperConfig, final int shardingSize) throws SQLException {
+        long minId;
+        long maxId;
+        long rowCount;
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sqlBuilder.buildPrimaryKeyStatisticsSQL(dumperConfig.getTableName(), dumperConfig.getPrimaryKey()))) {
+            if (!resultSet.next() || null == resultSet.getObject(1)) {
+                // fix empty table missing inventory task
+                return Optional.of(Collections.singletonList(new PrimaryKeyPosition(0, 0)));
+            }
+            minId = resultSet.getLong(1);
+            maxId = resultSet.getLong(2);
+            rowCount = resultSet.getLong(3);
+        }
+        long idCount = maxId - minId + 1;
+        if (idCount <= 0 || idCount > rowCount * MAX_PRIMARY_KEY_SPARSENESS) {
+            log.info("Primary key of table {} is sparse, split by scan, minId={}, maxId={}, rowCount={}", dumperConfig.getTableName(), minId, maxId, rowCount);
+            return Optional.empty();
+        }
+        long splitCount = Math.max(1L, (rowCount + shardingSize - 1) / shardingSize);
+        long stepSize = (idCount + splitCount - 1) / splitCount;
+        Collection<IngestPosition<?>> result = new ArrayList<>((int) splitCount);
+        for (long beginId = minId; beginId <= maxId && beginId >= minId; beginId += stepSize) {
+            result.add(new PrimaryKeyPosition(beginId, maxId - beginId < stepSize ? maxId : beginId + stepSize - 1));
+        }
+        return Optional.of(result);
+    }
+    
+    private Collection<IngestPosition<?>> getPositionByPrimaryKeyScan(
+            final Connection connection, final PipelineSQLBuilder sqlBuilder, final InventoryDumperConfiguration dumperConfig, final int shardingSize) throws SQLException {
         Collection<IngestPosition<?>> result = new ArrayList<>();
-        String sql = ScalingSQLBuilderFactory.newInstance(jobContext.getJobConfig().getHandleConfig().getSourceDatabaseType())
-                .buildSplitByPrimaryKeyRangeSQL(dumperConfig.getTableName(), dumperConfig.getPrimaryKey());
-        try (Connection connection = dataSource.getConnection();
-             PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = connection.prepareStatement(sqlBuilder.buildSplitByPrimaryKeyRangeSQL(dumperConfig.getTableName(), dumperConfig.getPrimaryKey()))) {
             long beginId = 0;
             for (int i = 0; i < Integer.MAX_VALUE; i++) {
                 ps.setLong(1, beginId);
-                ps.setLong(2, jobContext.getJobConfig().getHandleConfig().getShardingSize());
+                ps.setLong(2, shardingSize);
                 try (ResultSet rs = ps.executeQuery()) {
                     if (!rs.next()) {
-                        log.info("getPositionByPrimaryKeyRange, rs.next false, break");
+                        log.info("getPositionByPrimaryKeyScan, rs.next false, break");
                         break;
                     }
                     long endId = rs.getLong(1);
                     if (endId == 0) {
-                        log.info("getPositionByPrimaryKeyRange, endId is 0, break, tableName={}, primaryKey={}, beginId={}", dumperConfig.getTableName(), dumperConfig.getPrimaryKey(), beginId);
+                        log.info("getPositionByPrimaryKeyScan, endId is 0, break, tableName={}, primaryKey={}, beginId={}", dumperConfig.getTableName(), dumperConfig.getPrimaryKey(), beginId);
                         break;
                     }
                     result.add(new PrimaryKeyPosition(beginId, endId));
                     beginId = endId + 1;
                 }
             }
-            // fix empty table missing inventory task
-            if (0 == result.size()) {
-                result.add(new PrimaryKeyPosition(0, 0));
-            }
-        } catch (final SQLException ex) {
-            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfig.getTableName(), dumperConfig.getPrimaryKey()), ex);
+        }
+        // fix empty table missing inventory task
+        if (0 == result.size()) {
+            result.add(new PrimaryKeyPosition(0, 0));
         }
         return result;
     }
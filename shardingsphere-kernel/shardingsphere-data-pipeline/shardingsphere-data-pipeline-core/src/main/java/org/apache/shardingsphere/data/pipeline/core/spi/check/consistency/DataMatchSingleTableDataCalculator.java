@@ -23,6 +23,7 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineDataConsistencyCheckFailedException;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
@@ -81,24 +82,37 @@ public final class DataMatchSingleTableDataCalculator extends AbstractStreamingS
         PipelineSQLBuilder sqlBuilder = ScalingSQLBuilderFactory.newInstance(dataCalculateParameter.getDatabaseType());
         String uniqueKey = dataCalculateParameter.getUniqueKey();
         CalculatedResult previousCalculatedResult = (CalculatedResult) dataCalculateParameter.getPreviousCalculatedResult();
-        Number startUniqueKeyValue = null != previousCalculatedResult ? previousCalculatedResult.getMaxUniqueKeyValue() : -1;
-        String sql = sqlBuilder.buildChunkedQuerySQL(logicTableName, uniqueKey, startUniqueKeyValue);
+        Pair<Object, Object> uniqueKeyValueRange = dataCalculateParameter.getUniqueKeyValueRange();
+        Number startUniqueKeyValue = null != previousCalculatedResult ? previousCalculatedResult.getMaxUniqueKeyValue() : getBeginUniqueKeyValue(uniqueKeyValueRange);
+        Number endUniqueKeyValue = null != uniqueKeyValueRange ? (Number) uniqueKeyValueRange.getRight() : null;
+        String sql = null != endUniqueKeyValue
+                ? sqlBuilder.buildChunkedQuerySQL(logicTableName, uniqueKey, startUniqueKeyValue, endUniqueKeyValue) : sqlBuilder.buildChunkedQuerySQL(logicTableName, uniqueKey, startUniqueKeyValue);
         try {
-            return query(dataCalculateParameter.getDataSource(), sql, uniqueKey, startUniqueKeyValue, chunkSize);
+            return query(dataCalculateParameter.getDataSource(), sql, uniqueKey, startUniqueKeyValue, endUniqueKeyValue, chunkSize);
         } catch (final SQLException ex) {
             throw new PipelineDataConsistencyCheckFailedException(String.format("table %s data check failed.", logicTableName), ex);
         }
     }
     
-    private Optional<Object> query(final DataSource dataSource, final String sql, final String uniqueKey, final Number startUniqueKeyValue, final int chunkSize) throws SQLException {
+    private Number getBeginUniqueKeyValue(final Pair<Object, Object> uniqueKeyValueRange) {
+        return null != uniqueKeyValueRange ? ((Number) uniqueKeyValueRange.getLeft()).longValue() - 1 : -1;
+    }
+    
+    private Optional<Object> query(final DataSource dataSource, final String sql, final String uniqueKey,
+                                   final Number startUniqueKeyValue, final Number endUniqueKeyValue, final int chunkSize) throws SQLException {
         try (Connection connection = dataSource.getConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            preparedStatement.setObject(1, startUniqueKeyValue);
-            preparedStatement.setInt(2, chunkSize);
+            int parameterIndex = 1;
+            preparedStatement.setObject(parameterIndex++, startUniqueKeyValue);
+            if (null != endUniqueKeyValue) {
+                preparedStatement.setObject(parameterIndex++, endUniqueKeyValue);
+            }
+            preparedStatement.setInt(parameterIndex, chunkSize);
             Collection<Collection<Object>> records = new ArrayList<>(chunkSize);
             Number maxUniqueKeyValue = null;
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
+                    Number uniqueKeyValue = (Number) resultSet.getObject(uniqueKey);
                     ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
                     int columnCount = resultSetMetaData.getColumnCount();
                     Collection<Object> record = new ArrayList<>(columnCount);
@@ -106,7 +120,7 @@ public final class DataMatchSingleTableDataCalculator extends AbstractStreamingS
                         record.add(resultSet.getObject(columnIndex));
                     }
                     records.add(record);
-                    maxUniqueKeyValue = (Number) resultSet.getObject(uniqueKey);
+                    maxUniqueKeyValue = uniqueKeyValue;
                 }
             }
             return records.isEmpty() ? Optional.empty() : Optional.of(new CalculatedResult(maxUniqueKeyValue, records.size(), records));
@@ -84,16 +84,38 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return sqlCacheMap.get(sqlCacheKey);
     }
     
+    @Override
+    public String buildInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        String result = buildInsertSQL(dataRecord);
+        if (rowCount <= 1) {
+            return result;
+        }
+        String valuesHolder = buildValuesHolder(dataRecord.getColumnCount());
+        int valuesIndex = result.indexOf("VALUES" + valuesHolder) + "VALUES".length();
+        StringBuilder multipleValuesHolder = new StringBuilder(result.length() + (valuesHolder.length() + 1) * rowCount);
+        multipleValuesHolder.append(result, 0, valuesIndex).append(valuesHolder);
+        for (int i = 1; i < rowCount; i++) {
+            multipleValuesHolder.append(',').append(valuesHolder);
+        }
+        return multipleValuesHolder.append(result, valuesIndex + valuesHolder.length(), result.length()).toString();
+    }
+    
     private String buildInsertSQLInternal(final String tableName, final List<Column> columns) {
         StringBuilder columnsLiteral = new StringBuilder();
-        StringBuilder holder = new StringBuilder();
         for (Column each : columns) {
             columnsLiteral.append(String.format("%s,", quote(each.getName())));
-            holder.append("?,");
         }
         columnsLiteral.setLength(columnsLiteral.length() - 1);
-        holder.setLength(holder.length() - 1);
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", quote(tableName), columnsLiteral, holder);
+        return String.format("INSERT INTO %s(%s) VALUES%s", quote(tableName), columnsLiteral, buildValuesHolder(columns.size()));
+    }
+    
+    private String buildValuesHolder(final int columnCount) {
+        StringBuilder result = new StringBuilder("(");
+        for (int i = 0; i < columnCount; i++) {
+            result.append("?,");
+        }
+        result.setCharAt(result.length() - 1, ')');
+        return result.toString();
     }
     
     @Override
@@ -158,6 +180,14 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return "SELECT * FROM " + quote(tableName) + " WHERE " + quote(uniqueKey) + " > ? ORDER BY " + quote(uniqueKey) + " ASC LIMIT ?";
     }
     
+    @Override
+    public String buildChunkedQuerySQL(final String tableName, final String uniqueKey, final Number startUniqueValue, final Number endUniqueValue) {
+        Preconditions.checkNotNull(uniqueKey, "uniqueKey is null");
+        Preconditions.checkNotNull(startUniqueValue, "startUniqueValue is null");
+        Preconditions.checkNotNull(endUniqueValue, "endUniqueValue is null");
+        return "SELECT * FROM " + quote(tableName) + " WHERE " + quote(uniqueKey) + " > ? AND " + quote(uniqueKey) + " <= ? ORDER BY " + quote(uniqueKey) + " ASC LIMIT ?";
+    }
+    
     @Override
     public String buildCheckEmptySQL(final String tableName) {
         return String.format("SELECT * FROM %s LIMIT 1", quote(tableName));
@@ -167,4 +197,9 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
     public String buildSplitByPrimaryKeyRangeSQL(final String tableName, final String primaryKey) {
         return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? limit ?) t", quote(primaryKey), quote(primaryKey), quote(tableName), quote(primaryKey));
     }
+    
+    @Override
+    public String buildPrimaryKeyStatisticsSQL(final String tableName, final String primaryKey) {
+        return String.format("SELECT MIN(%s), MAX(%s), COUNT(*) FROM %s", quote(primaryKey), quote(primaryKey), quote(tableName));
+    }
 }
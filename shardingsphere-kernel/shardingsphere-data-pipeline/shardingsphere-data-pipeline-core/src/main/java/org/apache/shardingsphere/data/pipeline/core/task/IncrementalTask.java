@@ -23,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExecutor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.Channel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskProgress;
@@ -47,7 +48,7 @@ import java.util.concurrent.Future;
  * Incremental task.
  */
 @Slf4j
-@ToString(exclude = {"incrementalDumperExecuteEngine", "dataSourceManager", "dumper", "progress"})
+@ToString(exclude = {"incrementalDumperExecuteEngine", "dataSourceManager", "dumper", "channel", "progress"})
 public final class IncrementalTask extends AbstractLifecycleExecutor implements PipelineTask {
     
     @Getter
@@ -65,7 +66,8 @@ public final class IncrementalTask extends AbstractLifecycleExecutor implements
     
     private Dumper dumper;
     
-    @Getter
+    private volatile Channel channel;
+    
     private final IncrementalTaskProgress progress;
     
     public IncrementalTask(final int concurrency, final DumperConfiguration dumperConfig, final ImporterConfiguration importerConfig, final ExecuteEngine incrementalDumperExecuteEngine) {
@@ -108,6 +110,7 @@ public final class IncrementalTask extends AbstractLifecycleExecutor implements
             }
         });
         dumper.setChannel(channel);
+        this.channel = channel;
         ImporterListener importerListener = records -> progress.getIncrementalTaskDelay().setLatestActiveTimeMillis(System.currentTimeMillis());
         for (Importer each : importers) {
             each.setChannel(channel);
@@ -139,6 +142,16 @@ public final class IncrementalTask extends AbstractLifecycleExecutor implements
         }
     }
     
+    @Override
+    public IncrementalTaskProgress getProgress() {
+        Channel channel = this.channel;
+        if (null != channel) {
+            progress.getIncrementalTaskDelay().setChannelQueueDepth(channel.getQueueDepth());
+            progress.getIncrementalTaskDelay().setChannelLagMillis(channel.getLagMillis());
+        }
+        return progress;
+    }
+    
     @Override
     public void stop() {
         if (null != dumper) {
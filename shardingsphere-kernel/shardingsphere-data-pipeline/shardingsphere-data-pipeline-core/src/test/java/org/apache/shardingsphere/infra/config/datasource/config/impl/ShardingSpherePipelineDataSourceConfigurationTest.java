@@ -42,6 +42,15 @@ public final class ShardingSpherePipelineDataSourceConfigurationTest {
         assertThat(actual.get(1).getProps().get("url"), is("jdbc:mysql://192.168.0.1:3306/scaling?rewriteBatchedStatements=true&serverTimezone=UTC&useSSL=false"));
     }
     
+    @Test
+    public void assertEnsureMaxPoolSize() {
+        ShardingSpherePipelineDataSourceConfiguration dataSourceConfig = new ShardingSpherePipelineDataSourceConfiguration(getDataSourceYaml());
+        dataSourceConfig.getRootConfig().getDataSources().get("ds_1").put("maxPoolSize", 20);
+        dataSourceConfig.ensureMaxPoolSize(12);
+        assertThat(dataSourceConfig.getRootConfig().getDataSources().get("ds_1").get("maxPoolSize"), is(20));
+        assertThat(dataSourceConfig.getRootConfig().getDataSources().get("ds_0").get("maximumPoolSize"), is(12));
+    }
+    
     private String getDataSourceYaml() {
         return "dataSources:\n"
                 + "  ds_1:\n"
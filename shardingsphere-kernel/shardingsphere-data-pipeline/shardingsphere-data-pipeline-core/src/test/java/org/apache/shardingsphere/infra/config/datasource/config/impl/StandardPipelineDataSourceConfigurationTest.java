@@ -21,6 +21,7 @@ import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.junit.Test;
 
 import java.io.IOException;
@@ -30,6 +31,7 @@ import java.nio.file.Paths;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 public final class StandardPipelineDataSourceConfigurationTest {
@@ -59,4 +61,15 @@ public final class StandardPipelineDataSourceConfigurationTest {
         pipelineDataSourceConfig.appendJDBCParameters(ImmutableMap.<String, String>builder().put("rewriteBatchedStatements", "true").build());
         assertThat(pipelineDataSourceConfig.getHikariConfig().getJdbcUrl(), is("jdbc:mysql://192.168.0.1:3306/scaling?rewriteBatchedStatements=true&serverTimezone=UTC&useSSL=false"));
     }
+    
+    @Test
+    public void assertEnsureMaxPoolSize() {
+        StandardPipelineDataSourceConfiguration pipelineDataSourceConfig = new StandardPipelineDataSourceConfiguration(
+                "jdbc:mysql://192.168.0.1:3306/scaling?serverTimezone=UTC&useSSL=false", null, null);
+        pipelineDataSourceConfig.ensureMaxPoolSize(5);
+        assertNull(((DataSourceConfiguration) pipelineDataSourceConfig.getDataSourceConfiguration()).getProps().get("maximumPoolSize"));
+        pipelineDataSourceConfig.ensureMaxPoolSize(12);
+        assertThat(((DataSourceConfiguration) pipelineDataSourceConfig.getDataSourceConfiguration()).getProps().get("maximumPoolSize"), is(12));
+        assertThat(pipelineDataSourceConfig.getHikariConfig().getMaximumPoolSize(), is(12));
+    }
 }
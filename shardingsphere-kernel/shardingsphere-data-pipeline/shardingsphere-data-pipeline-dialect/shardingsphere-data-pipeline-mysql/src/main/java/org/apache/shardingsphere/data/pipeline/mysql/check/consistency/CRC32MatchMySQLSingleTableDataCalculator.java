@@ -17,6 +17,11 @@
 
 package org.apache.shardingsphere.data.pipeline.mysql.check.consistency;
 
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineDataConsistencyCheckFailedException;
 import org.apache.shardingsphere.data.pipeline.core.spi.check.consistency.AbstractSingleTableDataCalculator;
@@ -32,11 +37,13 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * CRC32 match MySQL implementation of single table data calculator.
+ *
+ * <p>
+ * Records count and bit xor of records CRC32 in unique key range are calculated by one query.
+ * </p>
  */
 public final class CRC32MatchMySQLSingleTableDataCalculator extends AbstractSingleTableDataCalculator {
     
@@ -55,24 +62,38 @@ public final class CRC32MatchMySQLSingleTableDataCalculator extends AbstractSing
     @Override
     public Iterable<Object> calculate(final DataCalculateParameter dataCalculateParameter) {
         String logicTableName = dataCalculateParameter.getLogicTableName();
-        MySQLPipelineSQLBuilder scalingSQLBuilder = new MySQLPipelineSQLBuilder(new HashMap<>());
-        List<Long> result = dataCalculateParameter.getColumnNames().stream().map(each -> {
-            String sql = scalingSQLBuilder.buildSumCrc32SQL(logicTableName, each);
-            try {
-                return sumCrc32(dataCalculateParameter.getDataSource(), sql);
-            } catch (final SQLException ex) {
-                throw new PipelineDataConsistencyCheckFailedException(String.format("table %s data check failed.", logicTableName), ex);
-            }
-        }).collect(Collectors.toList());
-        return Collections.unmodifiableList(result);
+        Pair<Object, Object> uniqueKeyValueRange = dataCalculateParameter.getUniqueKeyValueRange();
+        String sql = new MySQLPipelineSQLBuilder(new HashMap<>()).buildCountAndBitXorCrc32SQL(
+                logicTableName, dataCalculateParameter.getUniqueKey(), dataCalculateParameter.getColumnNames(), null != uniqueKeyValueRange);
+        try {
+            return Collections.singletonList(calculateCrc32(dataCalculateParameter.getDataSource(), sql, uniqueKeyValueRange));
+        } catch (final SQLException ex) {
+            throw new PipelineDataConsistencyCheckFailedException(String.format("table %s data check failed.", logicTableName), ex);
+        }
     }
     
-    private long sumCrc32(final DataSource dataSource, final String sql) throws SQLException {
+    private CalculatedResult calculateCrc32(final DataSource dataSource, final String sql, final Pair<Object, Object> uniqueKeyValueRange) throws SQLException {
         try (Connection connection = dataSource.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(sql);
-             ResultSet resultSet = preparedStatement.executeQuery()) {
-            resultSet.next();
-            return resultSet.getLong(1);
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            if (null != uniqueKeyValueRange) {
+                preparedStatement.setObject(1, uniqueKeyValueRange.getLeft());
+                preparedStatement.setObject(2, uniqueKeyValueRange.getRight());
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return new CalculatedResult(resultSet.getLong(1), resultSet.getLong(2));
+            }
         }
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    private static final class CalculatedResult {
+        
+        private final long recordsCount;
+        
+        private final long checksum;
+    }
 }
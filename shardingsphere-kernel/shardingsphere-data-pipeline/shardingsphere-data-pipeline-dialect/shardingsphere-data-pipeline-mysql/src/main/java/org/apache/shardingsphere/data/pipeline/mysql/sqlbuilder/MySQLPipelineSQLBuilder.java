@@ -21,8 +21,10 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -77,4 +79,25 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
     public String buildSumCrc32SQL(final String tableName, final String column) {
         return String.format("SELECT SUM(CRC32(%s)) AS checksum FROM %s", quote(column), quote(tableName));
     }
+    
+    /**
+     * Build select records count and bit xor crc32 of records SQL.
+     *
+     * <p>
+     * CRC32 of each record is calculated on all columns and null flags of all columns, so one query checks all columns.
+     * If unique key range is used, the first parameter is the begin value and the second parameter is the end value of unique key, both are inclusive.
+     * </p>
+     *
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param columnNames column names
+     * @param withUniqueKeyRange whether to query unique key range
+     * @return select records count and bit xor crc32 SQL
+     */
+    public String buildCountAndBitXorCrc32SQL(final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean withUniqueKeyRange) {
+        String quotedColumns = columnNames.stream().map(this::quote).collect(Collectors.joining(", "));
+        String nullFlags = columnNames.stream().map(each -> "ISNULL(" + quote(each) + ")").collect(Collectors.joining(", "));
+        String result = String.format("SELECT COUNT(*) AS records_count, BIT_XOR(CRC32(CONCAT_WS('#', %s, %s))) AS checksum FROM %s", quotedColumns, nullFlags, quote(tableName));
+        return withUniqueKeyRange ? result + String.format(" WHERE %s>=? AND %s<=?", quote(uniqueKey), quote(uniqueKey)) : result;
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
 
@@ -45,12 +46,36 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
     }
     
+    @Test
+    public void assertBuildInsertSQLWithMultipleRows() {
+        String actual = sqlBuilder.buildInsertSQL(mockDataRecord("t2"), 2);
+        assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
+    }
+    
     @Test
     public void assertBuildSumCrc32SQL() {
         String actual = sqlBuilder.buildSumCrc32SQL("t2", "id");
         assertThat(actual, is("SELECT SUM(CRC32(`id`)) AS checksum FROM `t2`"));
     }
     
+    @Test
+    public void assertBuildCountAndBitXorCrc32SQL() {
+        String actual = sqlBuilder.buildCountAndBitXorCrc32SQL("t2", "id", Arrays.asList("id", "c1"), false);
+        assertThat(actual, is("SELECT COUNT(*) AS records_count, BIT_XOR(CRC32(CONCAT_WS('#', `id`, `c1`, ISNULL(`id`), ISNULL(`c1`)))) AS checksum FROM `t2`"));
+    }
+    
+    @Test
+    public void assertBuildCountAndBitXorCrc32SQLWithUniqueKeyRange() {
+        String actual = sqlBuilder.buildCountAndBitXorCrc32SQL("t2", "id", Arrays.asList("id", "c1"), true);
+        assertThat(actual, is("SELECT COUNT(*) AS records_count, BIT_XOR(CRC32(CONCAT_WS('#', `id`, `c1`, ISNULL(`id`), ISNULL(`c1`)))) AS checksum FROM `t2` WHERE `id`>=? AND `id`<=?"));
+    }
+    
+    @Test
+    public void assertBuildPrimaryKeyStatisticsSQL() {
+        String actual = sqlBuilder.buildPrimaryKeyStatisticsSQL("t2", "id");
+        assertThat(actual, is("SELECT MIN(`id`), MAX(`id`), COUNT(*) FROM `t2`"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
@@ -37,6 +37,12 @@ public final class PostgreSQLPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO NOTHING"));
     }
     
+    @Test
+    public void assertBuildInsertSQLWithMultipleRows() {
+        String actual = new PostgreSQLPipelineSQLBuilder(Collections.emptyMap()).buildInsertSQL(mockDataRecord(), 3);
+        assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?),(?,?),(?,?) ON CONFLICT (id) DO NOTHING"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WalPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.setTableName("t_order");
@@ -38,6 +38,15 @@ public final class HandleConfiguration {
     
     private int concurrency = 3;
     
+    /**
+     * Writer count of each importer.
+     * <p>
+     * Every one of the {@link #concurrency} importers starts this count of writers, so the target needs {@code concurrency * writerConcurrency} connections.
+     * Defaults to 1, which keeps one connection per importer.
+     * </p>
+     */
+    private int writerConcurrency = 1;
+    
     private int retryTimes = 3;
     
     /**
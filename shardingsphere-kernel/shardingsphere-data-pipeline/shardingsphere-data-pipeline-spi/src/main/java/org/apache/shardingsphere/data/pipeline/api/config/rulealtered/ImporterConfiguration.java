@@ -38,4 +38,9 @@ public final class ImporterConfiguration {
     private Map<String, Set<String>> shardingColumnsMap;
     
     private int retryTimes;
+    
+    /**
+     * Writer count of each importer, every writer holds its own target connection.
+     */
+    private int writerConcurrency = 1;
 }
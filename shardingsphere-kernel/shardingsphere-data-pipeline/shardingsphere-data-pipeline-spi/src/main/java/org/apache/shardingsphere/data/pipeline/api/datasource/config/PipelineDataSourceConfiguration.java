@@ -54,6 +54,13 @@ public interface PipelineDataSourceConfiguration {
      */
     void appendJDBCParameters(Map<String, String> parameters);
     
+    /**
+     * Ensure maximum pool size of data source is not less than the given size.
+     *
+     * @param poolSize required pool size
+     */
+    void ensureMaxPoolSize(int poolSize);
+    
     /**
      * Get database type.
      *
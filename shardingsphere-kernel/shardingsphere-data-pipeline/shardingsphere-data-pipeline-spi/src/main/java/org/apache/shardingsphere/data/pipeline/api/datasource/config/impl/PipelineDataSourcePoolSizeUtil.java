@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.datasource.config.impl;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Pipeline data source pool size util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class PipelineDataSourcePoolSizeUtil {
+    
+    private static final String MAX_POOL_SIZE = "maximumPoolSize";
+    
+    private static final String MAX_POOL_SIZE_SYNONYM = "maxPoolSize";
+    
+    private static final int DEFAULT_MAX_POOL_SIZE = 10;
+    
+    /**
+     * Raise maximum pool size of Hikari data source properties to the given size if it is configured lower.
+     *
+     * @param dataSourceClassName data source class name, null means Hikari
+     * @param props data source properties
+     * @param poolSize required pool size
+     * @return whether the maximum pool size is raised
+     */
+    static boolean ensureMaxPoolSize(final String dataSourceClassName, final Map<String, Object> props, final int poolSize) {
+        if (null != dataSourceClassName && !HikariDataSource.class.getName().equals(dataSourceClassName)) {
+            return false;
+        }
+        Object configured = props.containsKey(MAX_POOL_SIZE) ? props.get(MAX_POOL_SIZE) : props.get(MAX_POOL_SIZE_SYNONYM);
+        int configuredPoolSize = null == configured ? -1 : Integer.parseInt(configured.toString());
+        if ((configuredPoolSize > 0 ? configuredPoolSize : DEFAULT_MAX_POOL_SIZE) >= poolSize) {
+            return false;
+        }
+        props.remove(MAX_POOL_SIZE_SYNONYM);
+        props.put(MAX_POOL_SIZE, poolSize);
+        return true;
+    }
+}
@@ -92,6 +92,11 @@ public final class ShardingSpherePipelineDataSourceConfiguration implements Pipe
                 });
     }
     
+    @Override
+    public void ensureMaxPoolSize(final int poolSize) {
+        rootConfig.getDataSources().values().forEach(each -> PipelineDataSourcePoolSizeUtil.ensureMaxPoolSize((String) each.get("dataSourceClassName"), each, poolSize));
+    }
+    
     /**
      * Get actual data source configuration.
      *
@@ -100,5 +100,12 @@ public final class StandardPipelineDataSourceConfiguration implements PipelineDa
         hikariConfig.setJdbcUrl(new JdbcUri(hikariConfig.getJdbcUrl()).appendParameters(parameters));
     }
     
+    @Override
+    public void ensureMaxPoolSize(final int poolSize) {
+        if (PipelineDataSourcePoolSizeUtil.ensureMaxPoolSize(dataSourceConfig.getDataSourceClassName(), dataSourceConfig.getProps(), poolSize)) {
+            hikariConfig.setMaximumPoolSize(poolSize);
+        }
+    }
+    
     // TODO toShardingSphereJDBCDataSource(final String actualDataSourceName, final String logicTableName, final String actualTableName)
 }
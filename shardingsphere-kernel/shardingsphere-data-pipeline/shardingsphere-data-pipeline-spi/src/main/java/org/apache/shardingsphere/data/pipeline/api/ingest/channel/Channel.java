@@ -48,6 +48,20 @@ public interface Channel {
      */
     void ack();
     
+    /**
+     * Get count of records waiting to be fetched.
+     *
+     * @return queue depth
+     */
+    int getQueueDepth();
+    
+    /**
+     * Get lag between now and commit time of the last acknowledged record.
+     *
+     * @return lag milliseconds, 0 if commit time is unknown
+     */
+    long getLagMillis();
+    
     /**
      * Close channel.
      */
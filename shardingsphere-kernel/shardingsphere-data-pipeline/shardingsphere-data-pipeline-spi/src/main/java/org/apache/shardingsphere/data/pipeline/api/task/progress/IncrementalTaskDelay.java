@@ -36,4 +36,8 @@ public final class IncrementalTaskDelay {
     private long lastEventTimestamps;
     
     private long latestActiveTimeMillis;
+    
+    private int channelQueueDepth;
+    
+    private long channelLagMillis;
 }
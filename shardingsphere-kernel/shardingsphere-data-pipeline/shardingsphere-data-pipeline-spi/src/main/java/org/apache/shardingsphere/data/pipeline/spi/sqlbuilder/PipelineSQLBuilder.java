@@ -36,6 +36,15 @@ public interface PipelineSQLBuilder {
      */
     String buildInsertSQL(DataRecord dataRecord);
     
+    /**
+     * Build insert SQL with multiple rows of values.
+     *
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return insert SQL
+     */
+    String buildInsertSQL(DataRecord dataRecord, int rowCount);
+    
     /**
      * Build update SQL.
      *
@@ -89,6 +98,17 @@ public interface PipelineSQLBuilder {
      */
     String buildChunkedQuerySQL(String tableName, String uniqueKey, Number startUniqueValue);
     
+    /**
+     * Build query SQL in unique key range.
+     *
+     * @param tableName table name
+     * @param uniqueKey unique key, it may be primary key, not null
+     * @param startUniqueValue start unique value, exclusive, not null
+     * @param endUniqueValue end unique value, inclusive, not null
+     * @return query SQL
+     */
+    String buildChunkedQuerySQL(String tableName, String uniqueKey, Number startUniqueValue, Number endUniqueValue);
+    
     /**
      * Build check empty SQL.
      *
@@ -105,4 +125,13 @@ public interface PipelineSQLBuilder {
      * @return split SQL
      */
     String buildSplitByPrimaryKeyRangeSQL(String tableName, String primaryKey);
+    
+    /**
+     * Build primary key statistics SQL, query min value, max value and row count of primary key.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @return statistics SQL
+     */
+    String buildPrimaryKeyStatisticsSQL(String tableName, String primaryKey);
 }
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConverter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.DataSourceExecutionStatistics;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -55,6 +56,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -145,6 +147,7 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts.getOptimizerContext().getPlannerContexts().remove(schemaName);
             ShardingSphereMetaData removeMetaData = metaDataContexts.getMetaDataMap().remove(schemaName);
             closeDataSources(removeMetaData);
+            DataSourceExecutionStatistics.remove(schemaName);
             removeAndCloseTransactionEngine(schemaName);
             metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().delete(schemaName));
         }
@@ -171,6 +174,7 @@ public final class ContextManager implements AutoCloseable {
      */
     public void alterResource(final String schemaName, final Map<String, DataSourceConfiguration> dataSourceConfigs) throws SQLException {
         refreshMetaDataContext(schemaName, dataSourceConfigs);
+        DataSourceExecutionStatistics.remove(schemaName, dataSourceConfigs.keySet());
         metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getDataSourceService().append(schemaName, dataSourceConfigs));
     }
     
@@ -182,6 +186,7 @@ public final class ContextManager implements AutoCloseable {
      */
     public void dropResource(final String schemaName, final Collection<String> toBeDroppedResourceNames) {
         toBeDroppedResourceNames.forEach(metaDataContexts.getMetaData(schemaName).getResource().getDataSources()::remove);
+        DataSourceExecutionStatistics.remove(schemaName, toBeDroppedResourceNames);
         metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getDataSourceService().drop(schemaName, toBeDroppedResourceNames));
     }
     
@@ -215,10 +220,11 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().putAll(changedMetaDataContext.getOptimizerContext().getFederationMetaData().getSchemas());
             Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
             metaDataMap.putAll(changedMetaDataContext.getMetaDataMap());
-            Collection<DataSource> pendingClosedDataSources = getPendingClosedDataSources(schemaName, dataSourceConfigurations);
+            Map<String, DataSource> pendingClosedDataSources = getPendingClosedDataSources(schemaName, dataSourceConfigurations);
             renewMetaDataContexts(rebuildMetaDataContexts(metaDataMap));
             renewTransactionContext(schemaName, metaDataContexts.getMetaData(schemaName).getResource());
-            closeDataSources(schemaName, pendingClosedDataSources);
+            closeDataSources(schemaName, pendingClosedDataSources.values());
+            DataSourceExecutionStatistics.remove(schemaName, pendingClosedDataSources.keySet());
         } catch (final SQLException ex) {
             log.error("Alter schema:{} data source configuration failed", schemaName, ex);
         }
@@ -249,17 +255,31 @@ public final class ContextManager implements AutoCloseable {
      * @param deletedTable deleted table
      */
     public void alterSchema(final String schemaName, final TableMetaData changedTableMetaData, final String deletedTable) {
+        alterSchema(schemaName, null == changedTableMetaData ? Collections.emptyList() : Collections.singletonList(changedTableMetaData),
+                null == deletedTable ? Collections.emptyList() : Collections.singletonList(deletedTable));
+    }
+    
+    /**
+     * Alter schema with changed and deleted tables, planner context will be rebuilt only once.
+     *
+     * @param schemaName schema name
+     * @param changedTables changed tables meta data
+     * @param deletedTables deleted tables
+     */
+    public void alterSchema(final String schemaName, final Collection<TableMetaData> changedTables, final Collection<String> deletedTables) {
+        if (changedTables.isEmpty() && deletedTables.isEmpty()) {
+            return;
+        }
         FederationSchemaMetaData schemaMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().get(schemaName);
-        if (null != changedTableMetaData) {
-            metaDataContexts.getMetaData(schemaName).getSchema().put(changedTableMetaData.getName(), changedTableMetaData);
-            schemaMetaData.put(changedTableMetaData);
-            metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+        for (TableMetaData each : changedTables) {
+            metaDataContexts.getMetaData(schemaName).getSchema().put(each.getName(), each);
+            schemaMetaData.put(each);
         }
-        if (null != deletedTable) {
-            metaDataContexts.getMetaData(schemaName).getSchema().remove(deletedTable);
-            schemaMetaData.remove(deletedTable);
-            metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+        for (String each : deletedTables) {
+            metaDataContexts.getMetaData(schemaName).getSchema().remove(each);
+            schemaMetaData.remove(each);
         }
+        metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
     }
     
     /**
@@ -335,6 +355,40 @@ public final class ContextManager implements AutoCloseable {
         }
     }
     
+    /**
+     * Reload changed meta data, only tables which are different with current meta data will be altered and persisted.
+     *
+     * @param schemaName schema name
+     */
+    public void reloadChangedMetaData(final String schemaName) {
+        try {
+            int changedCount = alterChangedTables(schemaName, loadActualSchema(schemaName));
+            log.info("Reload schema:{} meta data finished, {} tables changed", schemaName, changedCount);
+        } catch (final SQLException ex) {
+            log.error("Reload changed meta data of schema:{} failed", schemaName, ex);
+        }
+    }
+    
+    /**
+     * Alter tables which are different with actual schema.
+     *
+     * @param schemaName schema name
+     * @param actualSchema actual schema
+     * @return count of changed and deleted tables
+     */
+    public int alterChangedTables(final String schemaName, final ShardingSphereSchema actualSchema) {
+        Map<String, TableMetaData> staleTables = new HashMap<>(metaDataContexts.getMetaData(schemaName).getSchema().getTables());
+        Collection<TableMetaData> changedTables = new LinkedList<>();
+        for (Entry<String, TableMetaData> entry : actualSchema.getTables().entrySet()) {
+            if (!entry.getValue().equals(staleTables.remove(entry.getKey()))) {
+                changedTables.add(entry.getValue());
+            }
+        }
+        alterSchema(schemaName, changedTables, staleTables.keySet());
+        metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(schemaName, changedTables, staleTables.keySet()));
+        return changedTables.size() + staleTables.size();
+    }
+    
     private void loadTableMetaData(final String schemaName, final String tableName, final SchemaBuilderMaterials materials) throws SQLException {
         TableMetaData tableMetaData = TableMetaDataBuilder.load(Collections.singletonList(tableName), materials).getOrDefault(tableName, new TableMetaData());
         if (!tableMetaData.getColumns().isEmpty()) {
@@ -351,10 +405,10 @@ public final class ContextManager implements AutoCloseable {
         return schemas.get(schemaName);
     }
     
-    private Collection<DataSource> getPendingClosedDataSources(final String schemaName, final Map<String, DataSourceConfiguration> dataSourceConfigurations) {
-        Collection<DataSource> result = new LinkedList<>();
-        result.addAll(getDeletedDataSources(metaDataContexts.getMetaData(schemaName), dataSourceConfigurations).values());
-        result.addAll(getChangedDataSources(metaDataContexts.getMetaData(schemaName), dataSourceConfigurations).values());
+    private Map<String, DataSource> getPendingClosedDataSources(final String schemaName, final Map<String, DataSourceConfiguration> dataSourceConfigurations) {
+        Map<String, DataSource> result = new LinkedHashMap<>();
+        result.putAll(getDeletedDataSources(metaDataContexts.getMetaData(schemaName), dataSourceConfigurations));
+        result.putAll(getChangedDataSources(metaDataContexts.getMetaData(schemaName), dataSourceConfigurations));
         return result;
     }
     
@@ -37,6 +37,8 @@ public final class SchemaMetaDataNode {
     
     private static final String TABLES_NODE = "tables";
     
+    private static final String SNAPSHOT_NODE = "snapshot";
+    
     /**
      * Get meta data data source path.
      *
@@ -97,6 +99,16 @@ public final class SchemaMetaDataNode {
         return String.join("/", getMetaDataTablesPath(schemaName), table);
     }
     
+    /**
+     * Get meta data snapshot path.
+     *
+     * @param schemaName schema name
+     * @return snapshot path
+     */
+    public static String getMetaDataSnapshotPath(final String schemaName) {
+        return getFullMetaDataPath(schemaName, SNAPSHOT_NODE);
+    }
+    
     private static String getFullMetaDataPath(final String schemaName, final String node) {
         return String.join("/", "", ROOT_NODE, schemaName, node);
     }
@@ -27,7 +27,11 @@ import org.apache.shardingsphere.mode.metadata.persist.node.SchemaMetaDataNode;
 import org.apache.shardingsphere.mode.persist.PersistRepository;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Schema meta data registry service.
@@ -40,21 +44,39 @@ public final class SchemaMetaDataPersistService {
     /**
      * Persist schema.
      *
+     * <p>Only tables which are added, changed or dropped against the persisted schema are written in batch.</p>
+     *
      * @param schemaName schema name to be persisted
      * @param schema schema to be persisted
      */
     public void persist(final String schemaName, final ShardingSphereSchema schema) {
         if (null != schema) {
-            Optional<ShardingSphereSchema> originalSchema = load(schemaName);
-            if (originalSchema.isPresent()) {
-                originalSchema.get().getTables().entrySet().stream().filter(entry -> !schema.getTables().keySet().contains(entry.getKey()))
-                        .forEach(entry -> repository.delete(SchemaMetaDataNode.getTableMetaDataPath(schemaName, entry.getKey())));
+            Map<String, String> originalTables = loadTableContents(schemaName);
+            Collection<String> deletedTables = originalTables.keySet().stream().filter(each -> !schema.getTables().containsKey(each)).collect(Collectors.toList());
+            Map<String, String> changedTables = new LinkedHashMap<>(schema.getTables().size(), 1);
+            for (Entry<String, TableMetaData> entry : schema.getTables().entrySet()) {
+                String content = swapToYaml(entry.getValue());
+                if (!content.equals(originalTables.get(entry.getKey()))) {
+                    changedTables.put(entry.getKey(), content);
+                }
             }
-            schema.getTables().entrySet().forEach(entry -> repository.persist(SchemaMetaDataNode.getTableMetaDataPath(schemaName, entry.getKey()), 
-                    YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(entry.getValue()))));
+            persistInBatch(schemaName, changedTables, deletedTables);
         }
     }
     
+    /**
+     * Persist changed and deleted tables in batch.
+     *
+     * @param schemaName schema name
+     * @param changedTables changed tables meta data
+     * @param deletedTables deleted tables
+     */
+    public void persist(final String schemaName, final Collection<TableMetaData> changedTables, final Collection<String> deletedTables) {
+        Map<String, String> changedTableContents = new LinkedHashMap<>(changedTables.size(), 1);
+        changedTables.forEach(each -> changedTableContents.put(each.getName(), swapToYaml(each)));
+        persistInBatch(schemaName, changedTableContents, deletedTables);
+    }
+    
     /**
      * Persist schema tables.
      * 
@@ -71,7 +93,7 @@ public final class SchemaMetaDataPersistService {
      * @param tableMetaData table meta data
      */
     public void persist(final String schemaName, final TableMetaData tableMetaData) {
-        repository.persist(SchemaMetaDataNode.getTableMetaDataPath(schemaName, tableMetaData.getName()), YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(tableMetaData)));
+        repository.persist(SchemaMetaDataNode.getTableMetaDataPath(schemaName, tableMetaData.getName()), swapToYaml(tableMetaData));
     }
     
     /**
@@ -100,19 +122,22 @@ public final class SchemaMetaDataPersistService {
      * @return Loaded schema
      */
     public Optional<ShardingSphereSchema> load(final String schemaName) {
-        Collection<String> tables = repository.getChildrenKeys(SchemaMetaDataNode.getMetaDataTablesPath(schemaName));
+        Map<String, String> tables = loadTableContents(schemaName);
         if (tables.isEmpty()) {
             return Optional.empty();
         }
         ShardingSphereSchema schema = new ShardingSphereSchema();
-        tables.forEach(each -> {
-            String content = repository.get(SchemaMetaDataNode.getTableMetaDataPath(schemaName, each));
-            TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(content, YamlTableMetaData.class));
-            schema.getTables().put(each, tableMetaData);
-        });
+        tables.forEach((key, value) -> schema.getTables().put(key, new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(value, YamlTableMetaData.class))));
         return Optional.of(schema);
     }
     
+    private Map<String, String> loadTableContents(final String schemaName) {
+        Collection<String> tables = repository.getChildrenKeys(SchemaMetaDataNode.getMetaDataTablesPath(schemaName));
+        Map<String, String> result = new LinkedHashMap<>(tables.size(), 1);
+        tables.forEach(each -> result.put(each, repository.get(SchemaMetaDataNode.getTableMetaDataPath(schemaName, each))));
+        return result;
+    }
+    
     /**
      * Load all schema names.
      *
@@ -121,4 +146,19 @@ public final class SchemaMetaDataPersistService {
     public Collection<String> loadAllNames() {
         return repository.getChildrenKeys(SchemaMetaDataNode.getMetaDataNodePath());
     }
+    
+    private void persistInBatch(final String schemaName, final Map<String, String> changedTableContents, final Collection<String> deletedTables) {
+        if (!deletedTables.isEmpty()) {
+            repository.deleteInBatch(deletedTables.stream().map(each -> SchemaMetaDataNode.getTableMetaDataPath(schemaName, each)).collect(Collectors.toList()));
+        }
+        if (!changedTableContents.isEmpty()) {
+            Map<String, String> keyValues = new LinkedHashMap<>(changedTableContents.size(), 1);
+            changedTableContents.forEach((key, value) -> keyValues.put(SchemaMetaDataNode.getTableMetaDataPath(schemaName, key), value));
+            repository.persistInBatch(keyValues);
+        }
+    }
+    
+    private String swapToYaml(final TableMetaData tableMetaData) {
+        return YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(tableMetaData));
+    }
 }
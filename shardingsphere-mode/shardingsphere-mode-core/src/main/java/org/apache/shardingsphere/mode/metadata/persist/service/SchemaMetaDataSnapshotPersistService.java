@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
+import org.apache.shardingsphere.infra.yaml.config.swapper.YamlDataSourceConfigurationSwapper;
+import org.apache.shardingsphere.infra.yaml.config.swapper.YamlRuleConfigurationSwapperEngine;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.mode.metadata.persist.node.SchemaMetaDataNode;
+import org.apache.shardingsphere.mode.persist.PersistRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Schema meta data snapshot persist service.
+ *
+ * <p>
+ * Snapshot records checksums of data source and rule configurations which table meta data persisted with,
+ * so that persisted table meta data can be trusted when startup if configurations are not changed.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SchemaMetaDataSnapshotPersistService {
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Persist snapshot with next version.
+     *
+     * @param schemaName schema name
+     * @param dataSourceConfigs data source configurations which table meta data loaded with
+     * @param ruleConfigs rule configurations which table meta data loaded with
+     */
+    public void persist(final String schemaName, final Map<String, DataSourceConfiguration> dataSourceConfigs, final Collection<RuleConfiguration> ruleConfigs) {
+        YamlSchemaMetaDataSnapshot snapshot = new YamlSchemaMetaDataSnapshot();
+        snapshot.setVersion(load(schemaName).map(YamlSchemaMetaDataSnapshot::getVersion).orElse(0L) + 1L);
+        snapshot.setRuleChecksum(getRuleChecksum(ruleConfigs));
+        snapshot.setDataSourceChecksums(getDataSourceChecksums(dataSourceConfigs));
+        repository.persist(SchemaMetaDataNode.getMetaDataSnapshotPath(schemaName), YamlEngine.marshal(snapshot));
+    }
+    
+    /**
+     * Load snapshot.
+     *
+     * @param schemaName schema name
+     * @return loaded snapshot
+     */
+    public Optional<YamlSchemaMetaDataSnapshot> load(final String schemaName) {
+        String content = repository.get(SchemaMetaDataNode.getMetaDataSnapshotPath(schemaName));
+        return Strings.isNullOrEmpty(content) ? Optional.empty() : Optional.of(YamlEngine.unmarshal(content, YamlSchemaMetaDataSnapshot.class));
+    }
+    
+    /**
+     * Judge whether snapshot is valid for current configurations.
+     *
+     * @param schemaName schema name
+     * @param dataSourceConfigs current data source configurations
+     * @param ruleConfigs current rule configurations
+     * @return snapshot is valid or not
+     */
+    public boolean isValid(final String schemaName, final Map<String, DataSourceConfiguration> dataSourceConfigs, final Collection<RuleConfiguration> ruleConfigs) {
+        Optional<YamlSchemaMetaDataSnapshot> snapshot = load(schemaName);
+        return snapshot.isPresent() && snapshot.get().getRuleChecksum() == getRuleChecksum(ruleConfigs) 
+                && snapshot.get().getDataSourceChecksums().equals(getDataSourceChecksums(dataSourceConfigs));
+    }
+    
+    /**
+     * Delete snapshot.
+     *
+     * @param schemaName schema name
+     */
+    public void delete(final String schemaName) {
+        repository.delete(SchemaMetaDataNode.getMetaDataSnapshotPath(schemaName));
+    }
+    
+    private Map<String, String> getDataSourceChecksums(final Map<String, DataSourceConfiguration> dataSourceConfigs) {
+        Map<String, String> result = new LinkedHashMap<>(dataSourceConfigs.size(), 1);
+        for (Entry<String, DataSourceConfiguration> entry : dataSourceConfigs.entrySet()) {
+            result.put(entry.getKey(), Long.toHexString(getChecksum(YamlEngine.marshal(new TreeMap<>(new YamlDataSourceConfigurationSwapper().swapToMap(entry.getValue()))))));
+        }
+        return result;
+    }
+    
+    private long getRuleChecksum(final Collection<RuleConfiguration> ruleConfigs) {
+        return getChecksum(YamlEngine.marshal(new YamlRuleConfigurationSwapperEngine().swapToYamlRuleConfigurations(ruleConfigs)));
+    }
+    
+    private long getChecksum(final String content) {
+        CRC32 result = new CRC32();
+        result.update(content.getBytes(StandardCharsets.UTF_8));
+        return result.getValue();
+    }
+}
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.mode.persist;
 
 import org.apache.shardingsphere.spi.typed.TypedSPI;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -64,6 +66,26 @@ public interface PersistRepository extends TypedSPI {
      */
     void delete(String key);
     
+    /**
+     * Persist data in batch.
+     *
+     * <p>Repositories which support multiple operations in one request should override it to reduce round trips.</p>
+     *
+     * @param keyValues keys and values of data
+     */
+    default void persistInBatch(Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
+    /**
+     * Delete nodes in batch.
+     *
+     * @param keys keys of data
+     */
+    default void deleteInBatch(Collection<String> keys) {
+        keys.forEach(this::delete);
+    }
+    
     /**
      * Close.
      */
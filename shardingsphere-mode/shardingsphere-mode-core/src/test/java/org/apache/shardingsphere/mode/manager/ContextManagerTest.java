@@ -20,13 +20,21 @@ package org.apache.shardingsphere.mode.manager;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.CachedDatabaseMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.mode.metadata.persist.service.SchemaMetaDataPersistService;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.schedule.core.api.ModeScheduleContext;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
 import org.junit.Before;
@@ -37,13 +45,23 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -113,4 +131,51 @@ public final class ContextManagerTest {
         Map<String, DataSource> dataSourceMap = contextManager.getDataSourceMap(DefaultSchema.LOGIC_NAME);
         assertThat(2, equalTo(dataSourceMap.size()));
     }
+    
+    @Test
+    public void assertDropResource() {
+        ShardingSphereResource resource = new ShardingSphereResource(dataSourceMap, mock(DataSourcesMetaData.class), mock(CachedDatabaseMetaData.class), mock(DatabaseType.class));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("foo_db", resource, mock(ShardingSphereRuleMetaData.class), new ShardingSphereSchema());
+        when(metaDataContexts.getMetaData("foo_db")).thenReturn(metaData);
+        when(metaDataContexts.getMetaDataPersistService()).thenReturn(Optional.empty());
+        DataSourceExecutionStatistics.getInstance("foo_db", "test_primary_ds");
+        DataSourceExecutionStatistics.getInstance("foo_db", "test_replica_ds");
+        contextManager.dropResource("foo_db", Collections.singleton("test_replica_ds"));
+        assertFalse(dataSourceMap.containsKey("test_replica_ds"));
+        assertFalse(DataSourceExecutionStatistics.find("foo_db", "test_replica_ds").isPresent());
+        assertTrue(DataSourceExecutionStatistics.find("foo_db", "test_primary_ds").isPresent());
+    }
+    
+    @Test
+    public void assertAlterChangedTables() {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.put("t_order", createTableMetaData("t_order", "order_id"));
+        schema.put("t_user", createTableMetaData("t_user", "user_id"));
+        schema.put("t_old", createTableMetaData("t_old", "old_id"));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("foo_db", mock(ShardingSphereResource.class), mock(ShardingSphereRuleMetaData.class), schema);
+        when(metaDataContexts.getMetaData("foo_db")).thenReturn(metaData);
+        when(metaDataContexts.getOptimizerContext()).thenReturn(
+                new OptimizerContext(mock(SQLParserRule.class), new FederationMetaData(Collections.singletonMap("foo_db", metaData)), new HashMap<>(), new HashMap<>()));
+        MetaDataPersistService metaDataPersistService = mock(MetaDataPersistService.class);
+        SchemaMetaDataPersistService schemaMetaDataPersistService = mock(SchemaMetaDataPersistService.class);
+        when(metaDataPersistService.getSchemaMetaDataService()).thenReturn(schemaMetaDataPersistService);
+        when(metaDataContexts.getMetaDataPersistService()).thenReturn(Optional.of(metaDataPersistService));
+        ShardingSphereSchema actualSchema = new ShardingSphereSchema();
+        TableMetaData changedTable = createTableMetaData("t_order", "order_id", "status");
+        TableMetaData addedTable = createTableMetaData("t_new", "new_id");
+        actualSchema.put("t_order", changedTable);
+        actualSchema.put("t_user", createTableMetaData("t_user", "user_id"));
+        actualSchema.put("t_new", addedTable);
+        assertThat(contextManager.alterChangedTables("foo_db", actualSchema), is(3));
+        assertThat(schema.get("t_order"), is(changedTable));
+        assertThat(schema.get("t_new"), is(addedTable));
+        assertNull(schema.get("t_old"));
+        verify(schemaMetaDataPersistService).persist(eq("foo_db"),
+                argThat(tables -> 2 == tables.size() && tables.containsAll(Arrays.asList(changedTable, addedTable))), eq(Collections.singleton("t_old")));
+    }
+    
+    private TableMetaData createTableMetaData(final String tableName, final String... columnNames) {
+        return new TableMetaData(tableName, Arrays.stream(columnNames).map(each -> new ColumnMetaData(each, Types.VARCHAR, false, false, false)).collect(Collectors.toList()),
+                Collections.emptyList());
+    }
 }
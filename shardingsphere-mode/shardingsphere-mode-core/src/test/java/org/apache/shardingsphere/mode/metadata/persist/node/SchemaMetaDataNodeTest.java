@@ -45,6 +45,11 @@ public class SchemaMetaDataNodeTest {
         assertThat(SchemaMetaDataNode.getSchemaNamePath("sharding_db"), is("/metadata/sharding_db"));
     }
     
+    @Test
+    public void assertGetMetaDataSnapshotPath() {
+        assertThat(SchemaMetaDataNode.getMetaDataSnapshotPath("sharding_db"), is("/metadata/sharding_db/snapshot"));
+    }
+    
     @Test
     public void assertGetMetaDataTablesPath() {
         assertThat(SchemaMetaDataNode.getMetaDataTablesPath("sharding_db"), is("/metadata/sharding_db/tables"));
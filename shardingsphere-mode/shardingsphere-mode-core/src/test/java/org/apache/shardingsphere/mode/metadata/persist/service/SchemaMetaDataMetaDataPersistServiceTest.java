@@ -61,7 +61,21 @@ public final class SchemaMetaDataMetaDataPersistServiceTest {
         ShardingSphereSchema schema = new ShardingSphereSchema();
         schema.getTables().put("t_order", tableMetaData);
         new SchemaMetaDataPersistService(repository).persist("foo_db", schema);
-        verify(repository).persist(eq("/metadata/foo_db/tables/t_order"), anyString());
+        verify(repository).persistInBatch(Collections.singletonMap("/metadata/foo_db/tables/t_order", YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(tableMetaData))));
+    }
+    
+    @Test
+    public void assertPersistChangedTablesOnly() {
+        TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlTableMetaData.class));
+        String content = YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(tableMetaData));
+        when(repository.getChildrenKeys("/metadata/foo_db/tables")).thenReturn(Arrays.asList("t_order", "t_order_item"));
+        when(repository.get("/metadata/foo_db/tables/t_order")).thenReturn(content);
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", tableMetaData);
+        schema.getTables().put("t_user", tableMetaData);
+        new SchemaMetaDataPersistService(repository).persist("foo_db", schema);
+        verify(repository).deleteInBatch(Collections.singletonList("/metadata/foo_db/tables/t_order_item"));
+        verify(repository).persistInBatch(Collections.singletonMap("/metadata/foo_db/tables/t_user", content));
     }
     
     @Test
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
+import org.apache.shardingsphere.mode.metadata.persist.fixture.RuleConfigurationFixture;
+import org.apache.shardingsphere.mode.persist.PersistRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SchemaMetaDataSnapshotPersistServiceTest {
+    
+    @Mock
+    private PersistRepository repository;
+    
+    @Test
+    public void assertLoadWithoutSnapshot() {
+        assertFalse(new SchemaMetaDataSnapshotPersistService(repository).load("foo_db").isPresent());
+        assertFalse(new SchemaMetaDataSnapshotPersistService(repository).isValid("foo_db", createDataSourceConfigurations("jdbc:mysql://127.0.0.1:3306/ds_0"), createRuleConfigurations("foo")));
+    }
+    
+    @Test
+    public void assertPersistAndLoad() {
+        SchemaMetaDataSnapshotPersistService snapshotPersistService = new SchemaMetaDataSnapshotPersistService(repository);
+        snapshotPersistService.persist("foo_db", createDataSourceConfigurations("jdbc:mysql://127.0.0.1:3306/ds_0"), createRuleConfigurations("foo"));
+        String persistedContent = getPersistedContent();
+        when(repository.get("/metadata/foo_db/snapshot")).thenReturn(persistedContent);
+        Optional<YamlSchemaMetaDataSnapshot> actual = snapshotPersistService.load("foo_db");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getVersion(), is(1L));
+        assertThat(actual.get().getDataSourceChecksums().size(), is(1));
+        assertTrue(actual.get().getDataSourceChecksums().containsKey("ds_0"));
+        snapshotPersistService.persist("foo_db", createDataSourceConfigurations("jdbc:mysql://127.0.0.1:3306/ds_0"), createRuleConfigurations("foo"));
+        String nextPersistedContent = getPersistedContent();
+        when(repository.get("/metadata/foo_db/snapshot")).thenReturn(nextPersistedContent);
+        assertThat(snapshotPersistService.load("foo_db").map(YamlSchemaMetaDataSnapshot::getVersion).orElse(0L), is(2L));
+    }
+    
+    @Test
+    public void assertIsValid() {
+        SchemaMetaDataSnapshotPersistService snapshotPersistService = new SchemaMetaDataSnapshotPersistService(repository);
+        snapshotPersistService.persist("foo_db", createDataSourceConfigurations("jdbc:mysql://127.0.0.1:3306/ds_0"), createRuleConfigurations("foo"));
+        String persistedContent = getPersistedContent();
+        when(repository.get("/metadata/foo_db/snapshot")).thenReturn(persistedContent);
+        assertTrue(snapshotPersistService.isValid("foo_db", createDataSourceConfigurations("jdbc:mysql://127.0.0.1:3306/ds_0"), createRuleConfigurations("foo")));
+        assertFalse(snapshotPersistService.isValid("foo_db", createDataSourceConfigurations("jdbc:mysql://127.0.0.1:3307/ds_0"), createRuleConfigurations("foo")));
+        assertFalse(snapshotPersistService.isValid("foo_db", createDataSourceConfigurations("jdbc:mysql://127.0.0.1:3306/ds_0"), createRuleConfigurations("bar")));
+    }
+    
+    @Test
+    public void assertDelete() {
+        new SchemaMetaDataSnapshotPersistService(repository).delete("foo_db");
+        verify(repository).delete("/metadata/foo_db/snapshot");
+    }
+    
+    private String getPersistedContent() {
+        ArgumentCaptor<String> content = ArgumentCaptor.forClass(String.class);
+        verify(repository, atLeastOnce()).persist(eq("/metadata/foo_db/snapshot"), content.capture());
+        return content.getValue();
+    }
+    
+    private Map<String, DataSourceConfiguration> createDataSourceConfigurations(final String url) {
+        DataSourceConfiguration result = new DataSourceConfiguration("com.zaxxer.hikari.HikariDataSource");
+        result.getProps().put("jdbcUrl", url);
+        result.getProps().put("username", "root");
+        return Collections.singletonMap("ds_0", result);
+    }
+    
+    private Collection<RuleConfiguration> createRuleConfigurations(final String name) {
+        RuleConfigurationFixture result = new RuleConfigurationFixture();
+        result.setName(name);
+        return Collections.singletonList(result);
+    }
+}
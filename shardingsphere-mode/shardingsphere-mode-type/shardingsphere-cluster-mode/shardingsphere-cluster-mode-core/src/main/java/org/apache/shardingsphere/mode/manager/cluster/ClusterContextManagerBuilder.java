@@ -23,6 +23,9 @@ import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConverter;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.QualifiedSchema;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.loader.SchemaLoader;
@@ -52,9 +55,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -76,6 +83,8 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
     
     private ContextManager contextManager;
     
+    private final Collection<String> snapshotSchemaNames = new LinkedList<>();
+    
     @Override
     public ContextManager build(final ModeConfiguration modeConfig, final Map<String, Map<String, DataSource>> dataSourcesMap,
                                 final Map<String, Collection<RuleConfiguration>> schemaRuleConfigs, final Collection<RuleConfiguration> globalRuleConfigs,
@@ -100,8 +109,7 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         Map<String, Collection<RuleConfiguration>> clusterSchemaRuleConfigs = loadSchemaRules(metaDataPersistService, schemaNames);
         Properties clusterProps = metaDataPersistService.getPropsService().load();
         Map<String, Collection<ShardingSphereRule>> rules = SchemaRulesBuilder.buildRules(clusterDataSources, clusterSchemaRuleConfigs, clusterProps);
-        Map<String, ShardingSphereSchema> schemas = new SchemaLoader(clusterDataSources, clusterSchemaRuleConfigs, rules, clusterProps).load();
-        persistMetaData(schemas);
+        Map<String, ShardingSphereSchema> schemas = loadSchemas(clusterDataSources, clusterSchemaRuleConfigs, rules, clusterProps);
         metaDataContexts = new MetaDataContextsBuilder(clusterDataSources, clusterSchemaRuleConfigs, metaDataPersistService.getGlobalRuleService().load(), schemas, rules, clusterProps)
                 .build(metaDataPersistService);
         transactionContexts = new TransactionContextsBuilder(metaDataContexts.getMetaDataMap(), metaDataContexts.getGlobalRuleMetaData().getRules()).build();
@@ -111,6 +119,7 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         new ClusterContextManagerCoordinator(metaDataPersistService, contextManager);
         disableDataSources();
         registryCenter.onlineInstance();
+        validateSnapshotSchemas();
     }
     
     private ClusterPersistRepository createClusterPersistRepository(final ClusterPersistRepositoryConfiguration config) {
@@ -225,10 +234,55 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         return new QualifiedSchema(disabledDataSource).getDataSourceName();
     }
     
+    private Map<String, ShardingSphereSchema> loadSchemas(final Map<String, Map<String, DataSource>> dataSourcesMap, final Map<String, Collection<RuleConfiguration>> schemaRuleConfigs,
+                                                          final Map<String, Collection<ShardingSphereRule>> rules, final Properties props) throws SQLException {
+        if (!new ConfigurationProperties(props).<Boolean>getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED)) {
+            Map<String, ShardingSphereSchema> result = new SchemaLoader(dataSourcesMap, schemaRuleConfigs, rules, props).load();
+            persistMetaData(result);
+            return result;
+        }
+        Map<String, ShardingSphereSchema> result = new HashMap<>(schemaRuleConfigs.size(), 1);
+        Map<String, Collection<RuleConfiguration>> toBeLoadedSchemaRuleConfigs = new LinkedHashMap<>(schemaRuleConfigs.size(), 1);
+        for (Entry<String, Collection<RuleConfiguration>> entry : schemaRuleConfigs.entrySet()) {
+            Optional<ShardingSphereSchema> snapshotSchema = loadSnapshotSchema(entry.getKey(), dataSourcesMap.get(entry.getKey()), entry.getValue());
+            if (snapshotSchema.isPresent()) {
+                result.put(entry.getKey(), snapshotSchema.get());
+                snapshotSchemaNames.add(entry.getKey());
+            } else {
+                toBeLoadedSchemaRuleConfigs.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Map<String, ShardingSphereSchema> loadedSchemas = new SchemaLoader(dataSourcesMap, toBeLoadedSchemaRuleConfigs, rules, props).load();
+        persistMetaData(loadedSchemas);
+        loadedSchemas.keySet().forEach(each -> persistSnapshot(each, dataSourcesMap.get(each), schemaRuleConfigs.get(each)));
+        result.putAll(loadedSchemas);
+        return result;
+    }
+    
+    private Optional<ShardingSphereSchema> loadSnapshotSchema(final String schemaName, final Map<String, DataSource> dataSourceMap, final Collection<RuleConfiguration> ruleConfigs) {
+        if (null == dataSourceMap || !metaDataPersistService.getSchemaMetaDataSnapshotService().isValid(schemaName, DataSourceConverter.getDataSourceConfigurationMap(dataSourceMap), ruleConfigs)) {
+            return Optional.empty();
+        }
+        return metaDataPersistService.getSchemaMetaDataService().load(schemaName);
+    }
+    
+    private void persistSnapshot(final String schemaName, final Map<String, DataSource> dataSourceMap, final Collection<RuleConfiguration> ruleConfigs) {
+        metaDataPersistService.getSchemaMetaDataSnapshotService().persist(schemaName, DataSourceConverter.getDataSourceConfigurationMap(dataSourceMap), ruleConfigs);
+    }
+    
     private void persistMetaData(final Map<String, ShardingSphereSchema> schemas) {
         schemas.forEach((key, value) -> metaDataPersistService.getSchemaMetaDataService().persist(key, value));
     }
     
+    private void validateSnapshotSchemas() {
+        if (snapshotSchemaNames.isEmpty()) {
+            return;
+        }
+        ExecutorService executorService = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("MetaData-Snapshot-Validator"));
+        executorService.execute(() -> snapshotSchemaNames.forEach(contextManager::reloadChangedMetaData));
+        executorService.shutdown();
+    }
+    
     @Override
     public String getType() {
         return "Cluster";
@@ -20,11 +20,13 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator;
 import com.google.common.eventbus.Subscribe;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.QualifiedSchema;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceNameDisabledEvent;
 import org.apache.shardingsphere.infra.rule.event.impl.PrimaryDataSourceChangedEvent;
 import org.apache.shardingsphere.infra.rule.identifier.type.StatusContainedRule;
 import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.SchemaChangedEventCoalescer.SchemaChanges;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.authority.event.AuthorityChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.datasource.DataSourceChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.props.PropertiesChangedEvent;
@@ -40,7 +42,10 @@ import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 import java.sql.SQLException;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Cluster context manager coordinator.
@@ -51,6 +56,10 @@ public final class ClusterContextManagerCoordinator {
     
     private final ContextManager contextManager;
     
+    private final SchemaChangedEventCoalescer schemaChangedEventCoalescer = new SchemaChangedEventCoalescer();
+    
+    private final ExecutorService schemaChangedEventExecutor = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("SchemaChangedEvent-Coalescer-%d"));
+    
     public ClusterContextManagerCoordinator(final MetaDataPersistService metaDataPersistService, final ContextManager contextManager) {
         this.metaDataPersistService = metaDataPersistService;
         this.contextManager = contextManager;
@@ -104,11 +113,15 @@ public final class ClusterContextManagerCoordinator {
     /**
      * Renew meta data of the schema.
      *
+     * <p>Events are coalesced and applied asynchronously, changed tables of the same schema are altered together.</p>
+     *
      * @param event meta data changed event
      */
     @Subscribe
-    public synchronized void renew(final SchemaChangedEvent event) {
-        contextManager.alterSchema(event.getSchemaName(), event.getChangedTableMetaData(), event.getDeletedTable());
+    public void renew(final SchemaChangedEvent event) {
+        if (schemaChangedEventCoalescer.add(event)) {
+            schemaChangedEventExecutor.execute(this::alterChangedSchemas);
+        }
     }
     
     /**
@@ -171,6 +184,14 @@ public final class ClusterContextManagerCoordinator {
         contextManager.alterGlobalRuleConfiguration(event.getRuleConfigurations());
     }
     
+    private synchronized void alterChangedSchemas() {
+        for (Entry<String, SchemaChanges> entry : schemaChangedEventCoalescer.drain().entrySet()) {
+            if (null != contextManager.getMetaDataContexts().getMetaData(entry.getKey())) {
+                contextManager.alterSchema(entry.getKey(), entry.getValue().getChangedTables().values(), entry.getValue().getDeletedTables().values());
+            }
+        }
+    }
+    
     private void persistSchema(final String schemaName) {
         if (!metaDataPersistService.getDataSourceService().isExisted(schemaName)) {
             metaDataPersistService.getDataSourceService().persist(schemaName, new LinkedHashMap<>());
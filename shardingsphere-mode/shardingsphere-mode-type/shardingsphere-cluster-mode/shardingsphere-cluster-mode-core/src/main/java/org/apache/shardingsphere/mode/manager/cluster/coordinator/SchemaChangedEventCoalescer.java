@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaChangedEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Coalescer of schema changed events.
+ *
+ * <p>Changes of the same table are merged before being drained, so a burst of events only alters each schema once.</p>
+ */
+final class SchemaChangedEventCoalescer {
+    
+    private Map<String, SchemaChanges> pendingChanges = new LinkedHashMap<>();
+    
+    /**
+     * Add schema changed event.
+     *
+     * @param event schema changed event
+     * @return whether pending changes are empty before added
+     */
+    synchronized boolean add(final SchemaChangedEvent event) {
+        boolean result = pendingChanges.isEmpty();
+        SchemaChanges schemaChanges = pendingChanges.computeIfAbsent(event.getSchemaName(), key -> new SchemaChanges());
+        if (null != event.getChangedTableMetaData()) {
+            String tableName = event.getChangedTableMetaData().getName().toLowerCase();
+            schemaChanges.deletedTables.remove(tableName);
+            schemaChanges.changedTables.put(tableName, event.getChangedTableMetaData());
+        }
+        if (null != event.getDeletedTable()) {
+            String tableName = event.getDeletedTable().toLowerCase();
+            schemaChanges.changedTables.remove(tableName);
+            schemaChanges.deletedTables.put(tableName, event.getDeletedTable());
+        }
+        return result;
+    }
+    
+    /**
+     * Drain pending changes.
+     *
+     * @return pending changes, key is schema name
+     */
+    synchronized Map<String, SchemaChanges> drain() {
+        Map<String, SchemaChanges> result = pendingChanges;
+        pendingChanges = new LinkedHashMap<>();
+        return result;
+    }
+    
+    @Getter
+    static final class SchemaChanges {
+        
+        private final Map<String, TableMetaData> changedTables = new LinkedHashMap<>();
+        
+        private final Map<String, String> deletedTables = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.SchemaChangedEventCoalescer.SchemaChanges;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaChangedEvent;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SchemaChangedEventCoalescerTest {
+    
+    @Test
+    public void assertAddAndDrain() {
+        SchemaChangedEventCoalescer coalescer = new SchemaChangedEventCoalescer();
+        TableMetaData orderTable = new TableMetaData("t_order", Collections.emptyList(), Collections.emptyList());
+        TableMetaData changedOrderTable = new TableMetaData("T_ORDER", Collections.emptyList(), Collections.emptyList());
+        assertTrue(coalescer.add(new SchemaChangedEvent("foo_db", orderTable, null)));
+        assertFalse(coalescer.add(new SchemaChangedEvent("foo_db", null, "t_user")));
+        assertFalse(coalescer.add(new SchemaChangedEvent("foo_db", changedOrderTable, null)));
+        assertFalse(coalescer.add(new SchemaChangedEvent("bar_db", null, "t_order")));
+        Map<String, SchemaChanges> actual = coalescer.drain();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("foo_db").getChangedTables(), is(Collections.singletonMap("t_order", changedOrderTable)));
+        assertThat(actual.get("foo_db").getDeletedTables(), is(Collections.singletonMap("t_user", "t_user")));
+        assertTrue(actual.get("bar_db").getChangedTables().isEmpty());
+        assertThat(actual.get("bar_db").getDeletedTables(), is(Collections.singletonMap("t_order", "t_order")));
+        assertTrue(coalescer.drain().isEmpty());
+    }
+    
+    @Test
+    public void assertDeleteAfterChanged() {
+        SchemaChangedEventCoalescer coalescer = new SchemaChangedEventCoalescer();
+        coalescer.add(new SchemaChangedEvent("foo_db", new TableMetaData("t_order", Collections.emptyList(), Collections.emptyList()), null));
+        coalescer.add(new SchemaChangedEvent("foo_db", null, "t_order"));
+        SchemaChanges actual = coalescer.drain().get("foo_db");
+        assertTrue(actual.getChangedTables().isEmpty());
+        assertThat(actual.getDeletedTables(), is(Collections.singletonMap("t_order", "t_order")));
+        assertTrue(coalescer.add(new SchemaChangedEvent("foo_db", null, "t_order")));
+    }
+}
@@ -24,6 +24,7 @@ import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Observers;
 import io.etcd.jetcd.Util;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -42,7 +43,10 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -54,6 +58,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TXN_OPERATIONS = 128;
+    
     private Client client;
     
     @Getter
@@ -112,6 +118,31 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().delete(ByteSequence.from(key, StandardCharsets.UTF_8), DeleteOption.newBuilder().withPrefix(ByteSequence.from(key, StandardCharsets.UTF_8)).build());
     }
     
+    @Override
+    public void persistInBatch(final Map<String, String> keyValues) {
+        List<Op> operations = new ArrayList<>(keyValues.size());
+        keyValues.forEach((key, value) -> operations.add(Op.put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8), PutOption.DEFAULT)));
+        commitInBatch(operations);
+    }
+    
+    @Override
+    public void deleteInBatch(final Collection<String> keys) {
+        List<Op> operations = new ArrayList<>(keys.size());
+        for (String each : keys) {
+            ByteSequence key = ByteSequence.from(each, StandardCharsets.UTF_8);
+            operations.add(Op.delete(key, DeleteOption.newBuilder().withPrefix(key).build()));
+        }
+        commitInBatch(operations);
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    private void commitInBatch(final List<Op> operations) {
+        for (int i = 0; i < operations.size(); i += MAX_TXN_OPERATIONS) {
+            List<Op> batch = operations.subList(i, Math.min(i + MAX_TXN_OPERATIONS, operations.size()));
+            client.getKVClient().txn().Then(batch.toArray(new Op[0])).commit().get();
+        }
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener dataChangedEventListener) {
         Watch.Listener listener = Watch.listener(response -> {
@@ -24,6 +24,7 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
@@ -46,9 +47,13 @@ import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -63,6 +68,8 @@ import java.util.concurrent.TimeUnit;
  */
 public final class CuratorZookeeperRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
     private final Map<String, CuratorCache> caches = new HashMap<>();
     
     private CuratorFramework client;
@@ -207,6 +214,61 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    @Override
+    public void persistInBatch(final Map<String, String> keyValues) {
+        Map<String, Collection<String>> existedChildren = new HashMap<>();
+        Map<String, byte[]> batch = new LinkedHashMap<>();
+        int batchBytes = 0;
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            if (!batch.isEmpty() && batchBytes + entry.getKey().length() + value.length > MAX_TRANSACTION_BYTES) {
+                persistInTransaction(batch, existedChildren);
+                batch.clear();
+                batchBytes = 0;
+            }
+            batch.put(entry.getKey(), value);
+            batchBytes += entry.getKey().length() + value.length;
+        }
+        if (!batch.isEmpty()) {
+            persistInTransaction(batch, existedChildren);
+        }
+    }
+    
+    private void persistInTransaction(final Map<String, byte[]> keyValues, final Map<String, Collection<String>> existedChildren) {
+        try {
+            List<CuratorOp> operations = new ArrayList<>(keyValues.size());
+            for (Entry<String, byte[]> entry : keyValues.entrySet()) {
+                operations.add(isChildExisted(entry.getKey(), existedChildren)
+                        ? client.transactionOp().setData().forPath(entry.getKey(), entry.getValue())
+                        : client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(entry.getKey(), entry.getValue()));
+            }
+            client.transaction().forOperations(operations);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            keyValues.forEach((key, value) -> persist(key, new String(value, StandardCharsets.UTF_8)));
+        }
+    }
+    
+    private boolean isChildExisted(final String key, final Map<String, Collection<String>> existedChildren) throws Exception {
+        int index = key.lastIndexOf(PATH_SEPARATOR);
+        String parentKey = 0 == index ? PATH_SEPARATOR : key.substring(0, index);
+        Collection<String> children = existedChildren.get(parentKey);
+        if (null == children) {
+            children = loadExistedChildren(parentKey);
+            existedChildren.put(parentKey, children);
+        }
+        return children.contains(key.substring(index + 1));
+    }
+    
+    private Collection<String> loadExistedChildren(final String parentKey) throws Exception {
+        if (null != client.checkExists().forPath(parentKey)) {
+            return new HashSet<>(client.getChildren().forPath(parentKey));
+        }
+        client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(parentKey, new byte[0]);
+        return Collections.emptySet();
+    }
+    
     @Override
     public void persistEphemeral(final String key, final String value) {
         try {
@@ -234,6 +296,38 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    @Override
+    public void deleteInBatch(final Collection<String> keys) {
+        List<String> batch = new ArrayList<>();
+        int batchBytes = 0;
+        for (String each : keys) {
+            if (!batch.isEmpty() && batchBytes + each.length() > MAX_TRANSACTION_BYTES) {
+                deleteInTransaction(batch);
+                batch.clear();
+                batchBytes = 0;
+            }
+            batch.add(each);
+            batchBytes += each.length();
+        }
+        if (!batch.isEmpty()) {
+            deleteInTransaction(batch);
+        }
+    }
+    
+    private void deleteInTransaction(final List<String> keys) {
+        try {
+            List<CuratorOp> operations = new ArrayList<>(keys.size());
+            for (String each : keys) {
+                operations.add(client.transactionOp().delete().forPath(each));
+            }
+            client.transaction().forOperations(operations);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            keys.forEach(this::delete);
+        }
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener listener) {
         String path = key + PATH_SEPARATOR;
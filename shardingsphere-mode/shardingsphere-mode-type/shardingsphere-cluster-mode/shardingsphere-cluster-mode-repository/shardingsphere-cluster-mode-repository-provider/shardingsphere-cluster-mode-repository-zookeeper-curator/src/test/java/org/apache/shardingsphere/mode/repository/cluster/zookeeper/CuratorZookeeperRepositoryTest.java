@@ -22,6 +22,7 @@ import lombok.SneakyThrows;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
+import org.apache.curator.framework.api.ACLPathAndBytesable;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
@@ -30,6 +31,11 @@ import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
+import org.apache.curator.framework.api.transaction.TransactionOp;
+import org.apache.curator.framework.api.transaction.TransactionSetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
@@ -53,6 +59,7 @@ import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -68,6 +75,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -177,6 +185,34 @@ public final class CuratorZookeeperRepositoryTest {
         verify(setDataBuilder).forPath("/test", "value2".getBytes(StandardCharsets.UTF_8));
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    @SneakyThrows
+    public void assertPersistInBatch() {
+        when(existsBuilder.forPath("/test")).thenReturn(new Stat());
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("existed"));
+        TransactionOp transactionOp = mock(TransactionOp.class);
+        TransactionSetDataBuilder<CuratorOp> transactionSetDataBuilder = mock(TransactionSetDataBuilder.class);
+        TransactionCreateBuilder<CuratorOp> transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        ACLPathAndBytesable<CuratorOp> transactionCreateWithMode = mock(ACLPathAndBytesable.class);
+        CuratorOp setDataOperation = mock(CuratorOp.class);
+        CuratorOp createOperation = mock(CuratorOp.class);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        when(transactionOp.setData()).thenReturn(transactionSetDataBuilder);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(transactionCreateWithMode);
+        when(transactionSetDataBuilder.forPath("/test/existed", "value1".getBytes(StandardCharsets.UTF_8))).thenReturn(setDataOperation);
+        when(transactionCreateWithMode.forPath("/test/new", "value2".getBytes(StandardCharsets.UTF_8))).thenReturn(createOperation);
+        when(client.transaction()).thenReturn(transaction);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1);
+        keyValues.put("/test/existed", "value1");
+        keyValues.put("/test/new", "value2");
+        REPOSITORY.persistInBatch(keyValues);
+        verify(transaction).forOperations(Arrays.asList(setDataOperation, createOperation));
+        verify(getChildrenBuilder).forPath("/test");
+    }
+    
     @Test
     @SneakyThrows
     public void assertPersistEphemeralNotExist() {
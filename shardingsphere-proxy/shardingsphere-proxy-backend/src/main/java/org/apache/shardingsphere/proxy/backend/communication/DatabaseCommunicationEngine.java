@@ -105,6 +105,12 @@ public final class DatabaseCommunicationEngine {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<QueryResult> cachedQueryResults = new CopyOnWriteArrayList<>();
+    
+    private final Object closeLock = new Object();
+    
+    private boolean closed;
+    
     private final FederationExecutor federationExecutor;
     
     private final JDBCBackendConnection backendConnection;
@@ -128,21 +134,51 @@ public final class DatabaseCommunicationEngine {
     }
     
     /**
-     * Add statement.
+     * Add statement, which is closed immediately if engine has been closed and not executed again.
      *
      * @param statement statement to be added
+     * @throws SQLException SQL exception when engine has been closed
      */
-    public void add(final Statement statement) {
-        cachedStatements.add(statement);
+    public void add(final Statement statement) throws SQLException {
+        synchronized (closeLock) {
+            if (!closed) {
+                cachedStatements.add(statement);
+                return;
+            }
+        }
+        statement.close();
+        throw new SQLException("Database communication engine has been closed.");
     }
     
     /**
-     * Add result set.
+     * Add result set, which is closed immediately if engine has been closed and not executed again.
      *
      * @param resultSet result set to be added
+     * @throws SQLException SQL exception when engine has been closed
      */
-    public void add(final ResultSet resultSet) {
-        cachedResultSets.add(resultSet);
+    public void add(final ResultSet resultSet) throws SQLException {
+        synchronized (closeLock) {
+            if (!closed) {
+                cachedResultSets.add(resultSet);
+                return;
+            }
+        }
+        resultSet.close();
+        throw new SQLException("Database communication engine has been closed.");
+    }
+    
+    private void addQueryResults(final Collection<ExecuteResult> executeResults) throws SQLException {
+        Collection<QueryResult> queryResults = executeResults.stream().filter(each -> each instanceof QueryResult).map(each -> (QueryResult) each).collect(Collectors.toList());
+        synchronized (closeLock) {
+            if (!closed) {
+                cachedQueryResults.addAll(queryResults);
+                return;
+            }
+        }
+        for (QueryResult each : queryResults) {
+            each.close();
+        }
+        throw new SQLException("Database communication engine has been closed.");
     }
     
     /**
@@ -152,6 +188,7 @@ public final class DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     public ResponseHeader execute() throws SQLException {
+        reopen();
         ExecutionContext executionContext = kernelProcessor.generateExecutionContext(logicSQL, metaData, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps());
         // TODO move federation route logic to binder
         if (executionContext.getRouteContext().isFederated()) {
@@ -170,10 +207,21 @@ public final class DatabaseCommunicationEngine {
                 : processExecuteUpdate(executionContext, executeResults.stream().map(each -> (UpdateResult) each).collect(Collectors.toList()));
     }
     
+    private void reopen() {
+        synchronized (closeLock) {
+            if (!closed) {
+                return;
+            }
+            closed = false;
+        }
+        backendConnection.add(this);
+    }
+    
     private ResultSet doExecuteFederation(final LogicSQL logicSQL, final MetaDataContexts metaDataContexts) throws SQLException {
         boolean isReturnGeneratedKeys = logicSQL.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
-        DatabaseType databaseType = metaDataContexts.getMetaData(backendConnection.getConnectionSession().getSchemaName()).getResource().getDatabaseType();
-        ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(driverType, databaseType,
+        String schemaName = backendConnection.getConnectionSession().getSchemaName();
+        DatabaseType databaseType = metaDataContexts.getMetaData(schemaName).getResource().getDatabaseType();
+        ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(driverType, databaseType, schemaName,
                 logicSQL.getSqlStatementContext().getSqlStatement(), this, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown(), true);
         backendConnection.setFederationExecutor(federationExecutor);
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine(isReturnGeneratedKeys, metaDataContexts);
@@ -199,6 +247,7 @@ public final class DatabaseCommunicationEngine {
     
     private Collection<ExecuteResult> doExecute(final ExecutionContext executionContext) throws SQLException {
         Collection<ExecuteResult> result = proxySQLExecutor.execute(executionContext);
+        addQueryResults(result);
         refreshMetaData(executionContext);
         return result;
     }
@@ -309,7 +358,12 @@ public final class DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     public void close() throws SQLException {
+        synchronized (closeLock) {
+            closed = true;
+        }
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(closeMergedResult());
+        result.addAll(closeQueryResults());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         if (result.isEmpty()) {
@@ -320,6 +374,33 @@ public final class DatabaseCommunicationEngine {
         throw ex;
     }
     
+    private Collection<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Collections.emptyList();
+        }
+        try {
+            mergedResult.close();
+            return Collections.emptyList();
+        } catch (final SQLException ex) {
+            return Collections.singletonList(ex);
+        } finally {
+            mergedResult = null;
+        }
+    }
+    
+    private Collection<SQLException> closeQueryResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (QueryResult each : cachedQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedQueryResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.proxy.backend.communication;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
@@ -33,14 +36,20 @@ import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeaderBuilder;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -67,9 +76,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -160,7 +171,7 @@ public final class DatabaseCommunicationEngineTest {
     }
     
     @Test
-    public void assertAddStatementCorrectly() {
+    public void assertAddStatementCorrectly() throws SQLException {
         DatabaseCommunicationEngine engine =
                 DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(mock(SQLStatementContext.class), "schemaName", Collections.emptyList(), backendConnection);
         engine.add(statement);
@@ -170,7 +181,7 @@ public final class DatabaseCommunicationEngineTest {
     }
     
     @Test
-    public void assertAddResultSetCorrectly() {
+    public void assertAddResultSetCorrectly() throws SQLException {
         DatabaseCommunicationEngine engine =
                 DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(mock(SQLStatementContext.class), "schemaName", Collections.emptyList(), backendConnection);
         engine.add(resultSet);
@@ -179,6 +190,61 @@ public final class DatabaseCommunicationEngineTest {
         assertThat(actual.iterator().next(), is(resultSet));
     }
     
+    @Test
+    public void assertAddStatementAfterClosed() throws SQLException {
+        DatabaseCommunicationEngine engine =
+                DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(mock(SQLStatementContext.class), "schemaName", Collections.emptyList(), backendConnection);
+        engine.close();
+        SQLException actual = null;
+        try {
+            engine.add(statement);
+        } catch (final SQLException ex) {
+            actual = ex;
+        }
+        assertNotNull(actual);
+        verify(statement).close();
+        Collection<?> cached = getField(engine, "cachedStatements");
+        assertTrue(cached.isEmpty());
+    }
+    
+    @Test
+    public void assertAddResultSetAfterClosed() throws SQLException {
+        DatabaseCommunicationEngine engine =
+                DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(mock(SQLStatementContext.class), "schemaName", Collections.emptyList(), backendConnection);
+        engine.close();
+        SQLException actual = null;
+        try {
+            engine.add(resultSet);
+        } catch (final SQLException ex) {
+            actual = ex;
+        }
+        assertNotNull(actual);
+        verify(resultSet).close();
+        Collection<?> cached = getField(engine, "cachedResultSets");
+        assertTrue(cached.isEmpty());
+    }
+    
+    @Test
+    public void assertAddStatementAfterCloseExecutionResourcesAndExecuteAgain() throws SQLException, BackendConnectionException, NoSuchFieldException {
+        ConnectionSession connectionSession = backendConnection.getConnectionSession();
+        when(connectionSession.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.LOCAL));
+        JDBCBackendConnection actualBackendConnection = new JDBCBackendConnection(connectionSession);
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class);
+        DatabaseCommunicationEngine engine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(sqlStatementContext, "schemaName", Collections.emptyList(), actualBackendConnection);
+        actualBackendConnection.closeExecutionResources();
+        KernelProcessor kernelProcessor = mock(KernelProcessor.class);
+        when(kernelProcessor.generateExecutionContext(any(), any(), any()))
+                .thenReturn(new ExecutionContext(new LogicSQL(sqlStatementContext, "schemaName", Collections.emptyList()), Collections.emptyList(), new RouteContext()));
+        FieldSetter.setField(engine, DatabaseCommunicationEngine.class.getDeclaredField("kernelProcessor"), kernelProcessor);
+        assertThat(engine.execute(), instanceOf(UpdateResponseHeader.class));
+        engine.add(statement);
+        verify(statement, never()).close();
+        Collection<?> cached = getField(engine, "cachedStatements");
+        assertThat(cached.size(), is(1));
+        actualBackendConnection.closeExecutionResources();
+        verify(statement).close();
+    }
+    
     @Test
     public void assertCloseCorrectly() throws SQLException {
         DatabaseCommunicationEngine engine =
@@ -17,13 +17,6 @@
 
 package org.apache.shardingsphere.proxy.frontend.command;
 
-import com.alibaba.druid.DbType;
-import com.alibaba.druid.sql.SQLUtils;
-import com.alibaba.druid.sql.ast.SQLStatement;
-import com.alibaba.druid.sql.ast.statement.SQLDeleteStatement;
-import com.alibaba.druid.sql.ast.statement.SQLInsertStatement;
-import com.alibaba.druid.sql.ast.statement.SQLSelectStatement;
-import com.alibaba.druid.sql.ast.statement.SQLUpdateStatement;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.RequiredArgsConstructor;
@@ -34,24 +27,21 @@ import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
-import org.apache.shardingsphere.distsql.parser.statement.DistSQLStatement;
-import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
-import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
-import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.communication.SQLStatementSchemaHolder;
-import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.exception.ExpectedExceptions;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
-import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.sql.SQLException;
-import java.util.*;
-import java.util.function.Predicate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -61,6 +51,8 @@ import java.util.stream.Collectors;
 @Slf4j(topic = "SS-PROXY-COMMON")
 public final class CommandExecutorTask implements Runnable {
     
+    private static final int MAX_MULTI_STATEMENT_COUNT = 5000;
+    
     private final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
     
     private final ConnectionSession connectionSession;
@@ -109,67 +101,42 @@ public final class CommandExecutorTask implements Runnable {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
         CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, connectionSession);
-        List<CommandPacket> commandPackets = handlerIfMultiSqlPacket(commandPacket);
-        if (commandPackets.isEmpty()) {
-            commandPackets.add(commandPacket);
+        List<String> statements = splitMultiStatements(commandPacket);
+        if (statements.isEmpty()) {
+            return singleCommandExecutor(context, commandExecuteEngine, type, commandPacket);
         }
-        boolean needFlush = false;
-        for (CommandPacket packet : commandPackets) {
-            boolean flag = singleCommandExecutor(context, commandExecuteEngine, type, packet);
-            if (!needFlush && flag){
-                needFlush = true;
+        boolean result = false;
+        Iterator<String> iterator = statements.iterator();
+        while (iterator.hasNext()) {
+            boolean isNeedFlush = singleCommandExecutor(context, commandExecuteEngine, type, new MySQLComQueryPacket(iterator.next()));
+            if (isNeedFlush && iterator.hasNext()) {
+                context.flush();
             }
+            result = isNeedFlush;
         }
-        return needFlush;
+        return result;
     }
-
-    private List<CommandPacket> handlerIfMultiSqlPacket(CommandPacket commandPacket) {
-        List<CommandPacket> commandPackets = new ArrayList<>();
-        if (commandPacket instanceof MySQLComQueryPacket) {
-            MySQLComQueryPacket packet = (MySQLComQueryPacket) commandPacket;
-            final String trimSQL = SQLUtil.trimComment(packet.getSql());
-            try {
-                Optional<SQLParserRule> sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
-                org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement shardingStatement =
-                        new ShardingSphereSQLParserEngine(new MySQLDatabaseType().getName(), sqlParserRule.orElse(null))
-                                .parse(trimSQL, false);
-                if (shardingStatement instanceof DistSQLStatement) {
-                    return commandPackets;
-                }
-            } catch (Exception e) {
-                log.error("sharding parser error ,sql={}", trimSQL);
-            }
-            List<SQLStatement> sqlStatements;
-            try {
-                sqlStatements = SQLUtils.parseStatements(trimSQL, DbType.mysql, true);
-            } catch (Exception e) {
-                log.error("druid parser error ,sql={}", trimSQL);
-                return commandPackets;
-            }
-            // 针对多sql的情况做加工
-            if (sqlStatements.size() > 5000) {
-                ShardingSphereException cause = new ShardingSphereException("multi sql on one packet ,expect max size %d, actual size %d", 1000, sqlStatements.size());
-                log.error("Exception occur: ", cause);
-                throw cause;
-            }
-            Predicate<SQLStatement> crudPredicate = sqlStatement ->
-                    trimSQL.toLowerCase().contains("information_schema.engines") ||
-                    sqlStatement instanceof SQLDeleteStatement ||
-                    sqlStatement instanceof SQLUpdateStatement ||
-                    sqlStatement instanceof SQLSelectStatement ||
-                    sqlStatement instanceof SQLInsertStatement;
-            boolean allCrudStats = sqlStatements.stream().allMatch(crudPredicate);
-            if (allCrudStats && sqlStatements.size() > 1) {
-                for (SQLStatement sqlStatement : sqlStatements) {
-                    String sql = SQLUtils.toSQLString(sqlStatement, DbType.mysql);
-                    commandPackets.add(new MySQLComQueryPacket(sql));
-                }
-            }
+    
+    private List<String> splitMultiStatements(final CommandPacket commandPacket) {
+        if (!(commandPacket instanceof MySQLComQueryPacket)) {
+            return Collections.emptyList();
         }
-        return commandPackets;
+        String sql = ((MySQLComQueryPacket) commandPacket).getSql();
+        List<String> result = MultiStatementSplitter.split(sql);
+        if (result.size() <= 1) {
+            return Collections.emptyList();
+        }
+        if (result.size() > MAX_MULTI_STATEMENT_COUNT) {
+            ShardingSphereException cause = new ShardingSphereException("multi sql on one packet ,expect max size %d, actual size %d", MAX_MULTI_STATEMENT_COUNT, result.size());
+            log.error("Exception occur: ", cause);
+            throw cause;
+        }
+        boolean isSplittable = sql.toLowerCase().contains("information_schema.engines") || result.stream().allMatch(MultiStatementSplitter::isDMLStatement);
+        return isSplittable ? result : Collections.emptyList();
     }
-
-    private boolean singleCommandExecutor(ChannelHandlerContext context, CommandExecuteEngine commandExecuteEngine, CommandPacketType type, CommandPacket commandPacket) throws SQLException {
+    
+    private boolean singleCommandExecutor(final ChannelHandlerContext context, final CommandExecuteEngine commandExecuteEngine, final CommandPacketType type,
+                                          final CommandPacket commandPacket) throws SQLException {
         CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, connectionSession);
         try {
             Collection<DatabasePacket<?>> responsePackets = commandExecutor.execute();
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.HashSet;
+
+/**
+ * Multi statement splitter.
+ *
+ * <p>
+ * Split SQL of one query packet into statements by scanning semicolons once, 
+ * semicolons inside quoted strings, quoted identifiers and comments are ignored.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MultiStatementSplitter {
+    
+    private static final char STATEMENT_DELIMITER = ';';
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE", "WITH"));
+    
+    /**
+     * Split SQL into statements.
+     *
+     * @param sql SQL to be split
+     * @return trimmed statements without delimiter, blank statements are ignored
+     */
+    public static List<String> split(final String sql) {
+        List<String> result = new LinkedList<>();
+        int length = sql.length();
+        int startIndex = 0;
+        int index = 0;
+        while (index < length) {
+            char current = sql.charAt(index);
+            if (STATEMENT_DELIMITER == current) {
+                addStatement(result, sql.substring(startIndex, index));
+                startIndex = index + 1;
+                index++;
+            } else {
+                index = skip(sql, index);
+            }
+        }
+        addStatement(result, sql.substring(startIndex));
+        return result;
+    }
+    
+    private static void addStatement(final List<String> statements, final String statement) {
+        String trimmed = statement.trim();
+        if (!trimmed.isEmpty()) {
+            statements.add(trimmed);
+        }
+    }
+    
+    private static int skip(final String sql, final int index) {
+        char current = sql.charAt(index);
+        if ('\'' == current || '"' == current || '`' == current) {
+            return skipQuoted(sql, index, current);
+        }
+        if (isLineCommentStart(sql, index)) {
+            int result = sql.indexOf('\n', index);
+            return result < 0 ? sql.length() : result + 1;
+        }
+        if (sql.startsWith("/*", index)) {
+            int result = sql.indexOf("*/", index + 2);
+            return result < 0 ? sql.length() : result + 2;
+        }
+        return index + 1;
+    }
+    
+    private static int skipQuoted(final String sql, final int startIndex, final char quote) {
+        int index = startIndex + 1;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if ('\\' == current && '`' != quote) {
+                index += 2;
+            } else if (quote == current) {
+                if (index + 1 < sql.length() && quote == sql.charAt(index + 1)) {
+                    index += 2;
+                } else {
+                    return index + 1;
+                }
+            } else {
+                index++;
+            }
+        }
+        return sql.length();
+    }
+    
+    private static boolean isLineCommentStart(final String sql, final int index) {
+        if ('#' == sql.charAt(index)) {
+            return true;
+        }
+        return sql.startsWith("--", index) && (index + 2 == sql.length() || Character.isWhitespace(sql.charAt(index + 2)));
+    }
+    
+    /**
+     * Judge whether statement is DML statement by its first keyword.
+     *
+     * @param statement statement to be judged
+     * @return is DML statement or not
+     */
+    public static boolean isDMLStatement(final String statement) {
+        int index = 0;
+        while (index < statement.length()) {
+            char current = statement.charAt(index);
+            if (Character.isWhitespace(current) || '(' == current) {
+                index++;
+            } else if (isLineCommentStart(statement, index) || statement.startsWith("/*", index)) {
+                index = skip(statement, index);
+            } else {
+                break;
+            }
+        }
+        int stopIndex = index;
+        while (stopIndex < statement.length() && Character.isLetter(statement.charAt(stopIndex))) {
+            stopIndex++;
+        }
+        return DML_KEYWORDS.contains(statement.substring(index, stopIndex).toUpperCase(Locale.ENGLISH));
+    }
+}
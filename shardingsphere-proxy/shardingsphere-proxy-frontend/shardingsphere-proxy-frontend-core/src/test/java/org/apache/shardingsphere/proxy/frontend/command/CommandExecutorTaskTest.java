@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.command;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -36,6 +37,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -44,8 +46,11 @@ import java.sql.SQLException;
 import java.util.Collections;
 import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -147,6 +152,27 @@ public final class CommandExecutorTaskTest {
         verify(backendConnection).closeExecutionResources();
     }
     
+    @Test
+    public void assertRunWithMultiStatements() throws SQLException, BackendConnectionException {
+        when(frontendContext.isFlushForPerCommandPacket()).thenReturn(true);
+        when(engine.getFrontendContext()).thenReturn(frontendContext);
+        when(commandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
+        when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(new MySQLComQueryPacket("UPDATE t SET v = ';'; DELETE FROM t"));
+        when(engine.getCommandExecuteEngine().getCommandExecutor(eq(commandPacketType), any(MySQLComQueryPacket.class), eq(connectionSession))).thenReturn(commandExecutor);
+        when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
+        when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
+        actual.run();
+        ArgumentCaptor<MySQLComQueryPacket> packetCaptor = ArgumentCaptor.forClass(MySQLComQueryPacket.class);
+        verify(engine.getCommandExecuteEngine(), times(2)).getCommandExecutor(eq(commandPacketType), packetCaptor.capture(), eq(connectionSession));
+        assertThat(packetCaptor.getAllValues().get(0).getSql(), is("UPDATE t SET v = ';'"));
+        assertThat(packetCaptor.getAllValues().get(1).getSql(), is("DELETE FROM t"));
+        verify(handlerContext, times(2)).write(databasePacket);
+        verify(handlerContext, times(2)).flush();
+        verify(commandExecutor, times(2)).close();
+        verify(backendConnection).closeExecutionResources();
+    }
+    
     @Test
     public void assertRunWithError() throws BackendConnectionException {
         RuntimeException mockException = new RuntimeException("mock");
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MultiStatementSplitterTest {
+    
+    @Test
+    public void assertSplit() {
+        assertThat(MultiStatementSplitter.split("SELECT 1; UPDATE t_order SET status = 'a;b' WHERE id = 1;;INSERT INTO t_order VALUES (1, \"c;\\\";d\");"),
+                is(Arrays.asList("SELECT 1", "UPDATE t_order SET status = 'a;b' WHERE id = 1", "INSERT INTO t_order VALUES (1, \"c;\\\";d\")")));
+    }
+    
+    @Test
+    public void assertSplitWithComments() {
+        assertThat(MultiStatementSplitter.split("/* a; b */ SELECT `c;` FROM t -- d;\n; # e;\nDELETE FROM t"),
+                is(Arrays.asList("/* a; b */ SELECT `c;` FROM t -- d;", "# e;\nDELETE FROM t")));
+    }
+    
+    @Test
+    public void assertSplitSingleStatement() {
+        assertThat(MultiStatementSplitter.split(" SELECT 'it''s'; "), is(Collections.singletonList("SELECT 'it''s'")));
+    }
+    
+    @Test
+    public void assertIsDMLStatement() {
+        assertTrue(MultiStatementSplitter.isDMLStatement("/* hint */ (select 1)"));
+        assertTrue(MultiStatementSplitter.isDMLStatement("# e;\nDELETE FROM t"));
+        assertFalse(MultiStatementSplitter.isDMLStatement("SHOW SHARDING TABLE RULES"));
+        assertFalse(MultiStatementSplitter.isDMLStatement("SET autocommit = 1"));
+    }
+}
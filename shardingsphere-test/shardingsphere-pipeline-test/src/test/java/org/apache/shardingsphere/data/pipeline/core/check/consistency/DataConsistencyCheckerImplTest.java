@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.fixture.FixtureDataConsistencyCheckAlgorithm;
+import org.apache.shardingsphere.data.pipeline.core.spi.check.consistency.DataMatchDataConsistencyCheckAlgorithm;
 import org.apache.shardingsphere.data.pipeline.core.util.ResourceUtil;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
@@ -36,8 +37,10 @@ import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -56,14 +59,45 @@ public final class DataConsistencyCheckerImplTest {
         assertTrue(dataCheckResultMap.get("t_order"));
     }
     
-    @SneakyThrows(SQLException.class)
+    @Test
+    public void assertDataCheckWithUniqueKeyRanges() {
+        RuleAlteredJobContext jobContext = new RuleAlteredJobContext(ResourceUtil.mockJobConfig());
+        DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobContext);
+        initTableData(jobContext.getTaskConfigs().iterator().next().getDumperConfig().getDataSourceConfig());
+        initTableData(jobContext.getTaskConfigs().iterator().next().getImporterConfig().getDataSourceConfig());
+        assertTrue(dataConsistencyChecker.checkRecordsContent(createDataMatchCheckAlgorithm()).get("t_order"));
+    }
+    
+    @Test
+    public void assertDataCheckWithMismatchedUniqueKeyRange() {
+        RuleAlteredJobContext jobContext = new RuleAlteredJobContext(ResourceUtil.mockJobConfig());
+        DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobContext);
+        initTableData(jobContext.getTaskConfigs().iterator().next().getDumperConfig().getDataSourceConfig());
+        initTableData(jobContext.getTaskConfigs().iterator().next().getImporterConfig().getDataSourceConfig(), "zzz");
+        assertFalse(dataConsistencyChecker.checkRecordsContent(createDataMatchCheckAlgorithm()).get("t_order"));
+    }
+    
+    private DataMatchDataConsistencyCheckAlgorithm createDataMatchCheckAlgorithm() {
+        DataMatchDataConsistencyCheckAlgorithm result = new DataMatchDataConsistencyCheckAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("range-size", "1");
+        props.setProperty("concurrency", "2");
+        result.setProps(props);
+        return result;
+    }
+    
     private void initTableData(final PipelineDataSourceConfiguration dataSourceConfig) {
+        initTableData(dataSourceConfig, "yyy");
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void initTableData(final PipelineDataSourceConfiguration dataSourceConfig, final String lastUserId) {
         DataSource dataSource = new PipelineDataSourceManager().getDataSource(dataSourceConfig);
         try (Connection connection = dataSource.getConnection();
              Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t_order");
             statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
-            statement.execute("INSERT INTO t_order (order_id, user_id) VALUES (1, 'xxx'), (999, 'yyy')");
+            statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (1, 'xxx'), (999, '%s')", lastUserId));
         }
     }
     
@@ -48,7 +48,9 @@ import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -59,6 +61,8 @@ public final class AbstractImporterTest {
     
     private static final String INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?)";
     
+    private static final String MULTIPLE_ROWS_INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?),(?,?,?)";
+    
     private static final String DELETE_SQL = "DELETE FROM test_table WHERE id = ? and user = ?";
     
     private static final String UPDATE_SQL = "UPDATE test_table SET user = ?,status = ? WHERE id = ? and user = ?";
@@ -113,6 +117,48 @@ public final class AbstractImporterTest {
         verify(preparedStatement).addBatch();
     }
     
+    @Test
+    public void assertWriteMultipleInsertDataRecords() throws SQLException {
+        List<Record> records = new LinkedList<>();
+        records.add(getInsertDataRecord(1));
+        records.add(getInsertDataRecord(2));
+        records.add(new FinishedRecord(new PlaceholderPosition()));
+        when(pipelineSqlBuilder.buildInsertSQL(any(DataRecord.class), eq(2))).thenReturn(MULTIPLE_ROWS_INSERT_SQL);
+        when(connection.prepareStatement(MULTIPLE_ROWS_INSERT_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        jdbcImporter.run();
+        verify(preparedStatement).setObject(eq(6), eq("INSERT"));
+        verify(preparedStatement, times(6)).setObject(anyInt(), any());
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertWriteInsertDataRecordsInParallel() throws SQLException {
+        ImporterConfiguration importerConfig = mockImporterConfiguration();
+        importerConfig.setWriterConcurrency(2);
+        AbstractImporter parallelImporter = new AbstractImporter(importerConfig, dataSourceManager) {
+            
+            @Override
+            protected PipelineSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
+                return pipelineSqlBuilder;
+            }
+        };
+        parallelImporter.setChannel(channel);
+        List<Record> records = new LinkedList<>();
+        for (int i = 0; i < 256; i++) {
+            records.add(getInsertDataRecord(i));
+        }
+        records.add(new FinishedRecord(new PlaceholderPosition()));
+        when(pipelineSqlBuilder.buildInsertSQL(any(DataRecord.class), anyInt())).thenReturn(MULTIPLE_ROWS_INSERT_SQL);
+        when(connection.prepareStatement(MULTIPLE_ROWS_INSERT_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        parallelImporter.run();
+        verify(dataSource, times(2)).getConnection();
+        verify(preparedStatement, times(256 * 3)).setObject(anyInt(), any());
+        verify(preparedStatement, times(2)).executeBatch();
+    }
+    
     @Test
     public void assertDeleteDataRecord() throws SQLException {
         DataRecord deleteRecord = getDataRecord("DELETE");
@@ -188,6 +234,16 @@ public final class AbstractImporterTest {
         return result;
     }
     
+    private DataRecord getInsertDataRecord(final int id) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
+        result.setTableName(TABLE_NAME);
+        result.setType("INSERT");
+        result.addColumn(new Column("id", id, false, true));
+        result.addColumn(new Column("user", 10, true, false));
+        result.addColumn(new Column("status", "INSERT", true, false));
+        return result;
+    }
+    
     private ImporterConfiguration mockImporterConfiguration() {
         ImporterConfiguration result = new ImporterConfiguration();
         result.setDataSourceConfig(dataSourceConfig);
@@ -23,9 +23,13 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class MemoryChannelTest {
     
@@ -45,4 +49,38 @@ public final class MemoryChannelTest {
         memoryChannel.fetchRecords(1, 1);
         memoryChannel.ack();
     }
+    
+    @Test
+    public void assertFetchRecordsWakeUpOnArrival() throws InterruptedException {
+        MemoryChannel memoryChannel = new MemoryChannel(10, 0L, records -> {
+        });
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> {
+                memoryChannel.pushRecord(new DataRecord(new PlaceholderPosition(), 1));
+                return null;
+            }, 100L, TimeUnit.MILLISECONDS);
+            long startMillis = System.currentTimeMillis();
+            List<Record> records = memoryChannel.fetchRecords(10, 10);
+            assertThat(records.size(), is(1));
+            assertTrue(System.currentTimeMillis() - startMillis < 5000L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    public void assertGetQueueDepthAndLagMillis() throws InterruptedException {
+        MemoryChannel memoryChannel = new MemoryChannel(records -> {
+        });
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 1);
+        dataRecord.setCommitTime(System.currentTimeMillis() - 1000L);
+        memoryChannel.pushRecord(dataRecord);
+        assertThat(memoryChannel.getQueueDepth(), is(1));
+        assertThat(memoryChannel.getLagMillis(), is(0L));
+        memoryChannel.fetchRecords(1, 1);
+        memoryChannel.ack();
+        assertThat(memoryChannel.getQueueDepth(), is(0));
+        assertTrue(memoryChannel.getLagMillis() >= 1000L);
+    }
 }
@@ -19,12 +19,12 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.channel.distribution
 
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.BitSet;
-
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 public final class AutoAcknowledgeChannelTest {
     
@@ -37,9 +37,10 @@ public final class AutoAcknowledgeChannelTest {
     
     @Test
     public void assertPushRecord() {
-        channel.pushRecord(new DataRecord(new PlaceholderPosition(), 1), 0);
-        BitSet bitSet = channel.getAckBitSet(0);
-        assertTrue(bitSet.get(0));
+        Record record = new DataRecord(new PlaceholderPosition(), 1);
+        channel.pushRecord(record);
+        assertSame(channel.pollAckRecord(), record);
+        assertNull(channel.pollAckRecord());
     }
     
     @Test(expected = UnsupportedOperationException.class)
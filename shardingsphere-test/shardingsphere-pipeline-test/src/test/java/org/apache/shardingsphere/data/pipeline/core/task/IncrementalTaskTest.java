@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.data.pipeline.core.task;
 
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.Channel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskDelay;
+import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
 import org.apache.shardingsphere.data.pipeline.core.util.ResourceUtil;
 import org.apache.shardingsphere.data.pipeline.core.util.RuleAlteredContextUtil;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
@@ -30,6 +34,8 @@ import org.junit.Test;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class IncrementalTaskTest {
     
@@ -54,6 +60,18 @@ public final class IncrementalTaskTest {
         assertTrue(incrementalTask.getProgress().getPosition() instanceof PlaceholderPosition);
     }
     
+    @Test
+    @SneakyThrows(ReflectiveOperationException.class)
+    public void assertGetProgressWithChannelMetrics() {
+        Channel channel = mock(Channel.class);
+        when(channel.getQueueDepth()).thenReturn(5);
+        when(channel.getLagMillis()).thenReturn(1000L);
+        ReflectionUtil.setFieldValue(incrementalTask, "channel", channel);
+        IncrementalTaskDelay actual = incrementalTask.getProgress().getIncrementalTaskDelay();
+        assertThat(actual.getChannelQueueDepth(), is(5));
+        assertThat(actual.getChannelLagMillis(), is(1000L));
+    }
+    
     @After
     public void tearDown() {
         incrementalTask.stop();
@@ -66,6 +66,17 @@ public final class PipelineSQLBuilderTest {
         assertThat(actual, is("DELETE FROM `t3` WHERE `id` = ? and `sc` = ?"));
     }
     
+    @Test
+    public void assertBuildChunkedQuerySQL() {
+        assertThat(pipelineSQLBuilder.buildChunkedQuerySQL("t_order", "order_id", 0), is("SELECT * FROM `t_order` WHERE `order_id` > ? ORDER BY `order_id` ASC LIMIT ?"));
+    }
+    
+    @Test
+    public void assertBuildChunkedQuerySQLInUniqueKeyRange() {
+        assertThat(pipelineSQLBuilder.buildChunkedQuerySQL("t_order", "order_id", 0, 100),
+                is("SELECT * FROM `t_order` WHERE `order_id` > ? AND `order_id` <= ? ORDER BY `order_id` ASC LIMIT ?"));
+    }
+    
     private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtil.extractConditionColumns(dataRecord, Collections.singleton("sc"));
     }